@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.solr.client.solrj.response.UpdateResponse;
+import org.springframework.data.solr.core.query.FacetQuery;
+import org.springframework.data.solr.core.query.Query;
+import org.springframework.data.solr.core.query.SolrDataQuery;
+import org.springframework.data.solr.core.query.result.FacetPage;
+import org.springframework.data.solr.core.query.result.ScoredPage;
+
+/**
+ * Non blocking variants of commonly used {@link SolrOperations}. Each operation is executed asynchronously and its
+ * result is made available via a {@link CompletableFuture}, allowing to issue multiple requests concurrently. <br />
+ * Futures of operations exceeding the configured {@link #withTimeout(Duration) timeout} complete exceptionally with
+ * {@link org.springframework.dao.QueryTimeoutException}. A timeout does not abort a request already sent to Solr, which
+ * keeps its thread busy until the server responds. Operations that have not been started by then are skipped.
+ *
+ * @since 2.1
+ */
+public interface AsyncSolrOperations {
+
+	/**
+	 * Return a view on this instance applying the given timeout to each operation. The view shares resources with this
+	 * instance and must not be used once this instance has been shut down.
+	 *
+	 * @param timeout must not be {@literal null}.
+	 * @return new instance of {@link AsyncSolrOperations}.
+	 */
+	AsyncSolrOperations withTimeout(Duration timeout);
+
+	/**
+	 * Execute action within callback on a given collection.
+	 *
+	 * @param collection can be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 * @return
+	 */
+	<T> CompletableFuture<T> execute(String collection, CollectionCallback<T> action);
+
+	/**
+	 * Return number of elements found in given collection for given query.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @return
+	 */
+	CompletableFuture<Long> count(String collectionName, SolrDataQuery query);
+
+	/**
+	 * Execute the query against given collection and return result as {@link ScoredPage}.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param clazz must not be {@literal null}.
+	 * @return
+	 */
+	<T> CompletableFuture<ScoredPage<T>> queryForPage(String collectionName, Query query, Class<T> clazz);
+
+	/**
+	 * Execute a facet query against given collection and return result as {@link FacetPage}.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param clazz must not be {@literal null}.
+	 * @return
+	 */
+	<T> CompletableFuture<FacetPage<T>> queryForFacetPage(String collectionName, FacetQuery query, Class<T> clazz);
+
+	/**
+	 * Executes a realtime get using given id.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @param clazz must not be {@literal null}.
+	 * @return
+	 */
+	<T> CompletableFuture<Optional<T>> getById(String collectionName, Serializable id, Class<T> clazz);
+
+	/**
+	 * Executes a realtime get using given ids.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @param clazz must not be {@literal null}.
+	 * @return
+	 */
+	<T> CompletableFuture<Collection<T>> getById(String collectionName, Collection<? extends Serializable> ids,
+			Class<T> clazz);
+
+	/**
+	 * Add a collection of beans to given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param beans must not be {@literal null}.
+	 * @return
+	 */
+	CompletableFuture<UpdateResponse> saveBeans(String collectionName, Collection<?> beans);
+
+	/**
+	 * Find and delete all objects matching the provided Query in given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @return
+	 */
+	CompletableFuture<UpdateResponse> delete(String collectionName, SolrDataQuery query);
+
+}
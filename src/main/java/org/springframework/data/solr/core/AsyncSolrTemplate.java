@@ -0,0 +1,317 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.apache.solr.client.solrj.response.UpdateResponse;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.solr.core.query.FacetQuery;
+import org.springframework.data.solr.core.query.Query;
+import org.springframework.data.solr.core.query.SolrDataQuery;
+import org.springframework.data.solr.core.query.result.FacetPage;
+import org.springframework.data.solr.core.query.result.ScoredPage;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of {@link AsyncSolrOperations} running the operations of a given {@link SolrOperations} on an
+ * {@link Executor}. Query parsing, execution and result conversion are done by the delegate, so results are identical
+ * to those of the blocking API.
+ *
+ * @since 2.1
+ */
+public class AsyncSolrTemplate implements AsyncSolrOperations, DisposableBean {
+
+	private final SolrOperations solrOperations;
+	private final Executor executor;
+	private final ScheduledThreadPoolExecutor timeoutScheduler;
+	private final boolean ownsTimeoutScheduler;
+	private final Duration timeout;
+
+	/**
+	 * Create new {@link AsyncSolrTemplate} without timeout.
+	 *
+	 * @param solrOperations must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 */
+	public AsyncSolrTemplate(SolrOperations solrOperations, Executor executor) {
+		this(solrOperations, executor, createTimeoutScheduler(), true, null);
+	}
+
+	private AsyncSolrTemplate(SolrOperations solrOperations, Executor executor,
+			ScheduledThreadPoolExecutor timeoutScheduler, boolean ownsTimeoutScheduler, Duration timeout) {
+
+		Assert.notNull(solrOperations, "SolrOperations must not be 'null'.");
+		Assert.notNull(executor, "Executor must not be 'null'.");
+
+		this.solrOperations = solrOperations;
+		this.executor = executor;
+		this.timeoutScheduler = timeoutScheduler;
+		this.ownsTimeoutScheduler = ownsTimeoutScheduler;
+		this.timeout = timeout;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.AsyncSolrOperations#withTimeout(java.time.Duration)
+	 */
+	@Override
+	public AsyncSolrOperations withTimeout(Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be 'null'.");
+		Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "Timeout must be greater than zero.");
+
+		return new AsyncSolrTemplate(solrOperations, executor, timeoutScheduler, false, timeout);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.AsyncSolrOperations#execute(java.lang.String, org.springframework.data.solr.core.CollectionCallback)
+	 */
+	@Override
+	public <T> CompletableFuture<T> execute(final String collection, final CollectionCallback<T> action) {
+
+		Assert.notNull(action, "Action must not be 'null'.");
+
+		return submit(new Supplier<T>() {
+
+			@Override
+			public T get() {
+				return solrOperations.execute(collection, action);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.AsyncSolrOperations#count(java.lang.String, org.springframework.data.solr.core.query.SolrDataQuery)
+	 */
+	@Override
+	public CompletableFuture<Long> count(final String collectionName, final SolrDataQuery query) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+
+		return submit(new Supplier<Long>() {
+
+			@Override
+			public Long get() {
+				return solrOperations.count(collectionName, query);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.AsyncSolrOperations#queryForPage(java.lang.String, org.springframework.data.solr.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> CompletableFuture<ScoredPage<T>> queryForPage(final String collectionName, final Query query,
+			final Class<T> clazz) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+		Assert.notNull(clazz, "Target class must not be 'null'.");
+
+		return submit(new Supplier<ScoredPage<T>>() {
+
+			@Override
+			public ScoredPage<T> get() {
+				return solrOperations.queryForPage(collectionName, query, clazz);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.AsyncSolrOperations#queryForFacetPage(java.lang.String, org.springframework.data.solr.core.query.FacetQuery, java.lang.Class)
+	 */
+	@Override
+	public <T> CompletableFuture<FacetPage<T>> queryForFacetPage(final String collectionName, final FacetQuery query,
+			final Class<T> clazz) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+		Assert.notNull(clazz, "Target class must not be 'null'.");
+
+		return submit(new Supplier<FacetPage<T>>() {
+
+			@Override
+			public FacetPage<T> get() {
+				return solrOperations.queryForFacetPage(collectionName, query, clazz);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.AsyncSolrOperations#getById(java.lang.String, java.io.Serializable, java.lang.Class)
+	 */
+	@Override
+	public <T> CompletableFuture<Optional<T>> getById(final String collectionName, final Serializable id,
+			final Class<T> clazz) {
+
+		Assert.notNull(id, "Id must not be 'null'.");
+		Assert.notNull(clazz, "Target class must not be 'null'.");
+
+		return submit(new Supplier<Optional<T>>() {
+
+			@Override
+			public Optional<T> get() {
+				return Optional.ofNullable(solrOperations.getById(collectionName, id, clazz));
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.AsyncSolrOperations#getById(java.lang.String, java.util.Collection, java.lang.Class)
+	 */
+	@Override
+	public <T> CompletableFuture<Collection<T>> getById(final String collectionName,
+			final Collection<? extends Serializable> ids, final Class<T> clazz) {
+
+		Assert.notNull(ids, "Ids must not be 'null'.");
+		Assert.notNull(clazz, "Target class must not be 'null'.");
+
+		return submit(new Supplier<Collection<T>>() {
+
+			@Override
+			public Collection<T> get() {
+				return solrOperations.getById(collectionName, ids, clazz);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.AsyncSolrOperations#saveBeans(java.lang.String, java.util.Collection)
+	 */
+	@Override
+	public CompletableFuture<UpdateResponse> saveBeans(final String collectionName, final Collection<?> beans) {
+
+		Assert.notNull(beans, "Beans must not be 'null'.");
+
+		return submit(new Supplier<UpdateResponse>() {
+
+			@Override
+			public UpdateResponse get() {
+				return solrOperations.saveBeans(collectionName, beans);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.AsyncSolrOperations#delete(java.lang.String, org.springframework.data.solr.core.query.SolrDataQuery)
+	 */
+	@Override
+	public CompletableFuture<UpdateResponse> delete(final String collectionName, final SolrDataQuery query) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+
+		return submit(new Supplier<UpdateResponse>() {
+
+			@Override
+			public UpdateResponse get() {
+				return solrOperations.delete(collectionName, query);
+			}
+		});
+	}
+
+	/**
+	 * @return the timeout applied to each operation. Can be {@literal null}.
+	 */
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Stop the timer used for observing timeouts. Has no effect on instances obtained via {@link #withTimeout(Duration)},
+	 * which share the timer of the instance they have been created from. The {@link Executor} is not touched.
+	 */
+	@Override
+	public void destroy() {
+
+		if (ownsTimeoutScheduler) {
+			timeoutScheduler.shutdownNow();
+		}
+	}
+
+	private <T> CompletableFuture<T> submit(final Supplier<T> operation) {
+
+		final CompletableFuture<T> future = new CompletableFuture<T>();
+		executor.execute(new Runnable() {
+
+			@Override
+			public void run() {
+
+				// timed out or cancelled while waiting for a thread
+				if (future.isDone()) {
+					return;
+				}
+
+				try {
+					future.complete(operation.get());
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				}
+			}
+		});
+
+		if (timeout == null) {
+			return future;
+		}
+
+		final ScheduledFuture<?> timer = timeoutScheduler.schedule(new Runnable() {
+
+			@Override
+			public void run() {
+				future.completeExceptionally(
+						new QueryTimeoutException(String.format("Operation did not complete within %s ms.", timeout.toMillis())));
+			}
+		}, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+		future.whenComplete(new BiConsumer<T, Throwable>() {
+
+			@Override
+			public void accept(T result, Throwable error) {
+				timer.cancel(false);
+			}
+		});
+
+		return future;
+	}
+
+	private static ScheduledThreadPoolExecutor createTimeoutScheduler() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solr-async-timeout-");
+		threadFactory.setDaemon(true);
+
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+		scheduler.setRemoveOnCancelPolicy(true);
+		return scheduler;
+	}
+}
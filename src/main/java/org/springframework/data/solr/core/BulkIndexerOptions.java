@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import org.springframework.data.solr.core.BulkSolrIndexer.BatchFailureHandler;
+import org.springframework.util.Assert;
+
+/**
+ * Configuration options for a {@link BulkSolrIndexer}.
+ *
+ * @since 2.1
+ */
+public class BulkIndexerOptions {
+
+	public static final int DEFAULT_BATCH_SIZE = 500;
+	public static final long DEFAULT_MAX_BATCH_DELAY = 1000;
+	public static final int DEFAULT_SENDERS = 2;
+	public static final int DEFAULT_QUEUE_CAPACITY = 4;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private long maxBatchDelay = DEFAULT_MAX_BATCH_DELAY;
+	private int senders = DEFAULT_SENDERS;
+	private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+	private int commitWithin = -1;
+	private BatchFailureHandler failureHandler;
+
+	/**
+	 * @return new {@link BulkIndexerOptions} using default values.
+	 */
+	public static BulkIndexerOptions defaults() {
+		return new BulkIndexerOptions();
+	}
+
+	/**
+	 * Set the max number of documents per batch.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @return
+	 */
+	public BulkIndexerOptions batchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "BatchSize must be greater than zero.");
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Set the max time in milliseconds documents are kept in a batch before it gets sent regardless of its size.
+	 *
+	 * @param maxBatchDelay must be greater than zero.
+	 * @return
+	 */
+	public BulkIndexerOptions maxBatchDelay(long maxBatchDelay) {
+
+		Assert.isTrue(maxBatchDelay > 0, "MaxBatchDelay must be greater than zero.");
+		this.maxBatchDelay = maxBatchDelay;
+		return this;
+	}
+
+	/**
+	 * Set the number of threads sending batches in parallel.
+	 *
+	 * @param senders must be greater than zero.
+	 * @return
+	 */
+	public BulkIndexerOptions senders(int senders) {
+
+		Assert.isTrue(senders > 0, "Senders must be greater than zero.");
+		this.senders = senders;
+		return this;
+	}
+
+	/**
+	 * Set the max number of batches waiting for a sender. Adding documents blocks once the queue is full.
+	 *
+	 * @param queueCapacity must be greater than zero.
+	 * @return
+	 */
+	public BulkIndexerOptions queueCapacity(int queueCapacity) {
+
+		Assert.isTrue(queueCapacity > 0, "QueueCapacity must be greater than zero.");
+		this.queueCapacity = queueCapacity;
+		return this;
+	}
+
+	/**
+	 * Set the {@literal commitWithin} milliseconds applied to each batch. Use {@literal -1} to not set it at all.
+	 *
+	 * @param commitWithin
+	 * @return
+	 */
+	public BulkIndexerOptions commitWithin(int commitWithin) {
+
+		this.commitWithin = commitWithin;
+		return this;
+	}
+
+	/**
+	 * Set the {@link BatchFailureHandler} notified on batches that could not be sent. Failures are logged when not set.
+	 *
+	 * @param failureHandler can be {@literal null}.
+	 * @return
+	 */
+	public BulkIndexerOptions onFailure(BatchFailureHandler failureHandler) {
+
+		this.failureHandler = failureHandler;
+		return this;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public long getMaxBatchDelay() {
+		return maxBatchDelay;
+	}
+
+	public int getSenders() {
+		return senders;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public int getCommitWithin() {
+		return commitWithin;
+	}
+
+	/**
+	 * @return can be {@literal null}.
+	 */
+	public BatchFailureHandler getFailureHandler() {
+		return failureHandler;
+	}
+}
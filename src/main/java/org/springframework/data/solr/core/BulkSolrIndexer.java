@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.util.List;
+
+import org.apache.solr.common.SolrInputDocument;
+
+/**
+ * Buffering indexer collecting beans into size and time bounded batches per collection. Batches are sent to Solr by a
+ * configurable number of sender threads. Producers are blocked as soon as the number of batches waiting to be sent
+ * exceeds the configured queue capacity. <br />
+ * Instances are obtained via {@link SolrOperations#createBulkIndexer(BulkIndexerOptions)} and have to be
+ * {@link #close() closed} after usage.
+ *
+ * @since 2.1
+ */
+public interface BulkSolrIndexer extends Flushable, Closeable {
+
+	/**
+	 * Add the given bean to the batch of the collection the bean is mapped to.
+	 *
+	 * @param bean must not be {@literal null}.
+	 * @throws IllegalStateException if the indexer has already been closed.
+	 */
+	void add(Object bean);
+
+	/**
+	 * Add the given bean to the batch of the given collection.
+	 *
+	 * @param collection can be {@literal null}.
+	 * @param bean must not be {@literal null}.
+	 * @throws IllegalStateException if the indexer has already been closed.
+	 */
+	void add(String collection, Object bean);
+
+	/**
+	 * Send all currently buffered batches and block until every batch handed over to the senders so far has been
+	 * processed.
+	 */
+	@Override
+	void flush();
+
+	/**
+	 * {@link #flush() Flush} pending batches and release all resources. Subsequent calls to {@link #add(Object)} fail.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Callback invoked for each batch that could not be sent to Solr. Failing batches do not stop processing of
+	 * subsequent ones.
+	 *
+	 * @since 2.1
+	 */
+	interface BatchFailureHandler {
+
+		/**
+		 * @param collection the target collection. Can be {@literal null}.
+		 * @param documents the documents of the failed batch.
+		 * @param cause the error raised while sending the batch.
+		 */
+		void onFailure(String collection, List<SolrInputDocument> documents, Exception cause);
+	}
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Strategy defining how changes written outside of a transaction are made visible. Used by repositories after
+ * {@literal save} and {@literal delete} operations.
+ *
+ * @since 2.1
+ */
+public abstract class CommitStrategy {
+
+	/**
+	 * Send a hard commit after each write operation. This is the default.
+	 *
+	 * @return
+	 */
+	public static CommitStrategy explicit() {
+		return ExplicitCommitStrategy.INSTANCE;
+	}
+
+	/**
+	 * Send a soft commit after each write operation.
+	 *
+	 * @return
+	 */
+	public static CommitStrategy softCommit() {
+		return SoftCommitStrategy.INSTANCE;
+	}
+
+	/**
+	 * Do not send any commit but pass {@literal commitWithin} on the update request and leave it to the server to commit
+	 * within the given time.
+	 *
+	 * @param commitWithinMs must be greater than zero.
+	 * @return
+	 */
+	public static CommitStrategy commitWithin(int commitWithinMs) {
+		return new CommitWithinStrategy(commitWithinMs);
+	}
+
+	/**
+	 * Merge all commit requests for the same collection issued within the given window into a single hard commit sent
+	 * once the window elapsed. Call {@link CoalescingCommitStrategy#destroy()} on shutdown to send outstanding commits.
+	 * A failed commit is rethrown to the next caller requesting a commit for the same collection.
+	 *
+	 * @param windowMs must be greater than zero.
+	 * @return
+	 */
+	public static CoalescingCommitStrategy coalescing(long windowMs) {
+		return new CoalescingCommitStrategy(windowMs);
+	}
+
+	/**
+	 * @return the {@literal commitWithin} value in milliseconds to be set on update requests. {@literal -1} for none.
+	 */
+	public int getCommitWithin() {
+		return -1;
+	}
+
+	/**
+	 * Make changes sent via given {@link SolrOperations} to given collection visible.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param collectionName can be {@literal null}.
+	 */
+	public abstract void commit(SolrOperations operations, String collectionName);
+
+	static class ExplicitCommitStrategy extends CommitStrategy {
+
+		static final ExplicitCommitStrategy INSTANCE = new ExplicitCommitStrategy();
+
+		@Override
+		public void commit(SolrOperations operations, String collectionName) {
+			operations.commit(collectionName);
+		}
+	}
+
+	static class SoftCommitStrategy extends CommitStrategy {
+
+		static final SoftCommitStrategy INSTANCE = new SoftCommitStrategy();
+
+		@Override
+		public void commit(SolrOperations operations, String collectionName) {
+			operations.softCommit(collectionName);
+		}
+	}
+
+	static class CommitWithinStrategy extends CommitStrategy {
+
+		private final int commitWithinMs;
+
+		CommitWithinStrategy(int commitWithinMs) {
+
+			Assert.isTrue(commitWithinMs > 0, "CommitWithin must be greater than zero.");
+			this.commitWithinMs = commitWithinMs;
+		}
+
+		@Override
+		public int getCommitWithin() {
+			return commitWithinMs;
+		}
+
+		@Override
+		public void commit(SolrOperations operations, String collectionName) {
+			// nothing to do - server commits on its own
+		}
+	}
+
+	/**
+	 * {@link CommitStrategy} collecting commit requests per {@link SolrOperations} and collection. The first request
+	 * schedules a hard commit after the configured window, all subsequent ones arriving before that commit is sent are
+	 * merged into it. Since that commit is sent in the background, a failure is handed over to the next caller of
+	 * {@link #commit(SolrOperations, String)} for the same target. Once the scheduler has been shut down commits are sent
+	 * right away.
+	 *
+	 * @since 2.1
+	 */
+	public static class CoalescingCommitStrategy extends CommitStrategy implements DisposableBean {
+
+		private static final Logger LOGGER = LoggerFactory.getLogger(CoalescingCommitStrategy.class);
+
+		private final long windowMs;
+		private final ScheduledExecutorService scheduler;
+		private final Set<CommitTarget> pending = new LinkedHashSet<CommitTarget>();
+		private final ConcurrentMap<CommitTarget, DataAccessException> failures;
+
+		CoalescingCommitStrategy(long windowMs) {
+
+			Assert.isTrue(windowMs > 0, "Window must be greater than zero.");
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solr-commit-");
+			threadFactory.setDaemon(true);
+
+			this.windowMs = windowMs;
+			this.scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+			this.failures = new ConcurrentHashMap<CommitTarget, DataAccessException>();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.solr.core.CommitStrategy#commit(org.springframework.data.solr.core.SolrOperations, java.lang.String)
+		 */
+		@Override
+		public void commit(SolrOperations operations, String collectionName) {
+
+			Assert.notNull(operations, "SolrOperations must not be 'null'.");
+
+			final CommitTarget target = new CommitTarget(operations, collectionName);
+			DataAccessException previousFailure = failures.remove(target);
+
+			boolean added;
+			synchronized (pending) {
+				added = pending.add(target);
+			}
+
+			if (added) {
+				try {
+					scheduler.schedule(new Runnable() {
+
+						@Override
+						public void run() {
+							commitKeepingFailure(target);
+						}
+					}, windowMs, TimeUnit.MILLISECONDS);
+				} catch (RejectedExecutionException e) {
+					commitNow(target);
+				}
+			}
+
+			if (previousFailure != null) {
+				throw previousFailure;
+			}
+		}
+
+		/**
+		 * Immediately send all outstanding commits. Failures are handed over to the next caller of
+		 * {@link #commit(SolrOperations, String)} just like the ones of scheduled commits.
+		 */
+		public void flush() {
+
+			List<CommitTarget> outstanding;
+			synchronized (pending) {
+				outstanding = new ArrayList<CommitTarget>(pending);
+			}
+
+			for (CommitTarget target : outstanding) {
+				commitKeepingFailure(target);
+			}
+		}
+
+		/**
+		 * Send outstanding commits and stop the scheduler.
+		 */
+		@Override
+		public void destroy() {
+
+			scheduler.shutdownNow();
+			flush();
+		}
+
+		/**
+		 * Send the commit for the given target, if still pending, and keep a failure for the next caller.
+		 */
+		private void commitKeepingFailure(CommitTarget target) {
+
+			try {
+				commitNow(target);
+			} catch (DataAccessException e) {
+
+				LOGGER.error(String.format("Failed to commit collection '%s'.", target.collectionName), e);
+				failures.put(target, e);
+			}
+		}
+
+		private void commitNow(CommitTarget target) {
+
+			synchronized (pending) {
+				if (!pending.remove(target)) {
+					return;
+				}
+			}
+
+			target.operations.commit(target.collectionName);
+		}
+
+		/**
+		 * Identifies a collection on a given {@link SolrOperations} instance.
+		 */
+		private static class CommitTarget {
+
+			private final SolrOperations operations;
+			private final String collectionName;
+
+			CommitTarget(SolrOperations operations, String collectionName) {
+
+				this.operations = operations;
+				this.collectionName = collectionName;
+			}
+
+			@Override
+			public boolean equals(Object obj) {
+
+				if (this == obj) {
+					return true;
+				}
+				if (!(obj instanceof CommitTarget)) {
+					return false;
+				}
+
+				CommitTarget that = (CommitTarget) obj;
+				return this.operations == that.operations && ObjectUtils.nullSafeEquals(this.collectionName, that.collectionName);
+			}
+
+			@Override
+			public int hashCode() {
+				return 31 * System.identityHashCode(operations) + ObjectUtils.nullSafeHashCode(collectionName);
+			}
+		}
+	}
+}
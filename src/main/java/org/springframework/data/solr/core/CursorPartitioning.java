@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.common.params.ShardParams;
+import org.springframework.util.Assert;
+
+/**
+ * Strategy splitting a {@link SolrQuery} into disjoint partitions that can be iterated by independent cursors.
+ *
+ * @since 2.1
+ */
+public abstract class CursorPartitioning {
+
+	/**
+	 * Partition by hash range on the unique key using Solr's {@literal hash} query parser, so that each partition
+	 * matches roughly {@literal 1/partitions} of the documents.
+	 *
+	 * @param partitions must be greater than zero.
+	 * @return
+	 */
+	public static CursorPartitioning byHashRange(int partitions) {
+		return new HashRangePartitioning(partitions);
+	}
+
+	/**
+	 * Partition by shard. Each partition is restricted to exactly one of the given shards. Requires a distributed setup,
+	 * typically accessed via {@link org.apache.solr.client.solrj.impl.CloudSolrClient}.
+	 *
+	 * @param shards must not be {@literal null} nor empty.
+	 * @return
+	 */
+	public static CursorPartitioning byShards(String... shards) {
+		return new ShardPartitioning(Arrays.asList(shards));
+	}
+
+	/**
+	 * Create one {@link SolrQuery} per partition. Each returned query is an independent copy of the given one.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param uniqueKeyField the name of the unique key field. Must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public abstract List<SolrQuery> partition(SolrQuery query, String uniqueKeyField);
+
+	static class HashRangePartitioning extends CursorPartitioning {
+
+		static final String PARTITION_KEYS_PARAM = "partitionKeys";
+
+		private final int partitions;
+
+		HashRangePartitioning(int partitions) {
+
+			Assert.isTrue(partitions > 0, "Number of partitions must be greater than zero.");
+			this.partitions = partitions;
+		}
+
+		@Override
+		public List<SolrQuery> partition(SolrQuery query, String uniqueKeyField) {
+
+			Assert.notNull(query, "Query must not be 'null'.");
+			Assert.hasText(uniqueKeyField, "UniqueKeyField must not be empty.");
+
+			List<SolrQuery> result = new ArrayList<SolrQuery>(partitions);
+			for (int worker = 0; worker < partitions; worker++) {
+
+				SolrQuery partition = query.getCopy();
+				if (partitions > 1) {
+					partition.addFilterQuery("{!hash workers=" + partitions + " worker=" + worker + "}");
+					partition.set(PARTITION_KEYS_PARAM, uniqueKeyField);
+				}
+				result.add(partition);
+			}
+			return result;
+		}
+	}
+
+	static class ShardPartitioning extends CursorPartitioning {
+
+		private final List<String> shards;
+
+		ShardPartitioning(List<String> shards) {
+
+			Assert.notEmpty(shards, "Shards must not be empty.");
+			this.shards = shards;
+		}
+
+		@Override
+		public List<SolrQuery> partition(SolrQuery query, String uniqueKeyField) {
+
+			Assert.notNull(query, "Query must not be 'null'.");
+
+			List<SolrQuery> result = new ArrayList<SolrQuery>(shards.size());
+			for (String shard : shards) {
+
+				SolrQuery partition = query.getCopy();
+				partition.set(ShardParams.SHARDS, shard);
+				result.add(partition);
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.solr.common.SolrInputDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link BulkSolrIndexer} converting beans on the calling thread and handing over full (or expired) batches to a fixed
+ * set of sender threads backed by a bounded queue.
+ *
+ * @since 2.1
+ */
+class DefaultBulkSolrIndexer implements BulkSolrIndexer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DefaultBulkSolrIndexer.class);
+
+	private final SolrTemplate template;
+	private final BulkIndexerOptions options;
+	private final ThreadPoolExecutor senders;
+	private final ScheduledExecutorService timer;
+
+	private final Object monitor = new Object();
+	private final Map<String, Batch> batches = new HashMap<String, Batch>();
+	private int pendingBatches;
+	private boolean closed;
+
+	/**
+	 * @param template must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 */
+	DefaultBulkSolrIndexer(SolrTemplate template, BulkIndexerOptions options) {
+
+		Assert.notNull(template, "SolrTemplate must not be 'null'.");
+		Assert.notNull(options, "BulkIndexerOptions must not be 'null'.");
+
+		this.template = template;
+		this.options = options;
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solr-bulk-indexer-");
+		threadFactory.setDaemon(true);
+
+		this.senders = new ThreadPoolExecutor(options.getSenders(), options.getSenders(), 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(options.getQueueCapacity()), threadFactory, new BlockWhenQueueIsFull());
+		this.timer = Executors.newSingleThreadScheduledExecutor(threadFactory);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.BulkSolrIndexer#add(java.lang.Object)
+	 */
+	@Override
+	public void add(Object bean) {
+
+		Assert.notNull(bean, "Bean must not be 'null'.");
+		add(template.getSolrCoreOrBeanCollection(ClassUtils.getUserClass(bean)), bean);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.BulkSolrIndexer#add(java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public void add(String collection, Object bean) {
+
+		Assert.notNull(bean, "Bean must not be 'null'.");
+
+		SolrInputDocument document = template.convertBeanToSolrInputDocument(bean);
+		Batch full = null;
+
+		synchronized (monitor) {
+
+			if (closed) {
+				throw new IllegalStateException("BulkSolrIndexer has already been closed.");
+			}
+
+			Batch batch = batches.get(collection);
+			if (batch == null) {
+				batch = new Batch(collection, options.getBatchSize());
+				batches.put(collection, batch);
+				scheduleExpiry(batch);
+			}
+
+			batch.documents.add(document);
+			if (batch.documents.size() >= options.getBatchSize()) {
+				batches.remove(collection);
+				full = batch;
+			}
+		}
+
+		if (full != null) {
+			dispatch(full);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.BulkSolrIndexer#flush()
+	 */
+	@Override
+	public void flush() {
+
+		List<Batch> toSend;
+		synchronized (monitor) {
+			toSend = new ArrayList<Batch>(batches.values());
+			batches.clear();
+		}
+
+		for (Batch batch : toSend) {
+			dispatch(batch);
+		}
+
+		synchronized (monitor) {
+			while (pendingBatches > 0) {
+				try {
+					monitor.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.BulkSolrIndexer#close()
+	 */
+	@Override
+	public void close() {
+
+		synchronized (monitor) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+		}
+
+		try {
+			flush();
+		} finally {
+			timer.shutdownNow();
+			senders.shutdown();
+		}
+	}
+
+	private void scheduleExpiry(final Batch batch) {
+
+		timer.schedule(new Runnable() {
+
+			@Override
+			public void run() {
+
+				boolean expired = false;
+				synchronized (monitor) {
+					if (batches.get(batch.collection) == batch) {
+						batches.remove(batch.collection);
+						expired = true;
+					}
+				}
+
+				if (expired) {
+					dispatch(batch);
+				}
+			}
+		}, options.getMaxBatchDelay(), TimeUnit.MILLISECONDS);
+	}
+
+	private void dispatch(Batch batch) {
+
+		synchronized (monitor) {
+			pendingBatches++;
+		}
+
+		try {
+			senders.execute(new SendBatch(batch));
+		} catch (RejectedExecutionException e) {
+
+			batchDone();
+			handleFailure(batch, e);
+		}
+	}
+
+	private void batchDone() {
+
+		synchronized (monitor) {
+			pendingBatches--;
+			monitor.notifyAll();
+		}
+	}
+
+	private void handleFailure(Batch batch, Exception cause) {
+
+		BatchFailureHandler failureHandler = options.getFailureHandler();
+		if (failureHandler == null) {
+			LOGGER.error(String.format("Failed to send batch of %s documents to collection '%s'.", batch.documents.size(),
+					batch.collection), cause);
+			return;
+		}
+
+		try {
+			failureHandler.onFailure(batch.collection, batch.documents, cause);
+		} catch (RuntimeException e) {
+			LOGGER.error("BatchFailureHandler raised an error.", e);
+		}
+	}
+
+	private class SendBatch implements Runnable {
+
+		private final Batch batch;
+
+		SendBatch(Batch batch) {
+			this.batch = batch;
+		}
+
+		@Override
+		public void run() {
+
+			try {
+				template.saveDocuments(batch.collection, batch.documents, options.getCommitWithin());
+			} catch (Exception e) {
+				handleFailure(batch, e);
+			} finally {
+				batchDone();
+			}
+		}
+	}
+
+	/**
+	 * Blocks the submitting thread until there's room in the queue instead of rejecting the batch.
+	 */
+	private static class BlockWhenQueueIsFull implements RejectedExecutionHandler {
+
+		@Override
+		public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+
+			if (executor.isShutdown()) {
+				throw new RejectedExecutionException("BulkSolrIndexer has already been closed.");
+			}
+
+			try {
+				executor.getQueue().put(task);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RejectedExecutionException("Interrupted while waiting for a free sender.", e);
+			}
+		}
+	}
+
+	private static class Batch {
+
+		private final String collection;
+		private final List<SolrInputDocument> documents;
+
+		Batch(String collection, int size) {
+
+			this.collection = collection;
+			this.documents = new ArrayList<SolrInputDocument>(size);
+		}
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.solr.core.query.result.SolrResultPage;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Bounded, in memory {@link QueryResultCache} evicting the least recently used entries once either the total number of
+ * entries or the estimated number of bytes held for a single collection exceeds the configured limit. Entries expire
+ * after a fixed time to live, which bounds staleness for changes made visible by server side auto commits the template
+ * is not aware of.
+ *
+ * @since 2.1
+ */
+public class DefaultQueryResultCache implements QueryResultCache {
+
+	private static final int DEFAULT_MAX_ENTRIES = 1000;
+	private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+	private static final long DEFAULT_MAX_BYTES_PER_COLLECTION = 16L * 1024 * 1024;
+
+	private final Clock clock;
+	private final Object monitor = new Object();
+	private final LinkedHashMap<Key, CacheEntry> entries = new LinkedHashMap<Key, CacheEntry>(16, 0.75F, true);
+	private final Map<String, Long> bytesPerCollection = new HashMap<String, Long>();
+
+	private int maxEntries = DEFAULT_MAX_ENTRIES;
+	private long timeToLiveMillis = DEFAULT_TIME_TO_LIVE.toMillis();
+	private long maxBytesPerCollection = DEFAULT_MAX_BYTES_PER_COLLECTION;
+
+	public DefaultQueryResultCache() {
+		this(Clock.systemUTC());
+	}
+
+	DefaultQueryResultCache(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be 'null'.");
+		this.clock = clock;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.QueryResultCache#get(org.springframework.data.solr.core.QueryResultCache.Key)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> SolrResultPage<T> get(Key key) {
+
+		synchronized (monitor) {
+
+			CacheEntry entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+
+			if (entry.isExpired(clock.millis())) {
+
+				remove(key);
+				return null;
+			}
+
+			return (SolrResultPage<T>) entry.page;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.QueryResultCache#put(org.springframework.data.solr.core.QueryResultCache.Key, org.springframework.data.solr.core.query.result.SolrResultPage, long)
+	 */
+	@Override
+	public void put(Key key, SolrResultPage<?> page, long estimatedSize) {
+
+		Assert.notNull(key, "Key must not be 'null'.");
+		Assert.notNull(page, "Page must not be 'null'.");
+
+		long size = estimatedSize + key.getEstimatedSize();
+		if (size > maxBytesPerCollection) {
+			return;
+		}
+
+		synchronized (monitor) {
+
+			remove(key);
+
+			entries.put(key, new CacheEntry(page, size, clock.millis() + timeToLiveMillis));
+			long collectionSize = addBytes(key.getCollection(), size);
+
+			Iterator<Map.Entry<Key, CacheEntry>> it = entries.entrySet().iterator();
+			while (collectionSize > maxBytesPerCollection && it.hasNext()) {
+
+				Map.Entry<Key, CacheEntry> eldest = it.next();
+				if (ObjectUtils.nullSafeEquals(key.getCollection(), eldest.getKey().getCollection())) {
+
+					it.remove();
+					collectionSize = addBytes(eldest.getKey().getCollection(), -eldest.getValue().size);
+				}
+			}
+
+			it = entries.entrySet().iterator();
+			while (entries.size() > maxEntries && it.hasNext()) {
+
+				Map.Entry<Key, CacheEntry> eldest = it.next();
+				it.remove();
+				addBytes(eldest.getKey().getCollection(), -eldest.getValue().size);
+			}
+		}
+	}
+
+	/**
+	 * Remove all entries for given collection. Entries stored for the {@literal null} collection, targeting the default
+	 * collection of the {@link org.apache.solr.client.solrj.SolrClient}, are removed as well since they might refer to
+	 * the same one.
+	 *
+	 * @param collection can be {@literal null} to remove all entries.
+	 */
+	@Override
+	public void evict(String collection) {
+
+		if (collection == null) {
+
+			clear();
+			return;
+		}
+
+		synchronized (monitor) {
+
+			Iterator<Key> it = entries.keySet().iterator();
+			while (it.hasNext()) {
+
+				String entryCollection = it.next().getCollection();
+				if (entryCollection == null || collection.equals(entryCollection)) {
+					it.remove();
+				}
+			}
+
+			bytesPerCollection.remove(collection);
+			bytesPerCollection.remove(null);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.QueryResultCache#clear()
+	 */
+	@Override
+	public void clear() {
+
+		synchronized (monitor) {
+
+			entries.clear();
+			bytesPerCollection.clear();
+		}
+	}
+
+	/**
+	 * @return the current number of entries.
+	 */
+	public int size() {
+
+		synchronized (monitor) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Set the maximum number of entries held. Defaults to {@value #DEFAULT_MAX_ENTRIES}.
+	 *
+	 * @param maxEntries must be greater than zero.
+	 */
+	public void setMaxEntries(int maxEntries) {
+
+		Assert.isTrue(maxEntries > 0, "MaxEntries must be greater than zero.");
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Set the time entries are considered valid after being stored. Defaults to 5 minutes.
+	 *
+	 * @param timeToLive must not be {@literal null} and positive.
+	 */
+	public void setTimeToLive(Duration timeToLive) {
+
+		Assert.notNull(timeToLive, "TimeToLive must not be 'null'.");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "TimeToLive must be positive.");
+		this.timeToLiveMillis = timeToLive.toMillis();
+	}
+
+	/**
+	 * Set the maximum number of bytes held for a single collection. Defaults to 16MB.
+	 *
+	 * @param maxBytesPerCollection must be greater than zero.
+	 */
+	public void setMaxBytesPerCollection(long maxBytesPerCollection) {
+
+		Assert.isTrue(maxBytesPerCollection > 0, "MaxBytesPerCollection must be greater than zero.");
+		this.maxBytesPerCollection = maxBytesPerCollection;
+	}
+
+	private void remove(Key key) {
+
+		CacheEntry removed = entries.remove(key);
+		if (removed != null) {
+			addBytes(key.getCollection(), -removed.size);
+		}
+	}
+
+	private long addBytes(String collection, long delta) {
+
+		Long current = bytesPerCollection.get(collection);
+		long updated = (current != null ? current.longValue() : 0L) + delta;
+
+		if (updated <= 0) {
+			bytesPerCollection.remove(collection);
+		} else {
+			bytesPerCollection.put(collection, updated);
+		}
+		return updated;
+	}
+
+	private static class CacheEntry {
+
+		private final SolrResultPage<?> page;
+		private final long size;
+		private final long expiresAt;
+
+		CacheEntry(SolrResultPage<?> page, long size, long expiresAt) {
+
+			this.page = page;
+			this.size = size;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+}
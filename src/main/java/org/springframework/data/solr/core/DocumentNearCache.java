@@ -0,0 +1,439 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.ModifiableSolrParams;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Near cache holding converted objects of a single type loaded via realtime get along with their {@literal _version_}.
+ * Entries are served locally until the revalidation interval elapsed or they have been marked stale. Stale entries of a
+ * collection are revalidated together using one realtime get request only fetching unique key and version. Entries
+ * whose version changed or whose document is gone are dropped and reloaded on next access.
+ * <p>
+ * Cached objects are shared between callers and must be treated as read only. Modifying a returned object changes
+ * what every later caller gets until the entry is evicted or reloaded.
+ * <p>
+ * Each key with a load in flight carries a generation that is incremented whenever the key is evicted. A load only
+ * stores its result if the generation did not change while fetching, so that a write happening in between cannot be
+ * overwritten by the version read before it.
+ *
+ * @since 2.1
+ */
+class DocumentNearCache {
+
+	static final String VERSION_FIELD = "_version_";
+
+	private final SolrTemplate solrTemplate;
+	private final Class<?> type;
+	private final String uniqueKeyField;
+	private final long revalidationIntervalMillis;
+	private final Clock clock;
+
+	private final Object monitor = new Object();
+	private final LinkedHashMap<EntryKey, CachedDocument> entries;
+	private final Map<EntryKey, LoadGeneration> loading = new HashMap<EntryKey, LoadGeneration>();
+
+	/**
+	 * @param solrTemplate must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param uniqueKeyField must not be {@literal null}.
+	 * @param revalidationInterval must not be {@literal null} and positive.
+	 * @param maxEntries must be greater than zero.
+	 * @param clock must not be {@literal null}.
+	 */
+	DocumentNearCache(SolrTemplate solrTemplate, Class<?> type, String uniqueKeyField, Duration revalidationInterval,
+			final int maxEntries, Clock clock) {
+
+		Assert.notNull(solrTemplate, "SolrTemplate must not be 'null'.");
+		Assert.notNull(type, "Type must not be 'null'.");
+		Assert.hasText(uniqueKeyField, "UniqueKeyField must not be 'null' or empty.");
+		Assert.notNull(revalidationInterval, "RevalidationInterval must not be 'null'.");
+		Assert.isTrue(!revalidationInterval.isNegative() && !revalidationInterval.isZero(),
+				"RevalidationInterval must be positive.");
+		Assert.isTrue(maxEntries > 0, "MaxEntries must be greater than zero.");
+		Assert.notNull(clock, "Clock must not be 'null'.");
+
+		this.solrTemplate = solrTemplate;
+		this.type = type;
+		this.uniqueKeyField = uniqueKeyField;
+		this.revalidationIntervalMillis = revalidationInterval.toMillis();
+		this.clock = clock;
+		this.entries = new LinkedHashMap<EntryKey, CachedDocument>(16, 0.75F, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<EntryKey, CachedDocument> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Get the object with given id, either from the cache or by loading it via realtime get.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return {@literal null} if not found.
+	 */
+	Object getById(String collectionName, Serializable id) {
+
+		EntryKey key = new EntryKey(collectionName, id.toString());
+
+		CachedDocument cached = get(key);
+		if (cached != null) {
+
+			if (!cached.isStale(clock.millis(), revalidationIntervalMillis)) {
+				return cached.value;
+			}
+
+			revalidate(collectionName);
+
+			cached = get(key);
+			if (cached != null) {
+				return cached.value;
+			}
+		}
+
+		return load(key);
+	}
+
+	/**
+	 * Remove the entry for given id.
+	 *
+	 * @param collectionName can be {@literal null} to remove the id from all collections.
+	 * @param id must not be {@literal null}.
+	 */
+	void evict(String collectionName, String id) {
+
+		synchronized (monitor) {
+
+			for (Map.Entry<EntryKey, LoadGeneration> entry : loading.entrySet()) {
+				if (entry.getKey().matches(collectionName, id)) {
+					entry.getValue().generation++;
+				}
+			}
+
+			if (collectionName != null) {
+
+				entries.remove(new EntryKey(collectionName, id));
+				entries.remove(new EntryKey(null, id));
+				return;
+			}
+
+			Iterator<EntryKey> it = entries.keySet().iterator();
+			while (it.hasNext()) {
+				if (id.equals(it.next().id)) {
+					it.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove the entry for the unique key value of given document, if any.
+	 *
+	 * @param collectionName can be {@literal null} to remove the id from all collections.
+	 * @param document must not be {@literal null}.
+	 */
+	void evict(String collectionName, SolrInputDocument document) {
+
+		Object id = document.getFieldValue(uniqueKeyField);
+		if (id != null) {
+			evict(collectionName, id.toString());
+		}
+	}
+
+	/**
+	 * Mark all entries of given collection for revalidation on next access.
+	 *
+	 * @param collectionName can be {@literal null} to mark all entries.
+	 */
+	void markStale(String collectionName) {
+
+		synchronized (monitor) {
+			for (Map.Entry<EntryKey, CachedDocument> entry : entries.entrySet()) {
+				if (collectionName == null || entry.getKey().collectionName == null
+						|| collectionName.equals(entry.getKey().collectionName)) {
+					entry.getValue().validatedAt = Long.MIN_VALUE;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the current number of entries.
+	 */
+	int size() {
+
+		synchronized (monitor) {
+			return entries.size();
+		}
+	}
+
+	private CachedDocument get(EntryKey key) {
+
+		synchronized (monitor) {
+			return entries.get(key);
+		}
+	}
+
+	private Object load(final EntryKey key) {
+
+		LoadGeneration generation;
+		long startGeneration;
+		synchronized (monitor) {
+
+			generation = loading.get(key);
+			if (generation == null) {
+
+				generation = new LoadGeneration();
+				loading.put(key, generation);
+			}
+			generation.pending++;
+			startGeneration = generation.generation;
+		}
+
+		SolrDocument document = null;
+		Object value = null;
+		try {
+
+			document = solrTemplate.execute(key.collectionName, new CollectionCallback<SolrDocument>() {
+
+				@Override
+				public SolrDocument doInSolr(SolrClient solrClient, String collection)
+						throws SolrServerException, IOException {
+					return solrClient.getById(collection, key.id);
+				}
+			});
+
+			if (document != null) {
+				value = solrTemplate.convertSolrDocumentToBean(document, type);
+			}
+		} finally {
+
+			synchronized (monitor) {
+
+				Object version = document != null ? document.getFieldValue(VERSION_FIELD) : null;
+				if (value != null && version != null && generation.generation == startGeneration) {
+					entries.put(key, new CachedDocument(value, version, clock.millis()));
+				}
+
+				if (--generation.pending == 0) {
+					loading.remove(key);
+				}
+			}
+		}
+		return value;
+	}
+
+	private void revalidate(String collectionName) {
+
+		long now = clock.millis();
+
+		final List<String> ids = new ArrayList<String>();
+		synchronized (monitor) {
+			for (Map.Entry<EntryKey, CachedDocument> entry : entries.entrySet()) {
+				if (ObjectUtils.nullSafeEquals(collectionName, entry.getKey().collectionName)
+						&& entry.getValue().isStale(now, revalidationIntervalMillis)) {
+					ids.add(entry.getKey().id);
+				}
+			}
+		}
+
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		final ModifiableSolrParams params = new ModifiableSolrParams();
+		params.set(CommonParams.FL, uniqueKeyField + "," + VERSION_FIELD);
+
+		SolrDocumentList documents = solrTemplate.execute(collectionName, new CollectionCallback<SolrDocumentList>() {
+
+			@Override
+			public SolrDocumentList doInSolr(SolrClient solrClient, String collection)
+					throws SolrServerException, IOException {
+				return solrClient.getById(collection, ids, params);
+			}
+		});
+
+		Map<String, Object> versions = new HashMap<String, Object>();
+		if (documents != null) {
+			for (SolrDocument document : documents) {
+				versions.put(String.valueOf(document.getFieldValue(uniqueKeyField)), document.getFieldValue(VERSION_FIELD));
+			}
+		}
+
+		synchronized (monitor) {
+			for (String id : ids) {
+
+				EntryKey key = new EntryKey(collectionName, id);
+				CachedDocument cached = entries.get(key);
+				if (cached == null) {
+					continue;
+				}
+
+				if (cached.hasVersion(versions.get(id))) {
+					cached.validatedAt = now;
+				} else {
+					entries.remove(key);
+				}
+			}
+		}
+	}
+
+	private static class CachedDocument {
+
+		private final Object value;
+		private final Object version;
+		private volatile long validatedAt;
+
+		CachedDocument(Object value, Object version, long validatedAt) {
+
+			this.value = value;
+			this.version = version;
+			this.validatedAt = validatedAt;
+		}
+
+		boolean isStale(long now, long revalidationIntervalMillis) {
+			return validatedAt == Long.MIN_VALUE || now - validatedAt >= revalidationIntervalMillis;
+		}
+
+		boolean hasVersion(Object otherVersion) {
+			return otherVersion != null && version.toString().equals(otherVersion.toString());
+		}
+	}
+
+	/**
+	 * Eviction counter of a key with at least one load in flight.
+	 */
+	private static class LoadGeneration {
+
+		private int pending;
+		private long generation;
+	}
+
+	private static class EntryKey {
+
+		private final String collectionName;
+		private final String id;
+
+		EntryKey(String collectionName, String id) {
+
+			this.collectionName = collectionName;
+			this.id = id;
+		}
+
+		/**
+		 * @param collectionName can be {@literal null} to match the id in all collections.
+		 * @param id must not be {@literal null}.
+		 * @return {@literal true} if an eviction of given id in given collection affects this key.
+		 */
+		boolean matches(String collectionName, String id) {
+			return this.id.equals(id)
+					&& (collectionName == null || this.collectionName == null || collectionName.equals(this.collectionName));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof EntryKey)) {
+				return false;
+			}
+
+			EntryKey that = (EntryKey) obj;
+			return ObjectUtils.nullSafeEquals(this.collectionName, that.collectionName) && this.id.equals(that.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * ObjectUtils.nullSafeHashCode(collectionName) + id.hashCode();
+		}
+	}
+
+	/**
+	 * Collection of {@link DocumentNearCache near caches} for different types.
+	 */
+	static class NearCaches {
+
+		private final Map<Class<?>, DocumentNearCache> caches = new ConcurrentHashMap<Class<?>, DocumentNearCache>();
+
+		boolean isEmpty() {
+			return caches.isEmpty();
+		}
+
+		DocumentNearCache get(Class<?> type) {
+			return caches.get(type);
+		}
+
+		void put(Class<?> type, DocumentNearCache cache) {
+			caches.put(type, cache);
+		}
+
+		void remove(Class<?> type) {
+			caches.remove(type);
+		}
+
+		void evictIds(String collectionName, Collection<String> ids) {
+
+			for (DocumentNearCache cache : caches.values()) {
+				for (String id : ids) {
+					cache.evict(collectionName, id);
+				}
+			}
+		}
+
+		void evictDocuments(String collectionName, Collection<SolrInputDocument> documents) {
+
+			for (DocumentNearCache cache : caches.values()) {
+				for (SolrInputDocument document : documents) {
+					cache.evict(collectionName, document);
+				}
+			}
+		}
+
+		void markStale(String collectionName) {
+
+			for (DocumentNearCache cache : caches.values()) {
+				cache.markStale(collectionName);
+			}
+		}
+	}
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.solr.UncategorizedSolrException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Collects single id lookups arriving within a short window and loads them using one realtime get request per
+ * collection and target type. A batch is sent once the window elapsed or the maximum number of distinct ids has been
+ * reached, whatever happens first. Callers block until the batch containing their id has been loaded, but no longer
+ * than the window plus {@link #AWAIT_TIMEOUT}. Batches that cannot be handed to the scheduler or task executor, e.g.
+ * after {@link #destroy()}, are sent by the calling thread instead.
+ *
+ * @since 2.1
+ */
+class GetByIdBatcher {
+
+	static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(60);
+
+	private final SolrTemplate solrTemplate;
+	private final long windowNanos;
+	private final int maxBatchSize;
+	private final ScheduledExecutorService scheduler;
+	private final Map<BatchKey, Batch> pending = new HashMap<BatchKey, Batch>();
+
+	/**
+	 * @param solrTemplate must not be {@literal null}.
+	 * @param window must not be {@literal null} and positive.
+	 * @param maxBatchSize must be greater than zero.
+	 */
+	GetByIdBatcher(SolrTemplate solrTemplate, Duration window, int maxBatchSize) {
+
+		Assert.notNull(solrTemplate, "SolrTemplate must not be 'null'.");
+		Assert.notNull(window, "Window must not be 'null'.");
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "Window must be positive.");
+		Assert.isTrue(maxBatchSize > 0, "MaxBatchSize must be greater than zero.");
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solr-get-by-id-");
+		threadFactory.setDaemon(true);
+
+		this.solrTemplate = solrTemplate;
+		this.windowNanos = window.toNanos();
+		this.maxBatchSize = maxBatchSize;
+		this.scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+	}
+
+	/**
+	 * Load the object with given id as part of the next batch for collection and type.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @param clazz must not be {@literal null}.
+	 * @param uniqueKeyField must not be {@literal null}.
+	 * @return {@literal null} if not found.
+	 */
+	<T> T getById(String collectionName, Serializable id, Class<T> clazz, String uniqueKeyField) {
+
+		final BatchKey key = new BatchKey(collectionName, clazz, uniqueKeyField);
+
+		CompletableFuture<Object> result;
+		Batch full = null;
+
+		synchronized (pending) {
+
+			Batch batch = pending.get(key);
+			if (batch == null) {
+
+				batch = new Batch(key);
+				pending.put(key, batch);
+
+				try {
+					scheduleDispatch(batch);
+				} catch (RejectedExecutionException e) {
+
+					pending.remove(key);
+					full = batch;
+				}
+			}
+
+			result = batch.add(id.toString());
+			if (full == null && batch.size() >= maxBatchSize) {
+
+				pending.remove(key);
+				full = batch;
+			}
+		}
+
+		if (full != null) {
+			full.dispatch(solrTemplate);
+		}
+
+		return clazz.cast(await(result, windowNanos + AWAIT_TIMEOUT.toNanos()));
+	}
+
+	/**
+	 * Stop the scheduler. Outstanding batches are sent immediately.
+	 */
+	void destroy() {
+
+		scheduler.shutdownNow();
+
+		List<Batch> outstanding;
+		synchronized (pending) {
+
+			outstanding = new ArrayList<Batch>(pending.values());
+			pending.clear();
+		}
+
+		for (Batch batch : outstanding) {
+			batch.dispatch(solrTemplate);
+		}
+	}
+
+	private void scheduleDispatch(final Batch batch) {
+
+		scheduler.schedule(new Runnable() {
+
+			@Override
+			public void run() {
+
+				synchronized (pending) {
+					if (pending.get(batch.key) != batch) {
+						return;
+					}
+					pending.remove(batch.key);
+				}
+
+				dispatchAsync(batch);
+			}
+		}, windowNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private void dispatchAsync(final Batch batch) {
+
+		Executor executor = solrTemplate.getTaskExecutor();
+		try {
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					batch.dispatch(solrTemplate);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			batch.dispatch(solrTemplate);
+		}
+	}
+
+	private static Object await(CompletableFuture<Object> result, long timeoutNanos) {
+
+		try {
+			return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+
+			long timeoutMillis = TimeUnit.NANOSECONDS.toMillis(timeoutNanos);
+			throw new QueryTimeoutException(
+					String.format("Batched realtime get did not complete within %s ms.", timeoutMillis), e);
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new UncategorizedSolrException("Interrupted while waiting for batched realtime get.", e);
+		} catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new UncategorizedSolrException(e.getCause().getMessage(), e.getCause());
+		}
+	}
+
+	/**
+	 * Ids requested for one collection and target type. Multiple requests for the same id share the result.
+	 */
+	private static class Batch {
+
+		private final BatchKey key;
+		private final Map<String, CompletableFuture<Object>> results = new LinkedHashMap<String, CompletableFuture<Object>>();
+
+		Batch(BatchKey key) {
+			this.key = key;
+		}
+
+		CompletableFuture<Object> add(String id) {
+
+			CompletableFuture<Object> result = results.get(id);
+			if (result == null) {
+
+				result = new CompletableFuture<Object>();
+				results.put(id, result);
+			}
+			return result;
+		}
+
+		int size() {
+			return results.size();
+		}
+
+		void dispatch(final SolrTemplate solrTemplate) {
+
+			final List<String> ids = new ArrayList<String>(results.keySet());
+
+			try {
+
+				SolrDocumentList documents = solrTemplate.execute(key.collectionName,
+						new CollectionCallback<SolrDocumentList>() {
+
+							@Override
+							public SolrDocumentList doInSolr(SolrClient solrClient, String collection)
+									throws SolrServerException, IOException {
+								return solrClient.getById(collection, ids);
+							}
+						});
+
+				if (documents != null) {
+					for (SolrDocument document : documents) {
+
+						CompletableFuture<Object> result = results
+								.get(String.valueOf(document.getFieldValue(key.uniqueKeyField)));
+						if (result != null) {
+							result.complete(solrTemplate.convertSolrDocumentToBean(document, key.type));
+						}
+					}
+				}
+
+				for (CompletableFuture<Object> result : results.values()) {
+					result.complete(null);
+				}
+			} catch (Throwable e) {
+
+				for (CompletableFuture<Object> result : results.values()) {
+					result.completeExceptionally(e);
+				}
+			}
+		}
+	}
+
+	private static class BatchKey {
+
+		private final String collectionName;
+		private final Class<?> type;
+		private final String uniqueKeyField;
+
+		BatchKey(String collectionName, Class<?> type, String uniqueKeyField) {
+
+			this.collectionName = collectionName;
+			this.type = type;
+			this.uniqueKeyField = uniqueKeyField;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof BatchKey)) {
+				return false;
+			}
+
+			BatchKey that = (BatchKey) obj;
+			return ObjectUtils.nullSafeEquals(this.collectionName, that.collectionName) && this.type == that.type;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * ObjectUtils.nullSafeHashCode(collectionName) + type.hashCode();
+		}
+	}
+}
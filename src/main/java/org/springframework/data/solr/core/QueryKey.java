@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.solr.client.solrj.SolrRequest;
+import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.SolrParams;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Canonical, immutable representation of a query request. Two keys are equal if they target the same collection using
+ * the same request method with the same parameters regardless of the order parameters have been added in. Values of
+ * {@link CommonParams#FQ filter queries} are compared regardless of their order as well.
+ *
+ * @since 2.1
+ */
+final class QueryKey {
+
+	private final String collection;
+	private final SolrRequest.METHOD method;
+	private final Map<String, List<String>> params;
+	private final int hashCode;
+
+	private QueryKey(String collection, SolrRequest.METHOD method, Map<String, List<String>> params) {
+
+		this.collection = collection;
+		this.method = method;
+		this.params = params;
+		this.hashCode = computeHashCode();
+	}
+
+	/**
+	 * Create a {@link QueryKey} from the current state of the given parameters. Later modifications of the parameters
+	 * are not reflected.
+	 *
+	 * @param collection can be {@literal null}.
+	 * @param params must not be {@literal null}.
+	 * @param method can be {@literal null}.
+	 * @return
+	 */
+	static QueryKey of(String collection, SolrParams params, SolrRequest.METHOD method) {
+
+		Map<String, List<String>> canonical = new TreeMap<String, List<String>>();
+
+		Iterator<String> names = params.getParameterNamesIterator();
+		while (names.hasNext()) {
+
+			String name = names.next();
+			String[] values = params.getParams(name);
+			if (values == null) {
+				continue;
+			}
+
+			List<String> valueList = new ArrayList<String>(Arrays.asList(values));
+			if (CommonParams.FQ.equals(name)) {
+				Collections.sort(valueList);
+			}
+			canonical.put(name, Collections.unmodifiableList(valueList));
+		}
+
+		return new QueryKey(collection, method, Collections.unmodifiableMap(canonical));
+	}
+
+	/**
+	 * @return the target collection. Can be {@literal null}.
+	 */
+	String getCollection() {
+		return collection;
+	}
+
+	/**
+	 * @return rough estimation of the number of characters required to represent the key.
+	 */
+	int getEstimatedSize() {
+
+		int size = collection != null ? collection.length() : 0;
+		for (Map.Entry<String, List<String>> entry : params.entrySet()) {
+
+			size += entry.getKey().length();
+			for (String value : entry.getValue()) {
+				size += value.length();
+			}
+		}
+		return size;
+	}
+
+	private int computeHashCode() {
+
+		int result = ObjectUtils.nullSafeHashCode(collection);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(method);
+		result = 31 * result + params.hashCode();
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof QueryKey)) {
+			return false;
+		}
+
+		QueryKey that = (QueryKey) obj;
+		return this.hashCode == that.hashCode && ObjectUtils.nullSafeEquals(this.collection, that.collection)
+				&& this.method == that.method && this.params.equals(that.params);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "QueryKey [collection=" + collection + ", method=" + method + ", params=" + params + "]";
+	}
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.solr.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -57,6 +58,7 @@ import org.springframework.data.solr.core.query.SolrDataQuery;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Base Implementation of {@link QueryParser} providing common functions for creating
@@ -74,9 +76,29 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 	protected static final String NOT = "-";
 	protected static final String BOOST = "^";
 
+	private static final ThreadLocal<QueryStringBuffer> QUERY_STRING_BUFFER = new ThreadLocal<QueryStringBuffer>() {
+
+		@Override
+		protected QueryStringBuffer initialValue() {
+			return new QueryStringBuffer();
+		}
+	};
+
+	/**
+	 * Drop the {@link StringBuilder} the current thread keeps for creating query strings. A new one is created on next
+	 * use. Each thread retains at most one buffer of up to 16k characters.
+	 *
+	 * @since 2.1
+	 */
+	public static void releaseQueryStringBuffer() {
+		QUERY_STRING_BUFFER.remove();
+	}
+
 	protected final GenericConversionService conversionService = new GenericConversionService();
 	private final List<PredicateProcessor> critieraEntryProcessors = new ArrayList<PredicateProcessor>();
 	private final PredicateProcessor defaultProcessor = new DefaultProcessor();
+	private final boolean customNodeQueryString = isOverridden("createQueryStringFromNode", Node.class, int.class);
+	private final boolean customCriteriaFragment = isOverridden("createQueryFragmentForCriteria", Criteria.class);
 
 	{
 		if (!conversionService.canConvert(java.util.Date.class, String.class)) {
@@ -140,14 +162,35 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 
 	public String createQueryStringFromNode(Node node, int position) {
 
-		StringBuilder query = new StringBuilder();
+		QueryStringBuffer buffer = QUERY_STRING_BUFFER.get();
+		StringBuilder query = buffer.acquire();
+		try {
+
+			appendQueryStringFromNode(query, node, position);
+			return query.toString();
+		} finally {
+			buffer.release(query);
+		}
+	}
+
+	/**
+	 * Write the query string representation of the given {@link Node} and all its nested nodes to the given buffer.
+	 * Nested nodes and criteria are written to the very same buffer unless the corresponding {@code create...} methods
+	 * have been overridden.
+	 *
+	 * @param query
+	 * @param node
+	 * @param position
+	 */
+	private void appendQueryStringFromNode(StringBuilder query, Node node, int position) {
+
 		if (position > 0) {
 			query.append(node.isOr() ? " OR " : " AND ");
 		}
 
 		if (node.hasSiblings()) {
 			if (node.isNegating()) {
-				query.append("-");
+				query.append(NOT);
 			}
 			if (!node.isRoot() || (node.isRoot() && node.isNegating())) {
 				query.append('(');
@@ -155,16 +198,21 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 
 			int i = 0;
 			for (Node nested : node.getSiblings()) {
-				query.append(createQueryStringFromNode(nested, i++));
+				if (customNodeQueryString) {
+					query.append(createQueryStringFromNode(nested, i++));
+				} else {
+					appendQueryStringFromNode(query, nested, i++);
+				}
 			}
 
 			if (!node.isRoot() || (node.isRoot() && node.isNegating())) {
 				query.append(')');
 			}
-		} else {
+		} else if (customCriteriaFragment) {
 			query.append(createQueryFragmentForCriteria((Criteria) node));
+		} else {
+			appendQueryFragmentForCriteria(query, (Criteria) node);
 		}
-		return query.toString();
 	}
 
 	/**
@@ -185,18 +233,32 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 	 * @return
 	 */
 	protected String createQueryFragmentForCriteria(Criteria part) {
-		Criteria criteria = part;
+
+		if (part instanceof QueryStringHolder) {
+			return ((QueryStringHolder) part).getQueryString();
+		}
+
 		StringBuilder queryFragment = new StringBuilder();
-		boolean singeEntryCriteria = (criteria.getPredicates().size() == 1);
+		appendQueryFragmentForCriteria(queryFragment, part);
+		return queryFragment.toString();
+	}
+
+	private void appendQueryFragmentForCriteria(StringBuilder queryFragment, Criteria criteria) {
+
 		if (criteria instanceof QueryStringHolder) {
-			return ((QueryStringHolder) criteria).getQueryString();
+			queryFragment.append(((QueryStringHolder) criteria).getQueryString());
+			return;
 		}
 
+		boolean singeEntryCriteria = (criteria.getPredicates().size() == 1);
+
 		String fieldName = getNullsafeFieldName(criteria.getField());
-		if (criteria.isNegating()) {
-			fieldName = NOT + fieldName;
-		}
-		if (!StringUtils.isEmpty(fieldName) && !containsFunctionCriteria(criteria.getPredicates())) {
+		if ((criteria.isNegating() || !StringUtils.isEmpty(fieldName))
+				&& !containsFunctionCriteria(criteria.getPredicates())) {
+
+			if (criteria.isNegating()) {
+				queryFragment.append(NOT);
+			}
 			queryFragment.append(fieldName);
 			queryFragment.append(DELIMINATOR);
 		}
@@ -204,7 +266,7 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 		// no criteria given is defaulted to not null
 		if (criteria.getPredicates().isEmpty()) {
 			queryFragment.append("[* TO *]");
-			return queryFragment.toString();
+			return;
 		}
 
 		if (!singeEntryCriteria) {
@@ -223,10 +285,13 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 			queryFragment.append(")");
 		}
 		if (!Float.isNaN(criteria.getBoost())) {
-			queryFragment.append(BOOST + criteria.getBoost());
+			queryFragment.append(BOOST).append(criteria.getBoost());
 		}
+	}
 
-		return queryFragment.toString();
+	private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+		return ReflectionUtils.findMethod(getClass(), methodName, parameterTypes)
+				.getDeclaringClass() != QueryParserBase.class;
 	}
 
 	private String getNullsafeFieldName(Field field) {
@@ -500,6 +565,8 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 		protected String[] RESERVED_CHARS_REPLACEMENT = { "\\" + DOUBLEQUOTE, "\\+", "\\-", "\\&\\&", "\\|\\|", "\\!",
 				"\\(", "\\)", "\\{", "\\}", "\\[", "\\]", "\\^", "\\~", "\\*", "\\?", "\\:", "\\\\" };
 
+		private volatile ReservedChars reservedChars;
+
 		@Override
 		public Object process(Predicate predicate, Field field) {
 			if (predicate == null || predicate.getValue() == null) {
@@ -515,19 +582,26 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 				}
 				return criteriaValue;
 			}
-			String value = escapeCriteriaValue((String) criteriaValue);
-			return processWhiteSpaces(value);
+			return escapeCriteriaValue((String) criteriaValue);
 		}
 
+		/**
+		 * Replaces all {@link #RESERVED_CHARS} with their {@link #RESERVED_CHARS_REPLACEMENT} and quotes values containing
+		 * whitespaces in a single scan of the given value. The value is only copied if it actually requires escaping or
+		 * quoting.
+		 *
+		 * @param criteriaValue
+		 * @return
+		 */
 		private String escapeCriteriaValue(String criteriaValue) {
-			return StringUtils.replaceEach(criteriaValue, RESERVED_CHARS, RESERVED_CHARS_REPLACEMENT);
-		}
 
-		private String processWhiteSpaces(String criteriaValue) {
-			if (StringUtils.contains(criteriaValue, CRITERIA_VALUE_SEPERATOR)) {
-				return DOUBLEQUOTE + criteriaValue + DOUBLEQUOTE;
+			ReservedChars reservedChars = this.reservedChars;
+			if (reservedChars == null || !reservedChars.isCompiledFrom(RESERVED_CHARS, RESERVED_CHARS_REPLACEMENT)) {
+
+				reservedChars = new ReservedChars(RESERVED_CHARS, RESERVED_CHARS_REPLACEMENT);
+				this.reservedChars = reservedChars;
 			}
-			return criteriaValue;
+			return reservedChars.escape(criteriaValue);
 		}
 
 		protected abstract Object doProcess(Predicate predicate, Field field);
@@ -756,6 +830,173 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 
 	}
 
+	/**
+	 * Lookup of reserved character sequences and their replacements indexed by first character, so that escaping a value
+	 * only requires a single scan. Matches are resolved the same way as
+	 * {@link StringUtils#replaceEach(String, String[], String[])} does, preferring the earliest position and, for the
+	 * same position, the sequence listed first. Sequences or replacements that are {@literal null} or empty are ignored.
+	 *
+	 * @since 2.1
+	 */
+	static class ReservedChars {
+
+		private final String[] sequences;
+		private final String[] replacements;
+		private final int[][] candidatesByFirstChar;
+
+		/**
+		 * @param sequences must not be {@literal null}.
+		 * @param replacements must not be {@literal null} and of same length as {@code sequences}.
+		 */
+		ReservedChars(String[] sequences, String[] replacements) {
+
+			Assert.notNull(sequences, "Sequences must not be 'null'.");
+			Assert.notNull(replacements, "Replacements must not be 'null'.");
+			Assert.isTrue(sequences.length == replacements.length, "Sequences and replacements must be of same length.");
+
+			this.sequences = sequences.clone();
+			this.replacements = replacements.clone();
+
+			int maxFirstChar = -1;
+			for (int i = 0; i < sequences.length; i++) {
+				if (isActive(i)) {
+					maxFirstChar = Math.max(maxFirstChar, sequences[i].charAt(0));
+				}
+			}
+
+			int[] counts = new int[maxFirstChar + 1];
+			for (int i = 0; i < sequences.length; i++) {
+				if (isActive(i)) {
+					counts[sequences[i].charAt(0)]++;
+				}
+			}
+
+			this.candidatesByFirstChar = new int[maxFirstChar + 1][];
+			for (int i = 0; i < sequences.length; i++) {
+
+				if (!isActive(i)) {
+					continue;
+				}
+
+				char c = sequences[i].charAt(0);
+				if (candidatesByFirstChar[c] == null) {
+
+					candidatesByFirstChar[c] = new int[counts[c]];
+					counts[c] = 0;
+				}
+				candidatesByFirstChar[c][counts[c]++] = i;
+			}
+		}
+
+		private boolean isActive(int index) {
+			return sequences[index] != null && !sequences[index].isEmpty() && replacements[index] != null;
+		}
+
+		/**
+		 * @return {@literal true} if this lookup has been created from arrays equal to the given ones.
+		 */
+		boolean isCompiledFrom(String[] sequences, String[] replacements) {
+			return Arrays.equals(this.sequences, sequences) && Arrays.equals(this.replacements, replacements);
+		}
+
+		/**
+		 * Replace all reserved sequences and quote the result if it contains whitespaces.
+		 *
+		 * @param value must not be {@literal null}.
+		 * @return the given value if neither escaping nor quoting is required.
+		 */
+		String escape(String value) {
+
+			int length = value.length();
+			StringBuilder escaped = null;
+			boolean containsWhitespace = false;
+
+			int i = 0;
+			while (i < length) {
+
+				int match = findSequence(value, i);
+				if (match < 0) {
+
+					char c = value.charAt(i++);
+					containsWhitespace |= c == ' ';
+					if (escaped != null) {
+						escaped.append(c);
+					}
+					continue;
+				}
+
+				if (escaped == null) {
+
+					escaped = new StringBuilder(length + 16);
+					escaped.append('"');
+					escaped.append(value, 0, i);
+				}
+
+				escaped.append(replacements[match]);
+				containsWhitespace |= replacements[match].indexOf(' ') >= 0;
+				i += sequences[match].length();
+			}
+
+			if (escaped == null) {
+				return containsWhitespace ? "\"" + value + "\"" : value;
+			}
+			return containsWhitespace ? escaped.append('"').toString() : escaped.substring(1);
+		}
+
+		private int findSequence(String value, int index) {
+
+			char c = value.charAt(index);
+			if (c >= candidatesByFirstChar.length || candidatesByFirstChar[c] == null) {
+				return -1;
+			}
+
+			for (int candidate : candidatesByFirstChar[c]) {
+				if (value.startsWith(sequences[candidate], index)) {
+					return candidate;
+				}
+			}
+			return -1;
+		}
+	}
+
+	/**
+	 * Per thread {@link StringBuilder} reused for creating query strings. Nested query string creation, eg. for
+	 * {@link Criteria} used as {@link Function} argument, gets a buffer of its own while the outer one is in use.
+	 * Buffers that grew beyond {@link #MAX_RETAINED_CAPACITY} are not retained.
+	 * <p>
+	 * The buffer is never removed from its thread, so every thread that ever created a query string keeps up to
+	 * {@link #MAX_RETAINED_CAPACITY} characters for its lifetime. Call {@link QueryParserBase#releaseQueryStringBuffer()}
+	 * to drop it, e.g. before returning a thread to a pool shared with unrelated work.
+	 *
+	 * @since 2.1
+	 */
+	static class QueryStringBuffer {
+
+		static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+		private static final int INITIAL_CAPACITY = 256;
+
+		private StringBuilder buffer;
+
+		StringBuilder acquire() {
+
+			StringBuilder current = buffer;
+			if (current == null) {
+				return new StringBuilder(INITIAL_CAPACITY);
+			}
+
+			buffer = null;
+			current.setLength(0);
+			return current;
+		}
+
+		void release(StringBuilder used) {
+
+			if (used.capacity() <= MAX_RETAINED_CAPACITY) {
+				buffer = used;
+			}
+		}
+	}
+
 	private static final void setObjectName(Map<String, Object> namesAssociation, Object object, String name) {
 		namesAssociation.put(name, object);
 	}
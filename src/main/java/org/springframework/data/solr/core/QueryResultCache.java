@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import org.springframework.data.solr.core.query.result.SolrResultPage;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Client side cache for converted query results used by {@link SolrTemplate}. Entries are looked up by a {@link Key}
+ * derived from the normalized request parameters, the target collection, the query type and the result type.
+ * {@link SolrTemplate} calls {@link #evict(String)} whenever {@literal commit}, {@literal softCommit} or
+ * {@literal rollback} is issued through it.
+ * <p>
+ * Cached pages are shared between callers and must be treated as read only.
+ *
+ * @since 2.1
+ */
+public interface QueryResultCache {
+
+	/**
+	 * Get the cached page for given key.
+	 *
+	 * @param key never {@literal null}.
+	 * @return {@literal null} if not present or expired.
+	 */
+	<T> SolrResultPage<T> get(Key key);
+
+	/**
+	 * Store the given page.
+	 *
+	 * @param key never {@literal null}.
+	 * @param page never {@literal null}.
+	 * @param estimatedSize rough estimation of the number of bytes held by the page.
+	 */
+	void put(Key key, SolrResultPage<?> page, long estimatedSize);
+
+	/**
+	 * Remove all entries for given collection.
+	 *
+	 * @param collection can be {@literal null} to remove all entries.
+	 */
+	void evict(String collection);
+
+	/**
+	 * Remove all entries.
+	 */
+	void clear();
+
+	/**
+	 * Cache key combining the normalized request with query and result type.
+	 *
+	 * @since 2.1
+	 */
+	final class Key {
+
+		private final QueryKey queryKey;
+		private final Class<?> queryType;
+		private final Class<?> resultType;
+
+		Key(QueryKey queryKey, Class<?> queryType, Class<?> resultType) {
+
+			Assert.notNull(queryKey, "QueryKey must not be 'null'.");
+			Assert.notNull(queryType, "QueryType must not be 'null'.");
+			Assert.notNull(resultType, "ResultType must not be 'null'.");
+
+			this.queryKey = queryKey;
+			this.queryType = queryType;
+			this.resultType = resultType;
+		}
+
+		/**
+		 * @return the target collection. Can be {@literal null}.
+		 */
+		public String getCollection() {
+			return queryKey.getCollection();
+		}
+
+		/**
+		 * @return the type results are converted to.
+		 */
+		public Class<?> getResultType() {
+			return resultType;
+		}
+
+		/**
+		 * @return rough estimation of the number of bytes held by the key.
+		 */
+		public long getEstimatedSize() {
+			return 2L * queryKey.getEstimatedSize();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+
+			Key that = (Key) obj;
+			return this.queryType == that.queryType && this.resultType == that.resultType
+					&& this.queryKey.equals(that.queryKey);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+
+			int result = queryKey.hashCode();
+			result = 31 * result + ObjectUtils.nullSafeHashCode(queryType);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(resultType);
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "Key [" + queryKey + ", queryType=" + queryType.getName() + ", resultType=" + resultType.getName() + "]";
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.Serializable;
+
+import org.apache.solr.client.solrj.response.UpdateResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.data.solr.core.query.Query;
+import org.springframework.data.solr.core.query.SolrDataQuery;
+
+/**
+ * Interface that specifies a basic set of reactive Solr operations. Query and mapping semantics are identical to the
+ * ones of {@link SolrOperations}.
+ *
+ * @since 2.1
+ */
+public interface ReactiveSolrOperations {
+
+	/**
+	 * Find all documents in given collection matching the query. Results are read page by page using a cursor sorted by
+	 * the unique key. The next page is only requested once the subscriber signals demand for more elements. The page
+	 * size is taken from the {@link Query#getPageRequest()}, if any.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param clazz must not be {@literal null}.
+	 * @return
+	 */
+	<T> Flux<T> find(String collectionName, Query query, Class<T> clazz);
+
+	/**
+	 * Find the object with given id in collection using realtime get.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @param clazz must not be {@literal null}.
+	 * @return empty {@link Mono} if not found.
+	 */
+	<T> Mono<T> findById(String collectionName, Serializable id, Class<T> clazz);
+
+	/**
+	 * Return number of elements in given collection matching the query.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @return
+	 */
+	Mono<Long> count(String collectionName, SolrDataQuery query);
+
+	/**
+	 * Save the objects emitted by the given {@link Publisher} sending one update request per batch. Each object is
+	 * emitted downstream once the batch it belongs to has been sent.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param objectsToSave must not be {@literal null}.
+	 * @return
+	 */
+	<T> Flux<T> save(String collectionName, Publisher<T> objectsToSave);
+
+	/**
+	 * Delete all objects matching the provided query in given collection.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @return
+	 */
+	Mono<UpdateResponse> delete(String collectionName, SolrDataQuery query);
+
+	/**
+	 * Send commit command for given collection.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @return
+	 */
+	Mono<Void> commit(String collectionName);
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.response.UpdateResponse;
+import org.apache.solr.common.params.CursorMarkParams;
+import org.reactivestreams.Publisher;
+import org.springframework.data.solr.core.query.Query;
+import org.springframework.data.solr.core.query.SolrDataQuery;
+import org.springframework.data.solr.core.query.result.DelegatingCursor.PartialResult;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Implementation of {@link ReactiveSolrOperations} using a {@link SolrTemplate} for query creation, execution and
+ * result conversion. Blocking calls to {@link org.apache.solr.client.solrj.SolrClient} are run on a dedicated
+ * {@link Scheduler}.
+ *
+ * @since 2.1
+ */
+public class ReactiveSolrTemplate implements ReactiveSolrOperations {
+
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
+	private final SolrTemplate solrTemplate;
+	private final Scheduler scheduler;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Create new {@link ReactiveSolrTemplate} running blocking calls on {@link Schedulers#elastic()}.
+	 *
+	 * @param solrTemplate must not be {@literal null}.
+	 */
+	public ReactiveSolrTemplate(SolrTemplate solrTemplate) {
+		this(solrTemplate, Schedulers.elastic());
+	}
+
+	/**
+	 * @param solrTemplate must not be {@literal null}.
+	 * @param scheduler must not be {@literal null}.
+	 */
+	public ReactiveSolrTemplate(SolrTemplate solrTemplate, Scheduler scheduler) {
+
+		Assert.notNull(solrTemplate, "SolrTemplate must not be 'null'.");
+		Assert.notNull(scheduler, "Scheduler must not be 'null'.");
+
+		this.solrTemplate = solrTemplate;
+		this.scheduler = scheduler;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.ReactiveSolrOperations#find(java.lang.String, org.springframework.data.solr.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> Flux<T> find(final String collectionName, Query query, final Class<T> clazz) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+		Assert.notNull(clazz, "Target class must not be 'null'.");
+
+		final SolrQuery solrQuery = solrTemplate.constructCursorQuery(query,
+				solrTemplate.getRequiredUniqueKeyField(clazz));
+		solrQuery.setStart(null);
+
+		Flux<Collection<T>> pages = Flux.generate(new Callable<String>() {
+
+			@Override
+			public String call() {
+				return CursorMarkParams.CURSOR_MARK_START;
+			}
+		}, new BiFunction<String, SynchronousSink<Collection<T>>, String>() {
+
+			@Override
+			public String apply(String cursorMark, SynchronousSink<Collection<T>> sink) {
+
+				SolrQuery page = solrQuery.getCopy();
+				page.set(CursorMarkParams.CURSOR_MARK_PARAM, cursorMark);
+
+				PartialResult<T> result = solrTemplate.loadCursorPage(collectionName, page, clazz);
+				if (!CollectionUtils.isEmpty(result.getItems())) {
+					sink.next(result.getItems());
+				}
+
+				if (cursorMark.equals(result.getNextCursorMark()) || CollectionUtils.isEmpty(result.getItems())) {
+					sink.complete();
+				}
+				return result.getNextCursorMark();
+			}
+		});
+
+		return pages.concatMapIterable(new Function<Collection<T>, Iterable<T>>() {
+
+			@Override
+			public Iterable<T> apply(Collection<T> page) {
+				return page;
+			}
+		}, 1).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.ReactiveSolrOperations#findById(java.lang.String, java.io.Serializable, java.lang.Class)
+	 */
+	@Override
+	public <T> Mono<T> findById(final String collectionName, final Serializable id, final Class<T> clazz) {
+
+		Assert.notNull(id, "Id must not be 'null'.");
+		Assert.notNull(clazz, "Target class must not be 'null'.");
+
+		return Mono.fromCallable(new Callable<T>() {
+
+			@Override
+			public T call() {
+				return solrTemplate.getById(collectionName, id, clazz);
+			}
+		}).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.ReactiveSolrOperations#count(java.lang.String, org.springframework.data.solr.core.query.SolrDataQuery)
+	 */
+	@Override
+	public Mono<Long> count(final String collectionName, final SolrDataQuery query) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+
+		return Mono.fromCallable(new Callable<Long>() {
+
+			@Override
+			public Long call() {
+				return solrTemplate.count(collectionName, query);
+			}
+		}).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.ReactiveSolrOperations#save(java.lang.String, org.reactivestreams.Publisher)
+	 */
+	@Override
+	public <T> Flux<T> save(final String collectionName, Publisher<T> objectsToSave) {
+
+		Assert.notNull(objectsToSave, "Publisher must not be 'null'.");
+
+		return Flux.from(objectsToSave).buffer(batchSize).concatMap(new Function<List<T>, Publisher<List<T>>>() {
+
+			@Override
+			public Publisher<List<T>> apply(final List<T> batch) {
+
+				return Mono.fromCallable(new Callable<List<T>>() {
+
+					@Override
+					public List<T> call() {
+
+						solrTemplate.saveBeans(collectionName, batch);
+						return batch;
+					}
+				}).subscribeOn(scheduler);
+			}
+		}).concatMapIterable(new Function<List<T>, Iterable<T>>() {
+
+			@Override
+			public Iterable<T> apply(List<T> batch) {
+				return batch;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.ReactiveSolrOperations#delete(java.lang.String, org.springframework.data.solr.core.query.SolrDataQuery)
+	 */
+	@Override
+	public Mono<UpdateResponse> delete(final String collectionName, final SolrDataQuery query) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+
+		return Mono.fromCallable(new Callable<UpdateResponse>() {
+
+			@Override
+			public UpdateResponse call() {
+				return solrTemplate.delete(collectionName, query);
+			}
+		}).subscribeOn(scheduler);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.ReactiveSolrOperations#commit(java.lang.String)
+	 */
+	@Override
+	public Mono<Void> commit(final String collectionName) {
+
+		return Mono.fromRunnable(new Runnable() {
+
+			@Override
+			public void run() {
+				solrTemplate.commit(collectionName);
+			}
+		}).subscribeOn(scheduler).then();
+	}
+
+	/**
+	 * Set the number of objects sent per update request by {@link #save(String, Publisher)}. Defaults to
+	 * {@value #DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param batchSize must be greater than zero.
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "BatchSize must be greater than zero.");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * @return the underlying {@link SolrTemplate}.
+	 */
+	public SolrTemplate getSolrTemplate() {
+		return solrTemplate;
+	}
+}
@@ -325,8 +325,14 @@ final class ResultHelper {
 			for (Group group : groupCommand.getValues()) {
 
 				SolrDocumentList documentList = group.getResult();
-				List<T> beans = solrTemplate.convertSolrDocumentListToBeans(documentList, clazz);
-				Page<T> page = new PageImpl<T>(beans, query.getGroupOptions().getPageRequest(), documentList.getNumFound());
+				Page<T> page;
+				if (solrTemplate.isLazyBeanConversion()) {
+					page = new SolrResultPage<T>(documentList, solrTemplate.getDocumentToBeanConverter(clazz),
+							query.getGroupOptions().getPageRequest(), documentList.getNumFound(), documentList.getMaxScore());
+				} else {
+					List<T> beans = solrTemplate.convertSolrDocumentListToBeans(documentList, clazz);
+					page = new PageImpl<T>(beans, query.getGroupOptions().getPageRequest(), documentList.getNumFound());
+				}
 				groupEntries.add(new SimpleGroupEntry<T>(group.getGroupValue(), page));
 			}
 
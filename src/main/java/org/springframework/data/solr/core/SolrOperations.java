@@ -18,11 +18,15 @@ package org.springframework.data.solr.core;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.response.SolrPingResponse;
 import org.apache.solr.client.solrj.response.UpdateResponse;
+import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrInputDocument;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.solr.core.convert.SolrConverter;
 import org.springframework.data.solr.core.query.FacetAndHighlightQuery;
@@ -279,6 +283,26 @@ public interface SolrOperations {
 	 */
 	UpdateResponse delete(String collectionName, SolrDataQuery query);
 
+	/**
+	 * Find and delete all objects matching the provided Query in specific collection, asking the server to commit the
+	 * deletion within given milliseconds. The default implementation delegates to
+	 * {@link #delete(String, SolrDataQuery)} if no commit is requested and throws {@link UnsupportedOperationException}
+	 * otherwise.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param commitWithinMs max time in milliseconds before a commit happens. {@literal -1} for none.
+	 * @return
+	 * @since 2.1
+	 */
+	default UpdateResponse delete(String collectionName, SolrDataQuery query, int commitWithinMs) {
+
+		if (commitWithinMs < 0) {
+			return delete(collectionName, query);
+		}
+		throw new UnsupportedOperationException("Commit within is not supported by " + getClass().getName() + ".");
+	}
+
 	/**
 	 * Delete the one object with provided id
 	 *
@@ -315,6 +339,25 @@ public interface SolrOperations {
 	 */
 	UpdateResponse deleteById(String collectionName, Collection<String> ids);
 
+	/**
+	 * Delete objects with given ids in collection, asking the server to commit the deletion within given milliseconds.
+	 * The default implementation delegates to {@link #deleteById(String, Collection)} if no commit is requested and
+	 * throws {@link UnsupportedOperationException} otherwise.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @param commitWithinMs max time in milliseconds before a commit happens. {@literal -1} for none.
+	 * @return
+	 * @since 2.1
+	 */
+	default UpdateResponse deleteById(String collectionName, Collection<String> ids, int commitWithinMs) {
+
+		if (commitWithinMs < 0) {
+			return deleteById(collectionName, ids);
+		}
+		throw new UnsupportedOperationException("Commit within is not supported by " + getClass().getName() + ".");
+	}
+
 	/**
 	 * Execute the query against solr and return the first returned object
 	 *
@@ -390,6 +433,24 @@ public interface SolrOperations {
 	 */
 	<T> ScoredPage<T> queryForPage(Query query, Class<T> clazz, RequestMethod method);
 
+	/**
+	 * Execute the query against the collection of the given domain type and return result as {@link Page} of objects
+	 * created by the given {@link Converter} directly from the returned {@link SolrDocument documents}, without mapping
+	 * them to the domain type first. Facets, highlighting, grouping and stats are not read. The default implementation
+	 * throws {@link UnsupportedOperationException}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param documentConverter must not be {@literal null}.
+	 * @return
+	 * @since 2.1
+	 */
+	default <T> ScoredPage<T> queryForPage(Query query, Class<?> domainType,
+			Converter<? super SolrDocument, ? extends T> documentConverter) {
+		throw new UnsupportedOperationException(
+				"Reading pages via document converters is not supported by " + getClass().getName() + ".");
+	}
+
 	/**
 	 * Execute the query against specific collection and return result as {@link Page}
 	 *
@@ -580,7 +641,10 @@ public interface SolrOperations {
 
 	/**
 	 * Executes the given {@link Query} and returns an open {@link Cursor} allowing to iterate of results, dynamically
-	 * fetching additional ones if required.
+	 * fetching additional ones if required. <br />
+	 * <strong>NOTE:</strong> As of 2.1 the collection is resolved from the {@link Class} like for all other operations
+	 * without explicit collection name. Previous versions always used the default collection. Use
+	 * {@link #queryForCursor(String, Query, Class)} to target a specific collection.
 	 *
 	 * @param query must not be {@literal null}.
 	 * @param clazz must not be {@literal null}.
@@ -589,6 +653,100 @@ public interface SolrOperations {
 	 */
 	<T> Cursor<T> queryForCursor(Query query, Class<T> clazz);
 
+	/**
+	 * Executes the given {@link Query} against the given collection and returns an open {@link Cursor} allowing to
+	 * iterate of results, dynamically fetching additional ones if required. The default implementation throws
+	 * {@link UnsupportedOperationException}.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param clazz must not be {@literal null}.
+	 * @return
+	 * @since 2.1
+	 */
+	default <T> Cursor<T> queryForCursor(String collectionName, Query query, Class<T> clazz) {
+		throw new UnsupportedOperationException(
+				"Cursors for explicit collections are not supported by " + getClass().getName() + ".");
+	}
+
+	/**
+	 * Executes the given {@link Query} against the given collection and returns an open {@link Cursor} that loads up to
+	 * {@code readAhead} pages in the background while the current one is iterated. The default implementation ignores
+	 * {@code readAhead} and delegates to {@link #queryForCursor(String, Query, Class)}, loading pages only on demand.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param clazz must not be {@literal null}.
+	 * @param readAhead number of pages to fetch ahead. Use {@literal 0} to load pages only on demand.
+	 * @return
+	 * @since 2.1
+	 */
+	default <T> Cursor<T> queryForCursor(String collectionName, Query query, Class<T> clazz, int readAhead) {
+		return queryForCursor(collectionName, query, clazz);
+	}
+
+	/**
+	 * Executes the given {@link Query} by splitting it into disjoint partitions using the given
+	 * {@link CursorPartitioning}. Each partition is read via its own {@link Cursor} fetching pages in the background on a
+	 * thread dedicated to that partition, independent of the task executor. The returned parallel {@link Stream} consumes
+	 * partitions concurrently and has to be closed after usage. A sort on the unique key is added if not present. The
+	 * order of elements is undefined. The default implementation throws {@link UnsupportedOperationException}.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param clazz must not be {@literal null}.
+	 * @param partitioning must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 2.1
+	 */
+	default <T> Stream<T> queryForPartitionedStream(String collectionName, Query query, Class<T> clazz,
+			CursorPartitioning partitioning) {
+		throw new UnsupportedOperationException("Partitioned streams are not supported by " + getClass().getName() + ".");
+	}
+
+	/**
+	 * Executes the given {@link Query} against the given collection, streaming the response. Each document is converted
+	 * into an instance of {@code clazz} as soon as it has been read from the response and handed to the given
+	 * {@link Consumer}, so that neither the complete list of documents nor the complete list of converted objects is
+	 * held in memory. Paging, projection and sort of the {@link Query} are applied as for
+	 * {@link #queryForPage(String, Query, Class)}. The default implementation reads the complete page via
+	 * {@link #queryForPage(String, Query, Class)} before handing it to the {@link Consumer}.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param clazz must not be {@literal null}.
+	 * @param consumer must not be {@literal null}.
+	 * @return the total number of documents found.
+	 * @since 2.1
+	 */
+	default <T> long queryAndConsume(String collectionName, Query query, Class<T> clazz, Consumer<? super T> consumer) {
+
+		ScoredPage<T> page = queryForPage(collectionName, query, clazz);
+		for (T element : page) {
+			consumer.accept(element);
+		}
+		return page.getTotalElements();
+	}
+
+	/**
+	 * Executes the given {@link Query} against the given collection, streaming the response in the background. Converted
+	 * objects are handed over to the returned {@link Stream} via a bounded buffer as they are read. The {@link Stream}
+	 * has to be closed after usage to abort reading the response if it has not been consumed completely. A stream that is
+	 * neither consumed nor closed keeps a background thread and the underlying response busy until the buffer has not
+	 * been read from for five minutes. The response is abandoned then and further consumption fails. The default
+	 * implementation reads the complete page via {@link #queryForPage(String, Query, Class)} before streaming it.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param clazz must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 2.1
+	 * @see #queryAndConsume(String, Query, Class, Consumer)
+	 */
+	default <T> Stream<T> queryForStream(String collectionName, Query query, Class<T> clazz) {
+		return queryForPage(collectionName, query, clazz).getContent().stream();
+	}
+
 	/**
 	 * Execute the query against solr and return result as {@link GroupPage}
 	 *
@@ -827,6 +985,19 @@ public interface SolrOperations {
 	 */
 	<T> T execute(String collection, CollectionCallback<T> action);
 
+	/**
+	 * Create a new {@link BulkSolrIndexer} buffering beans into batches that are sent to Solr asynchronously. The returned
+	 * indexer has to be {@link BulkSolrIndexer#close() closed} after usage. The default implementation throws
+	 * {@link UnsupportedOperationException}.
+	 *
+	 * @param options can be {@literal null}. Defaults to {@link BulkIndexerOptions#defaults()}.
+	 * @return never {@literal null}.
+	 * @since 2.1
+	 */
+	default BulkSolrIndexer createBulkIndexer(BulkIndexerOptions options) {
+		throw new UnsupportedOperationException("Bulk indexing is not supported by " + getClass().getName() + ".");
+	}
+
 	/**
 	 * Get the {@link SchemaOperations} executable.
 	 *
@@ -19,6 +19,7 @@ import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.SolrRequest;
 import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.StreamingResponseCallback;
 import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.client.solrj.response.SolrPingResponse;
 import org.apache.solr.client.solrj.response.UpdateResponse;
@@ -27,17 +28,22 @@ import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.solr.UncategorizedSolrException;
+import org.springframework.data.solr.core.DocumentNearCache.NearCaches;
+import org.springframework.data.solr.core.QueryParserBase.NamedObjects;
 import org.springframework.data.solr.core.QueryParserBase.NamedObjectsFacetAndHighlightQuery;
 import org.springframework.data.solr.core.QueryParserBase.NamedObjectsFacetQuery;
 import org.springframework.data.solr.core.QueryParserBase.NamedObjectsHighlightQuery;
@@ -49,6 +55,7 @@ import org.springframework.data.solr.core.mapping.SolrPersistentEntity;
 import org.springframework.data.solr.core.mapping.SolrPersistentProperty;
 import org.springframework.data.solr.core.query.*;
 import org.springframework.data.solr.core.query.result.*;
+import org.springframework.data.solr.core.query.result.DelegatingCursor.PartialResult;
 import org.springframework.data.solr.core.query.result.SpellcheckQueryResult.Alternative;
 import org.springframework.data.solr.core.schema.DefaultSchemaOperations;
 import org.springframework.data.solr.core.schema.SchemaOperations;
@@ -57,6 +64,7 @@ import org.springframework.data.solr.core.schema.SolrPersistentEntitySchemaCreat
 import org.springframework.data.solr.server.SolrClientFactory;
 import org.springframework.data.solr.server.support.HttpSolrClientFactory;
 import org.springframework.data.solr.server.support.MulticoreSolrClientFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
@@ -64,8 +72,26 @@ import org.springframework.util.StringUtils;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementation of {@link SolrOperations}
@@ -77,10 +103,26 @@ import java.util.Map.Entry;
  * @author David Webb
  * @author Petar Tahchiev
  */
-public class SolrTemplate implements SolrOperations, InitializingBean, ApplicationContextAware {
+public class SolrTemplate implements SolrOperations, InitializingBean, DisposableBean, ApplicationContextAware {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(SolrTemplate.class);
 	private static final PersistenceExceptionTranslator EXCEPTION_TRANSLATOR = new SolrExceptionTranslator();
+	private static final int STREAMING_BUFFER_SIZE = 256;
+	private static final Duration STREAMING_ABANDON_TIMEOUT = Duration.ofMinutes(5);
+
+	/**
+	 * Maximum number of threads of the default {@link #getTaskExecutor() task executor}.
+	 *
+	 * @since 2.1
+	 */
+	public static final int DEFAULT_TASK_EXECUTOR_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+	/**
+	 * Maximum number of tasks waiting for a thread of the default {@link #getTaskExecutor() task executor}.
+	 *
+	 * @since 2.1
+	 */
+	public static final int DEFAULT_TASK_EXECUTOR_QUEUE_CAPACITY = 1000;
 	private final QueryParsers queryParsers = new QueryParsers();
 	private MappingContext<? extends SolrPersistentEntity<?>, SolrPersistentProperty> mappingContext;
 
@@ -103,6 +145,21 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 
 	private Set<Feature> schemaCreationFeatures;
 
+	private Executor taskExecutor;
+	private ExecutorService defaultTaskExecutor;
+	private Executor streamingExecutor;
+	private ExecutorService defaultStreamingExecutor;
+
+	private boolean queryCoalescing;
+	private boolean lazyBeanConversion;
+	private final ConcurrentMap<QueryKey, CompletableFuture<QueryResponse>> inFlightQueries = new ConcurrentHashMap<QueryKey, CompletableFuture<QueryResponse>>();
+
+	private QueryResultCache queryResultCache;
+	private final AtomicLong cacheInvalidations = new AtomicLong();
+
+	private GetByIdBatcher getByIdBatcher;
+	private final NearCaches nearCaches = new NearCaches();
+
 	public SolrTemplate(SolrClient solrClient) {
 		this(solrClient, null);
 	}
@@ -308,9 +365,13 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 
 			@Override
 			public UpdateResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
-				return StringUtils.hasText(collection)
-						? solrClient.add(collection, convertBeanToSolrInputDocument(objectToAdd), commitWithinMs)
-						: solrClient.add(convertBeanToSolrInputDocument(objectToAdd), commitWithinMs);
+
+				SolrInputDocument document = convertBeanToSolrInputDocument(objectToAdd);
+				UpdateResponse response = StringUtils.hasText(collection)
+						? solrClient.add(collection, document, commitWithinMs)
+						: solrClient.add(document, commitWithinMs);
+				evictFromNearCaches(collection, Collections.singletonList(document));
+				return response;
 			}
 		});
 	}
@@ -353,9 +414,13 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return execute(collectionName, new CollectionCallback<UpdateResponse>() {
 			@Override
 			public UpdateResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
-				return StringUtils.hasText(collection)
-						? solrClient.add(collection, convertBeansToSolrInputDocuments(beansToAdd), commitWithinMs)
-						: solrClient.add(convertBeansToSolrInputDocuments(beansToAdd), commitWithinMs);
+
+				Collection<SolrInputDocument> documents = convertBeansToSolrInputDocuments(beansToAdd);
+				UpdateResponse response = StringUtils.hasText(collection)
+						? solrClient.add(collection, documents, commitWithinMs)
+						: solrClient.add(documents, commitWithinMs);
+				evictFromNearCaches(collection, documents);
+				return response;
 			}
 		});
 	}
@@ -398,8 +463,12 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return execute(collectionName, new CollectionCallback<UpdateResponse>() {
 			@Override
 			public UpdateResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
-				return StringUtils.hasText(collection) ? solrClient.add(collection, documentToAdd, commitWithinMs)
+
+				UpdateResponse response = StringUtils.hasText(collection)
+						? solrClient.add(collection, documentToAdd, commitWithinMs)
 						: solrClient.add(documentToAdd, commitWithinMs);
+				evictFromNearCaches(collection, Collections.singletonList(documentToAdd));
+				return response;
 			}
 		});
 	}
@@ -431,7 +500,10 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return execute(new SolrCallback<UpdateResponse>() {
 			@Override
 			public UpdateResponse doInSolr(SolrClient solrClient) throws SolrServerException, IOException {
-				return solrClient.add(documentsToAdd, commitWithinMs);
+
+				UpdateResponse response = solrClient.add(documentsToAdd, commitWithinMs);
+				evictFromNearCaches(null, documentsToAdd);
+				return response;
 			}
 		});
 	}
@@ -447,8 +519,12 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return execute(collectionName, new CollectionCallback<UpdateResponse>() {
 			@Override
 			public UpdateResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
-				return StringUtils.hasText(collection) ? solrClient.add(collection, documentsToAdd, commitWithinMs)
+
+				UpdateResponse response = StringUtils.hasText(collection)
+						? solrClient.add(collection, documentsToAdd, commitWithinMs)
 						: solrClient.add(documentsToAdd, commitWithinMs);
+				evictFromNearCaches(collection, documentsToAdd);
+				return response;
 			}
 		});
 	}
@@ -477,8 +553,37 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 
 			@Override
 			public UpdateResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
-				return StringUtils.hasText(collection) ? solrClient.deleteByQuery(collection, queryString)
+
+				UpdateResponse response = StringUtils.hasText(collection)
+						? solrClient.deleteByQuery(collection, queryString)
 						: solrClient.deleteByQuery(queryString);
+				nearCaches.markStale(collection);
+				return response;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.SolrOperations#delete(java.lang.String, org.springframework.data.solr.core.query.SolrDataQuery, int)
+	 */
+	@Override
+	public UpdateResponse delete(String collectionName, SolrDataQuery query, final int commitWithinMs) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+
+		final String queryString = this.queryParsers.getForClass(query.getClass()).getQueryString(query);
+
+		return execute(collectionName, new CollectionCallback<UpdateResponse>() {
+
+			@Override
+			public UpdateResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
+
+				UpdateResponse response = StringUtils.hasText(collection)
+						? solrClient.deleteByQuery(collection, queryString, commitWithinMs)
+						: solrClient.deleteByQuery(queryString, commitWithinMs);
+				nearCaches.markStale(collection);
+				return response;
 			}
 		});
 	}
@@ -504,7 +609,11 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return execute(collectionName, new CollectionCallback<UpdateResponse>() {
 			@Override
 			public UpdateResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
-				return StringUtils.hasText(collection) ? solrClient.deleteById(collection, id) : solrClient.deleteById(id);
+
+				UpdateResponse response = StringUtils.hasText(collection) ? solrClient.deleteById(collection, id)
+						: solrClient.deleteById(id);
+				nearCaches.evictIds(collection, Collections.singletonList(id));
+				return response;
 			}
 		});
 	}
@@ -532,8 +641,36 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return execute(collectionName, new CollectionCallback<UpdateResponse>() {
 			@Override
 			public UpdateResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
-				return StringUtils.hasText(collection) ? solrClient.deleteById(collection, toBeDeleted)
+
+				UpdateResponse response = StringUtils.hasText(collection)
+						? solrClient.deleteById(collection, toBeDeleted)
 						: solrClient.deleteById(toBeDeleted);
+				nearCaches.evictIds(collection, toBeDeleted);
+				return response;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.SolrOperations#deleteById(java.lang.String, java.util.Collection, int)
+	 */
+	@Override
+	public UpdateResponse deleteById(String collectionName, Collection<String> ids, final int commitWithinMs) {
+
+		Assert.notNull(ids, "Cannot delete 'null' collection.");
+
+		final List<String> toBeDeleted = new ArrayList<String>(ids);
+
+		return execute(collectionName, new CollectionCallback<UpdateResponse>() {
+			@Override
+			public UpdateResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
+
+				UpdateResponse response = StringUtils.hasText(collection)
+						? solrClient.deleteById(collection, toBeDeleted, commitWithinMs)
+						: solrClient.deleteById(toBeDeleted, commitWithinMs);
+				nearCaches.evictIds(collection, toBeDeleted);
+				return response;
 			}
 		});
 	}
@@ -589,13 +726,8 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 	private <T> SolrResultPage<T> doQueryForPage(String collectionName, Query query, Class<T> clazz,
 			RequestMethod requestMethod) {
 
-		QueryResponse response = null;
-		NamedObjectsQuery namedObjectsQuery = new NamedObjectsQuery(query);
-		response = querySolr(collectionName, namedObjectsQuery, clazz,
+		return queryForResultPage(collectionName, query, new NamedObjectsQuery(query), clazz,
 				requestMethod != null ? requestMethod : getDefaultRequestMethod());
-		Map<String, Object> objectsName = namedObjectsQuery.getNamesAssociation();
-
-		return createSolrResultPage(query, clazz, response, objectsName);
 	}
 
 	/*
@@ -678,6 +810,38 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return doQueryForPage(collectionName, query, clazz, method);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.SolrOperations#queryForPage(org.springframework.data.solr.core.query.Query, java.lang.Class, org.springframework.core.convert.converter.Converter)
+	 */
+	@Override
+	public <T> ScoredPage<T> queryForPage(Query query, Class<?> domainType,
+			Converter<? super SolrDocument, ? extends T> documentConverter) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+		Assert.notNull(domainType, "Domain type must not be 'null'.");
+		Assert.notNull(documentConverter, "DocumentConverter must not be 'null'.");
+
+		QueryResponse response = doQuerySolr(getSolrCoreOrBeanCollection(domainType), constructSolrQuery(query, domainType),
+				getSolrRequestMethod(getDefaultRequestMethod()));
+
+		SolrDocumentList results = response.getResults();
+		if (results == null) {
+			return new SolrResultPage<T>(Collections.<T> emptyList(), query.getPageRequest(), 0, null);
+		}
+
+		if (lazyBeanConversion) {
+			return new SolrResultPage<T>(results, documentConverter, query.getPageRequest(), results.getNumFound(),
+					results.getMaxScore());
+		}
+
+		List<T> content = new ArrayList<T>(results.size());
+		for (SolrDocument document : results) {
+			content.add(documentConverter.convert(document));
+		}
+		return new SolrResultPage<T>(content, query.getPageRequest(), results.getNumFound(), results.getMaxScore());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.solr.core.SolrOperations#queryForGroupPage(org.springframework.data.solr.core.query.Query, java.lang.Class)
@@ -792,10 +956,7 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		Assert.notNull(query, "Query must not be 'null'.");
 		Assert.notNull(clazz, "Target class must not be 'null'.");
 
-		NamedObjectsFacetQuery namedObjectsQuery = new NamedObjectsFacetQuery(query);
-
-		return createSolrResultPage(query, clazz, querySolr(collectionName, namedObjectsQuery, clazz, method),
-				namedObjectsQuery.getNamesAssociation());
+		return queryForResultPage(collectionName, query, new NamedObjectsFacetQuery(query), clazz, method);
 	}
 
 	/*
@@ -834,10 +995,8 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		Assert.notNull(query, "Query must not be 'null'.");
 		Assert.notNull(clazz, "Target class must not be 'null'.");
 
-		NamedObjectsHighlightQuery namedObjectsQuery = new NamedObjectsHighlightQuery(query);
-		QueryResponse response = querySolr(collectionName, namedObjectsQuery, clazz, getDefaultRequestMethod());
-
-		return createSolrResultPage(query, clazz, response, namedObjectsQuery.getNamesAssociation());
+		return queryForResultPage(collectionName, query, new NamedObjectsHighlightQuery(query), clazz,
+				getDefaultRequestMethod());
 	}
 
 	/*
@@ -878,26 +1037,77 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		Assert.notNull(query, "Query must not be 'null'.");
 		Assert.notNull(clazz, "Target class must not be 'null'.");
 
-		NamedObjectsFacetAndHighlightQuery namedObjectsFacetAndHighlightQuery = new NamedObjectsFacetAndHighlightQuery(
-				query);
+		return queryForResultPage(collectionName, query, new NamedObjectsFacetAndHighlightQuery(query), clazz, method);
+	}
 
-		QueryResponse response = querySolr(collectionName, namedObjectsFacetAndHighlightQuery, clazz, method);
-		Map<String, Object> objectsName = namedObjectsFacetAndHighlightQuery.getNamesAssociation();
+	/**
+	 * Run the given {@link NamedObjects named objects query} and convert the response into a {@link SolrResultPage}. If
+	 * a {@link QueryResultCache} is set, the page is looked up there first and stored after conversion, unless a
+	 * {@literal commit}, {@literal softCommit} or {@literal rollback} has been issued in the meantime.
+	 */
+	private <T> SolrResultPage<T> queryForResultPage(String collectionName, Query query, SolrDataQuery namedObjectsQuery,
+			Class<T> clazz, RequestMethod requestMethod) {
+
+		Assert.notNull(requestMethod, "RequestMethod must not be 'null'");
+
+		SolrQuery solrQuery = constructSolrQuery(namedObjectsQuery, clazz);
+		Map<String, Object> objectsName = ((NamedObjects) namedObjectsQuery).getNamesAssociation();
+		SolrRequest.METHOD method = getSolrRequestMethod(requestMethod);
 
-		return createSolrResultPage(query, clazz, response, objectsName);
+		QueryResultCache cache = this.queryResultCache;
+		if (cache == null) {
+			return createSolrResultPage(query, clazz, doQuerySolr(collectionName, solrQuery, method), objectsName);
+		}
+
+		QueryResultCache.Key key = new QueryResultCache.Key(QueryKey.of(collectionName, solrQuery, method),
+				query.getClass(), clazz);
+		SolrResultPage<T> cached = cache.get(key);
+		if (cached != null) {
+			return new SolrResultPage<T>(cached);
+		}
+
+		long invalidationsBefore = cacheInvalidations.get();
+		QueryResponse response = doQuerySolr(collectionName, solrQuery, method);
+		SolrResultPage<T> page = createSolrResultPage(query, clazz, response, objectsName);
+
+		cache.put(key, page, estimateSize(response));
+		if (cacheInvalidations.get() != invalidationsBefore) {
+			cache.evict(collectionName);
+		}
+		return new SolrResultPage<T>(page);
+	}
+
+	private static long estimateSize(QueryResponse response) {
+
+		SolrDocumentList results = response.getResults();
+		if (results == null) {
+			return 0;
+		}
+
+		long chars = 0;
+		for (int i = 0; i < results.size(); i++) {
+			for (Entry<String, Object> field : results.get(i)) {
+				chars += field.getKey().length() + String.valueOf(field.getValue()).length();
+			}
+		}
+		return 2 * chars;
 	}
 
 	private <T> SolrResultPage<T> createSolrResultPage(Query query, Class<T> clazz, QueryResponse response,
 			Map<String, Object> objectsName) {
 
-		List<T> beans = convertQueryResponseToBeans(response, clazz);
 		SolrDocumentList results = response.getResults();
 		long numFound = results == null ? 0 : results.getNumFound();
 		Float maxScore = results == null ? null : results.getMaxScore();
 
 		Pageable pageRequest = query.getPageRequest();
 
-		SolrResultPage<T> page = new SolrResultPage<T>(beans, pageRequest, numFound, maxScore);
+		SolrResultPage<T> page;
+		if (lazyBeanConversion && results != null) {
+			page = new SolrResultPage<T>(results, getDocumentToBeanConverter(clazz), pageRequest, numFound, maxScore);
+		} else {
+			page = new SolrResultPage<T>(convertQueryResponseToBeans(response, clazz), pageRequest, numFound, maxScore);
+		}
 
 		page.setFieldStatsResults(ResultHelper.convertFieldStatsInfoToFieldStatsResultMap(response.getFieldStatsInfo()));
 		page.setGroupResults(
@@ -979,6 +1189,11 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		Assert.notNull(query, "Query must not be 'null'");
 		Assert.notNull(requestMethod, "RequestMethod must not be 'null'");
 
+		return doQuerySolr(collectionName, constructSolrQuery(query, clazz), getSolrRequestMethod(requestMethod));
+	}
+
+	private SolrQuery constructSolrQuery(SolrDataQuery query, Class<?> clazz) {
+
 		QueryParser parser = null;
 		if(query instanceof AbstractQueryDecorator) {
 			parser = queryParsers.getForClass((Class) ((AbstractQueryDecorator) query).getQueryType());
@@ -995,33 +1210,126 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 			}
 		}
 
+		return solrQuery;
+	}
+
+	private QueryResponse doQuerySolr(String collectionName, SolrQuery solrQuery, SolrRequest.METHOD method) {
+
 		LOGGER.debug("Executing query '" + solrQuery + "' against solr.");
 
-		return executeSolrQuery(collectionName, solrQuery, getSolrRequestMethod(requestMethod));
+		return executeSolrQuery(collectionName, solrQuery, method);
 	}
 
 	final QueryResponse executeSolrQuery(final SolrQuery solrQuery, final SolrRequest.METHOD method) {
 
-		return execute(new SolrCallback<QueryResponse>() {
+		return executeCoalesced(null, solrQuery, method, new Supplier<QueryResponse>() {
+
 			@Override
-			public QueryResponse doInSolr(SolrClient solrClient) throws SolrServerException, IOException {
-				return solrClient.query(solrQuery, method);
+			public QueryResponse get() {
+
+				return execute(new SolrCallback<QueryResponse>() {
+					@Override
+					public QueryResponse doInSolr(SolrClient solrClient) throws SolrServerException, IOException {
+						return solrClient.query(solrQuery, method);
+					}
+				});
 			}
 		});
 	}
 
-	final QueryResponse executeSolrQuery(String collectionName, final SolrQuery solrQuery,
+	final QueryResponse executeSolrQuery(final String collectionName, final SolrQuery solrQuery,
 			final SolrRequest.METHOD method) {
 
-		return execute(collectionName, new CollectionCallback<QueryResponse>() {
+		return executeCoalesced(collectionName, solrQuery, method, new Supplier<QueryResponse>() {
 
 			@Override
-			public QueryResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
-				return solrClient.query(collection, solrQuery, method);
+			public QueryResponse get() {
+
+				return execute(collectionName, new CollectionCallback<QueryResponse>() {
+
+					@Override
+					public QueryResponse doInSolr(SolrClient solrClient, String collection)
+							throws SolrServerException, IOException {
+						return solrClient.query(collection, solrQuery, method);
+					}
+				});
 			}
 		});
 	}
 
+	/**
+	 * Run the given query unless an identical one is already in flight, in which case the caller waits for and shares
+	 * the {@link QueryResponse} of the latter. Only applies if {@link #setQueryCoalescing(boolean) query coalescing} is
+	 * enabled.
+	 */
+	private QueryResponse executeCoalesced(String collectionName, SolrQuery solrQuery, SolrRequest.METHOD method,
+			Supplier<QueryResponse> query) {
+
+		if (!queryCoalescing) {
+			return query.get();
+		}
+
+		QueryKey key = QueryKey.of(collectionName, solrQuery, method);
+		CompletableFuture<QueryResponse> response = new CompletableFuture<QueryResponse>();
+		CompletableFuture<QueryResponse> inFlight = inFlightQueries.putIfAbsent(key, response);
+
+		if (inFlight != null) {
+			return awaitInFlight(key, inFlight);
+		}
+
+		try {
+
+			QueryResponse result = query.get();
+			response.complete(result);
+			return result;
+		} catch (Throwable e) {
+
+			response.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlightQueries.remove(key, response);
+		}
+	}
+
+	private void invalidateCaches(String collectionName) {
+
+		nearCaches.markStale(collectionName);
+
+		QueryResultCache cache = this.queryResultCache;
+		if (cache != null) {
+
+			cacheInvalidations.incrementAndGet();
+			cache.evict(collectionName);
+		}
+	}
+
+	private void evictFromNearCaches(String collectionName, Collection<SolrInputDocument> documents) {
+
+		if (!nearCaches.isEmpty()) {
+			nearCaches.evictDocuments(collectionName, documents);
+		}
+	}
+
+	private static QueryResponse awaitInFlight(QueryKey key, CompletableFuture<QueryResponse> inFlight) {
+
+		try {
+			return inFlight.get();
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new UncategorizedSolrException("Interrupted while waiting for in-flight query " + key + ".", e);
+		} catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw new UncategorizedSolrException(e.getCause().getMessage(), e.getCause());
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.solr.core.SolrOperations#commit()
@@ -1037,13 +1345,18 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 	 */
 	public void commit(String collectionName) {
 
-		execute(collectionName, new CollectionCallback<UpdateResponse>() {
+		try {
+			execute(collectionName, new CollectionCallback<UpdateResponse>() {
 
-			@Override
-			public UpdateResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
-				return StringUtils.hasText(collection) ? solrClient.commit(collection) : solrClient.commit();
-			}
-		});
+				@Override
+				public UpdateResponse doInSolr(SolrClient solrClient, String collection)
+						throws SolrServerException, IOException {
+					return StringUtils.hasText(collection) ? solrClient.commit(collection) : solrClient.commit();
+				}
+			});
+		} finally {
+			invalidateCaches(collectionName);
+		}
 	}
 
 	/*
@@ -1061,14 +1374,19 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 	 */
 	public void softCommit(String collectionName) {
 
-		execute(collectionName, new CollectionCallback<UpdateResponse>() {
+		try {
+			execute(collectionName, new CollectionCallback<UpdateResponse>() {
 
-			@Override
-			public UpdateResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
-				return StringUtils.hasText(collection) ? solrClient.commit(collection, true, true, true)
-						: solrClient.commit(true, true, true);
-			}
-		});
+				@Override
+				public UpdateResponse doInSolr(SolrClient solrClient, String collection)
+						throws SolrServerException, IOException {
+					return StringUtils.hasText(collection) ? solrClient.commit(collection, true, true, true)
+							: solrClient.commit(true, true, true);
+				}
+			});
+		} finally {
+			invalidateCaches(collectionName);
+		}
 	}
 
 	/*
@@ -1086,13 +1404,18 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 	 */
 	public void rollback(String collectionName) {
 
-		execute(collectionName, new CollectionCallback<UpdateResponse>() {
+		try {
+			execute(collectionName, new CollectionCallback<UpdateResponse>() {
 
-			@Override
-			public UpdateResponse doInSolr(SolrClient solrClient, String collection) throws SolrServerException, IOException {
-				return StringUtils.hasText(collection) ? solrClient.rollback(collection) : solrClient.rollback();
-			}
-		});
+				@Override
+				public UpdateResponse doInSolr(SolrClient solrClient, String collection)
+						throws SolrServerException, IOException {
+					return StringUtils.hasText(collection) ? solrClient.rollback(collection) : solrClient.rollback();
+				}
+			});
+		} finally {
+			invalidateCaches(collectionName);
+		}
 	}
 
 	/*
@@ -1124,26 +1447,275 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 	 * @see org.springframework.data.solr.core.SolrOperations#queryForCursor(org.springframework.data.solr.core.query.Query, java.lang.Class)
 	 */
 	@Override
-	@SuppressWarnings("resource")
 	public <T> Cursor<T> queryForCursor(Query query, final Class<T> clazz) {
+		return queryForCursor(getSolrCoreOrBeanCollection(clazz), query, clazz);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.SolrOperations#queryForCursor(java.lang.String, org.springframework.data.solr.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> Cursor<T> queryForCursor(String collectionName, Query query, Class<T> clazz) {
+		return queryForCursor(collectionName, query, clazz, 0);
+	}
 
-		return new DelegatingCursor<T>(queryParsers.getForClass(query.getClass()).constructSolrQuery(query)) {
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.SolrOperations#queryForCursor(java.lang.String, org.springframework.data.solr.core.query.Query, java.lang.Class, int)
+	 */
+	@Override
+	@SuppressWarnings("resource")
+	public <T> Cursor<T> queryForCursor(final String collectionName, Query query, final Class<T> clazz, int readAhead) {
 
-			@Override
-			protected org.springframework.data.solr.core.query.result.DelegatingCursor.PartialResult<T> doLoad(
-					SolrQuery nativeQuery) {
+		Assert.notNull(query, "Query must not be 'null'.");
+		Assert.notNull(clazz, "Target class must not be 'null'.");
+
+		SolrQuery solrQuery = queryParsers.getForClass(query.getClass()).constructSolrQuery(query);
 
-				QueryResponse response = executeSolrQuery(nativeQuery, getSolrRequestMethod(getDefaultRequestMethod()));
-				if (response == null) {
-					return new PartialResult<T>("", Collections.<T> emptyList());
+		if (readAhead <= 0) {
+
+			return new DelegatingCursor<T>(solrQuery) {
+
+				@Override
+				protected PartialResult<T> doLoad(SolrQuery nativeQuery) {
+					return loadCursorPage(collectionName, nativeQuery, clazz);
 				}
 
-				return new PartialResult<T>(response.getNextCursorMark(), convertQueryResponseToBeans(response, clazz));
+			}.open();
+		}
+
+		return new PrefetchingCursor<T>(solrQuery, getTaskExecutor(), readAhead) {
+
+			@Override
+			protected PartialResult<T> doLoad(SolrQuery nativeQuery) {
+				return loadCursorPage(collectionName, nativeQuery, clazz);
 			}
 
 		}.open();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.SolrOperations#queryForPartitionedStream(java.lang.String, org.springframework.data.solr.core.query.Query, java.lang.Class, org.springframework.data.solr.core.CursorPartitioning)
+	 */
+	@Override
+	public <T> Stream<T> queryForPartitionedStream(final String collectionName, Query query, final Class<T> clazz,
+			CursorPartitioning partitioning) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+		Assert.notNull(clazz, "Target class must not be 'null'.");
+		Assert.notNull(partitioning, "Partitioning must not be 'null'.");
+
+		String uniqueKeyField = getRequiredUniqueKeyField(clazz);
+		SolrQuery solrQuery = constructCursorQuery(query, uniqueKeyField);
+		List<SolrQuery> partitions = partitioning.partition(solrQuery, uniqueKeyField);
+
+		// each partition keeps one thread busy until consumed, so they must not compete for the shared task executor
+		ExecutorService partitionExecutor = createPartitionExecutor(partitions.size());
+
+		final List<PrefetchingCursor<T>> cursors = new ArrayList<PrefetchingCursor<T>>();
+		try {
+			for (SolrQuery partition : partitions) {
+
+				cursors.add(new PrefetchingCursor<T>(partition, partitionExecutor, 1) {
+
+					@Override
+					protected PartialResult<T> doLoad(SolrQuery nativeQuery) {
+						return loadCursorPage(collectionName, nativeQuery, clazz);
+					}
+
+				}.prefetch());
+			}
+
+			for (PrefetchingCursor<T> cursor : cursors) {
+				cursor.open();
+			}
+		} catch (RuntimeException e) {
+			new PartitionedCursorSpliterator<T>(cursors).close();
+			throw e;
+		} finally {
+			// let the threads terminate once their partition has been loaded
+			partitionExecutor.shutdown();
+		}
+
+		return StreamSupport.stream(new PartitionedCursorSpliterator<T>(cursors), true).onClose(new Runnable() {
+
+			@Override
+			public void run() {
+				new PartitionedCursorSpliterator<T>(cursors).close();
+			}
+		});
+	}
+
+	private static ExecutorService createPartitionExecutor(int partitions) {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solr-template-partition-");
+		threadFactory.setDaemon(true);
+
+		int threads = Math.max(1, partitions);
+		return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+				threadFactory);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.SolrOperations#queryAndConsume(java.lang.String, org.springframework.data.solr.core.query.Query, java.lang.Class, java.util.function.Consumer)
+	 */
+	@Override
+	public <T> long queryAndConsume(String collectionName, Query query, final Class<T> clazz,
+			final Consumer<? super T> consumer) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+		Assert.notNull(clazz, "Target class must not be 'null'.");
+		Assert.notNull(consumer, "Consumer must not be 'null'.");
+
+		final SolrQuery solrQuery = constructSolrQuery(query, clazz);
+		final long[] numFound = new long[1];
+		final RuntimeException[] consumerError = new RuntimeException[1];
+
+		final StreamingResponseCallback callback = new StreamingResponseCallback() {
+
+			@Override
+			public void streamSolrDocument(SolrDocument document) {
+
+				try {
+					consumer.accept(convertSolrDocumentToBean(document, clazz));
+				} catch (RuntimeException e) {
+
+					consumerError[0] = e;
+					throw e;
+				}
+			}
+
+			@Override
+			public void streamDocListInfo(long found, long start, Float maxScore) {
+				numFound[0] = found;
+			}
+		};
+
+		LOGGER.debug("Executing streaming query '" + solrQuery + "' against solr.");
+
+		try {
+			execute(collectionName, new CollectionCallback<QueryResponse>() {
+
+				@Override
+				public QueryResponse doInSolr(SolrClient solrClient, String collection)
+						throws SolrServerException, IOException {
+
+					return StringUtils.hasText(collection)
+							? solrClient.queryAndStreamResponse(collection, solrQuery, callback)
+							: solrClient.queryAndStreamResponse(solrQuery, callback);
+				}
+			});
+		} catch (RuntimeException e) {
+
+			if (consumerError[0] != null) {
+				throw consumerError[0];
+			}
+			throw e;
+		}
+
+		return numFound[0];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.SolrOperations#queryForStream(java.lang.String, org.springframework.data.solr.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<T> queryForStream(final String collectionName, final Query query, final Class<T> clazz) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+		Assert.notNull(clazz, "Target class must not be 'null'.");
+
+		final StreamingResultSpliterator<T> spliterator = new StreamingResultSpliterator<T>(STREAMING_BUFFER_SIZE,
+				STREAMING_ABANDON_TIMEOUT);
+		try {
+			getStreamingExecutor().execute(new Runnable() {
+
+				@Override
+				public void run() {
+
+					try {
+						queryAndConsume(collectionName, query, clazz, spliterator.producer());
+						spliterator.complete();
+					} catch (Throwable e) {
+						if (!spliterator.isCancelled()) {
+							spliterator.fail(e);
+						}
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			spliterator.fail(new UncategorizedSolrException("Streaming executor rejected streaming query.", e));
+		}
+
+		return StreamSupport.stream(spliterator, false).onClose(new Runnable() {
+
+			@Override
+			public void run() {
+				spliterator.cancel();
+			}
+		});
+	}
+
+	/**
+	 * Resolve the name of the field holding the unique key for given type.
+	 *
+	 * @param clazz must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws InvalidDataAccessApiUsageException if the type does not have an id property.
+	 * @since 2.1
+	 */
+	String getRequiredUniqueKeyField(Class<?> clazz) {
+
+		SolrPersistentProperty idProperty = mappingContext.getPersistentEntity(clazz).getIdProperty();
+		if (idProperty == null) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Cannot use cursor for type %s without id property.", clazz.getName()));
+		}
+		return idProperty.getFieldName();
+	}
+
+	/**
+	 * Create the {@link SolrQuery} for given {@link Query} making sure the result is sorted by the unique key as required
+	 * for cursor based paging.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param uniqueKeyField must not be {@literal null}.
+	 * @return
+	 * @since 2.1
+	 */
+	SolrQuery constructCursorQuery(Query query, String uniqueKeyField) {
+
+		SolrQuery solrQuery = queryParsers.getForClass(query.getClass()).constructSolrQuery(query);
+		appendUniqueKeySortIfMissing(solrQuery, uniqueKeyField);
+		return solrQuery;
+	}
+
+	private static void appendUniqueKeySortIfMissing(SolrQuery solrQuery, String uniqueKeyField) {
+
+		for (SolrQuery.SortClause sortClause : solrQuery.getSorts()) {
+			if (uniqueKeyField.equals(sortClause.getItem())) {
+				return;
+			}
+		}
+		solrQuery.addSort(SolrQuery.SortClause.asc(uniqueKeyField));
+	}
+
+	<T> PartialResult<T> loadCursorPage(String collectionName, SolrQuery nativeQuery, Class<T> clazz) {
+
+		SolrRequest.METHOD method = getSolrRequestMethod(getDefaultRequestMethod());
+		QueryResponse response = StringUtils.hasText(collectionName)
+				? executeSolrQuery(collectionName, nativeQuery, method) : executeSolrQuery(nativeQuery, method);
+		if (response == null) {
+			return new PartialResult<T>("", Collections.<T> emptyList());
+		}
+
+		return new PartialResult<T>(response.getNextCursorMark(), convertQueryResponseToBeans(response, clazz));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.solr.core.SolrOperations#getById(java.util.Collection, java.lang.Class)
@@ -1195,6 +1767,20 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 
 		Assert.notNull(id, "Id must not be 'null'.");
 
+		DocumentNearCache nearCache = nearCaches.get(clazz);
+		if (nearCache != null) {
+			return clazz.cast(nearCache.getById(collectionName, id));
+		}
+
+		GetByIdBatcher batcher = this.getByIdBatcher;
+		if (batcher != null) {
+
+			SolrPersistentProperty idProperty = mappingContext.getPersistentEntity(clazz).getIdProperty();
+			if (idProperty != null) {
+				return batcher.getById(collectionName, id, clazz, idProperty.getFieldName());
+			}
+		}
+
 		Collection<T> result = getById(collectionName, Collections.singletonList(id), clazz);
 		if (result.isEmpty()) {
 			return null;
@@ -1202,6 +1788,15 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return result.iterator().next();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.SolrOperations#createBulkIndexer(org.springframework.data.solr.core.BulkIndexerOptions)
+	 */
+	@Override
+	public BulkSolrIndexer createBulkIndexer(BulkIndexerOptions options) {
+		return new DefaultBulkSolrIndexer(this, options != null ? options : BulkIndexerOptions.defaults());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.solr.core.SolrOperations#getSchemaOperations(java.lang.String)
@@ -1239,6 +1834,17 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return getConverter().read(targetClass, document);
 	}
 
+	<T> Converter<SolrDocument, T> getDocumentToBeanConverter(final Class<T> targetClass) {
+
+		return new Converter<SolrDocument, T>() {
+
+			@Override
+			public T convert(SolrDocument source) {
+				return convertSolrDocumentToBean(source, targetClass);
+			}
+		};
+	}
+
 	protected void assertNoCollection(Object o) {
 		if (null != o && (o.getClass().isArray() || ITERABLE_CLASSES.contains(o.getClass().getName()))) {
 			throw new IllegalArgumentException("Collections are not supported for this operation");
@@ -1273,7 +1879,7 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return EXCEPTION_TRANSLATOR;
 	}
 
-	private String getSolrCoreOrBeanCollection(Class<?> clazz) {
+	String getSolrCoreOrBeanCollection(Class<?> clazz) {
 		return StringUtils.hasText(solrCore) ? solrCore : mappingContext.getPersistentEntity(clazz).getSolrCoreName();
 	}
 
@@ -1381,4 +1987,239 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 	public RequestMethod getDefaultRequestMethod() {
 		return defaultRequestMethod;
 	}
+
+	/**
+	 * Set the {@link Executor} used for background work like prefetching cursor pages. Defaults to a pool of at most
+	 * {@link #DEFAULT_TASK_EXECUTOR_THREADS} daemon threads queueing up to
+	 * {@link #DEFAULT_TASK_EXECUTOR_QUEUE_CAPACITY} tasks, which is shut down on {@link #destroy()}. Tasks rejected by
+	 * the executor are run synchronously where possible, e.g. cursors load pages without prefetching, or fail otherwise.
+	 *
+	 * @param taskExecutor can be {@literal null}.
+	 * @since 2.1
+	 */
+	public synchronized void setTaskExecutor(Executor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Set the {@link Executor} running the producers of {@link #queryForStream(String, Query, Class) streams}. Since a
+	 * producer occupies its thread until the stream has been consumed, closed or abandoned, streams do not use the
+	 * {@link #setTaskExecutor(Executor) task executor}. Defaults to a pool of daemon threads growing on demand, which is
+	 * shut down on {@link #destroy()}. Streams fail if the executor rejects their producer.
+	 *
+	 * @param streamingExecutor can be {@literal null}.
+	 * @since 2.1
+	 */
+	public synchronized void setStreamingExecutor(Executor streamingExecutor) {
+		this.streamingExecutor = streamingExecutor;
+	}
+
+	/**
+	 * @return never {@literal null}.
+	 * @since 2.1
+	 */
+	public synchronized Executor getStreamingExecutor() {
+
+		if (this.streamingExecutor == null) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solr-template-stream-");
+			threadFactory.setDaemon(true);
+
+			ExecutorService executor = Executors.newCachedThreadPool(threadFactory);
+			this.defaultStreamingExecutor = executor;
+			this.streamingExecutor = executor;
+		}
+		return this.streamingExecutor;
+	}
+
+	/**
+	 * @return never {@literal null}.
+	 * @since 2.1
+	 */
+	public synchronized Executor getTaskExecutor() {
+
+		if (this.taskExecutor == null) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solr-template-");
+			threadFactory.setDaemon(true);
+
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_TASK_EXECUTOR_THREADS,
+					DEFAULT_TASK_EXECUTOR_THREADS, 60, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(DEFAULT_TASK_EXECUTOR_QUEUE_CAPACITY), threadFactory);
+			executor.allowCoreThreadTimeOut(true);
+
+			this.defaultTaskExecutor = executor;
+			this.taskExecutor = executor;
+		}
+		return this.taskExecutor;
+	}
+
+	/**
+	 * Enable sharing of in-flight query responses. When enabled, a query issued while an identical one (same collection,
+	 * request method and parameters) is still running does not hit the server but waits for and reuses the response of
+	 * the running one. Since responses are never reused once the query completed, this does not introduce staleness.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param queryCoalescing
+	 * @since 2.1
+	 */
+	public void setQueryCoalescing(boolean queryCoalescing) {
+		this.queryCoalescing = queryCoalescing;
+	}
+
+	/**
+	 * @return {@literal true} if identical concurrent queries share one response.
+	 * @since 2.1
+	 */
+	public boolean isQueryCoalescing() {
+		return queryCoalescing;
+	}
+
+	/**
+	 * Keep the documents of result pages and group results and convert them to beans on first access instead of
+	 * converting the entire response up front. Pages used for facets or {@literal numFound} only, or rendered partially,
+	 * then only convert the documents actually accessed. Highlight pages still convert all documents. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param lazyBeanConversion
+	 * @since 2.1
+	 */
+	public void setLazyBeanConversion(boolean lazyBeanConversion) {
+		this.lazyBeanConversion = lazyBeanConversion;
+	}
+
+	/**
+	 * @return {@literal true} if result pages convert documents on first access.
+	 * @since 2.1
+	 */
+	public boolean isLazyBeanConversion() {
+		return lazyBeanConversion;
+	}
+
+	/**
+	 * Set the {@link QueryResultCache} used for {@literal queryForPage}, {@literal queryForFacetPage},
+	 * {@literal queryForHighlightPage} and {@literal queryForFacetAndHighlightPage}. Entries for a collection are evicted
+	 * whenever {@literal commit}, {@literal softCommit} or {@literal rollback} is issued for it through this template.
+	 * Changes made visible by other means (eg. {@literal commitWithin} or server side auto commits) are only picked up
+	 * once cached entries expire. Defaults to {@literal null}, not caching any results.
+	 * <p>
+	 * Every caller receives its own page, but the entities and result entries it holds are shared with all other callers
+	 * hitting the same entry and must be treated as read only.
+	 *
+	 * @param queryResultCache can be {@literal null}.
+	 * @since 2.1
+	 */
+	public void setQueryResultCache(QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * @return the {@link QueryResultCache} in use. Can be {@literal null}.
+	 * @since 2.1
+	 */
+	public QueryResultCache getQueryResultCache() {
+		return queryResultCache;
+	}
+
+	/**
+	 * Enable batching of single id lookups via {@link #getById(String, Serializable, Class)}. Lookups for the same
+	 * collection and type arriving within the given window are sent as one realtime get request, which is dispatched
+	 * early once {@code maxBatchSize} distinct ids have been collected. Each caller blocks until its batch has been
+	 * loaded, so a single lookup is delayed by up to the window. Lookups for types without id property are not batched.
+	 *
+	 * @param window must not be {@literal null} and positive.
+	 * @param maxBatchSize must be greater than zero.
+	 * @since 2.1
+	 */
+	public void enableGetByIdBatching(Duration window, int maxBatchSize) {
+
+		GetByIdBatcher previous = this.getByIdBatcher;
+		this.getByIdBatcher = new GetByIdBatcher(this, window, maxBatchSize);
+
+		if (previous != null) {
+			previous.destroy();
+		}
+	}
+
+	/**
+	 * Disable batching of single id lookups. Outstanding batches are sent immediately.
+	 *
+	 * @since 2.1
+	 */
+	public void disableGetByIdBatching() {
+
+		GetByIdBatcher previous = this.getByIdBatcher;
+		this.getByIdBatcher = null;
+
+		if (previous != null) {
+			previous.destroy();
+		}
+	}
+
+	/**
+	 * Enable a near cache for objects of given type loaded via {@link #getById(String, Serializable, Class)}.
+	 * Objects are stored along with their {@literal _version_} and served locally until the revalidation interval
+	 * elapsed or a {@literal commit}, {@literal softCommit}, {@literal rollback} or delete by query has been issued for
+	 * the collection through this template. Stale entries of a collection are then revalidated using a single realtime
+	 * get only fetching unique key and version. Writes via {@literal saveBean}, {@literal saveDocument} and
+	 * {@literal deleteById} evict affected entries immediately. Cached objects are shared between callers and must be
+	 * treated as read only, since modifying a returned object changes what every later caller gets.
+	 *
+	 * @param type must not be {@literal null} and must have an id property.
+	 * @param revalidationInterval must not be {@literal null} and positive.
+	 * @param maxEntries must be greater than zero.
+	 * @since 2.1
+	 */
+	public void enableNearCache(Class<?> type, Duration revalidationInterval, int maxEntries) {
+
+		Assert.notNull(type, "Type must not be 'null'.");
+
+		SolrPersistentProperty idProperty = mappingContext.getPersistentEntity(type).getIdProperty();
+		Assert.notNull(idProperty, String.format("Type %s must have an id property.", type.getName()));
+
+		nearCaches.put(type, new DocumentNearCache(this, type, idProperty.getFieldName(), revalidationInterval,
+				maxEntries, Clock.systemUTC()));
+	}
+
+	/**
+	 * Disable the near cache for given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @since 2.1
+	 */
+	public void disableNearCache(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be 'null'.");
+		nearCaches.remove(type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		disableGetByIdBatching();
+
+		synchronized (this) {
+			if (defaultTaskExecutor != null) {
+
+				defaultTaskExecutor.shutdownNow();
+				if (taskExecutor == defaultTaskExecutor) {
+					taskExecutor = null;
+				}
+				defaultTaskExecutor = null;
+			}
+
+			if (defaultStreamingExecutor != null) {
+
+				defaultStreamingExecutor.shutdownNow();
+				if (streamingExecutor == defaultStreamingExecutor) {
+					streamingExecutor = null;
+				}
+				defaultStreamingExecutor = null;
+			}
+		}
+	}
 }
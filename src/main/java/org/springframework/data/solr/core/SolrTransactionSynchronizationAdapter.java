@@ -29,12 +29,29 @@ public class SolrTransactionSynchronizationAdapter extends TransactionSynchroniz
 
 	private Map<Integer, CompletionDelegate> delegates = new HashMap<Integer, CompletionDelegate>(2);
 	private final SolrOperations solrOperations;
+	private TransactionalWriteBuffer writeBuffer;
+	private Object writeBufferResourceKey;
 
 	SolrTransactionSynchronizationAdapter(SolrOperations solrOperations) {
 		super();
 		this.solrOperations = solrOperations;
 	}
 
+	/**
+	 * Flushes the {@link TransactionalWriteBuffer}, if any, so that all buffered writes are sent and committed before
+	 * the surrounding transaction completes.
+	 *
+	 * @see org.springframework.transaction.support.TransactionSynchronizationAdapter#beforeCommit(boolean)
+	 * @since 2.1
+	 */
+	@Override
+	public void beforeCommit(boolean readOnly) {
+
+		if (this.writeBuffer != null) {
+			this.writeBuffer.flush(this.solrOperations);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.transaction.support.TransactionSynchronizationAdapter#afterCompletion(int)
@@ -42,6 +59,14 @@ public class SolrTransactionSynchronizationAdapter extends TransactionSynchroniz
 	@Override
 	public void afterCompletion(int status) {
 
+		if (this.writeBuffer != null) {
+
+			this.writeBuffer.clear();
+			if (TransactionSynchronizationManager.hasResource(this.writeBufferResourceKey)) {
+				TransactionSynchronizationManager.unbindResource(this.writeBufferResourceKey);
+			}
+		}
+
 		CompletionDelegate delegate = this.delegates.get(Integer.valueOf(status));
 		if (delegate != null) {
 			delegate.execute(this.solrOperations);
@@ -56,6 +81,12 @@ public class SolrTransactionSynchronizationAdapter extends TransactionSynchroniz
 		this.delegates.put(Integer.valueOf(transactionStatus), completionDelegate);
 	}
 
+	void setWriteBuffer(TransactionalWriteBuffer writeBuffer, Object resourceKey) {
+
+		this.writeBuffer = writeBuffer;
+		this.writeBufferResourceKey = resourceKey;
+	}
+
 	public static interface CompletionDelegate {
 
 		void execute(SolrOperations solrOperations);
@@ -54,4 +54,23 @@ public class SolrTransactionSynchronizationAdapterBuilder {
 		return this.adapter;
 	}
 
+	/**
+	 * Creates a {@link SolrTransactionSynchronizationAdapter} flushing the given {@link TransactionalWriteBuffer} before
+	 * commit and discarding it on completion. No {@link SolrOperations#rollback()} is issued on completion since nothing
+	 * has been sent before the transaction commits. The buffer rolls back on its own if flushing it fails.
+	 *
+	 * @param writeBuffer must not be {@literal null}.
+	 * @param resourceKey the key the buffer is bound to the transaction with. Must not be {@literal null}.
+	 * @return
+	 * @since 2.1
+	 */
+	SolrTransactionSynchronizationAdapter withWriteBuffer(TransactionalWriteBuffer writeBuffer, Object resourceKey) {
+
+		Assert.notNull(writeBuffer, "WriteBuffer must not be 'null'.");
+		Assert.notNull(resourceKey, "ResourceKey must not be 'null'.");
+
+		this.adapter.setWriteBuffer(writeBuffer, resourceKey);
+		return this.adapter;
+	}
+
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.time.Duration;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.data.solr.UncategorizedSolrException;
+import org.springframework.util.Assert;
+
+/**
+ * {@link java.util.Spliterator} handing over objects produced by a streaming response parser running in another
+ * thread. Producer and consumer are decoupled via a bounded queue, so at most {@code capacity} converted objects are
+ * held in memory at any time. {@link #cancel() Cancelling} makes the producer abort parsing the response.
+ * <p>
+ * A producer unable to hand over an object for longer than the abandon timeout, because the consumer neither reads nor
+ * closes the stream, gives up as if cancelled so that it does not hold on to the response forever. A consumer coming
+ * back afterwards fails once the objects handed over so far have been consumed.
+ *
+ * @since 2.1
+ * @param <T>
+ */
+class StreamingResultSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+	private static final Object END = new Object();
+	private static final long POLL_INTERVAL_MILLIS = 100;
+
+	private final BlockingQueue<Object> queue;
+	private final long abandonTimeoutNanos;
+	private volatile boolean cancelled;
+	private volatile boolean abandoned;
+	private boolean done;
+
+	/**
+	 * @param capacity must be greater than zero.
+	 * @param abandonTimeout must not be {@literal null} and positive.
+	 */
+	StreamingResultSpliterator(int capacity, Duration abandonTimeout) {
+
+		super(Long.MAX_VALUE, ORDERED | NONNULL);
+
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero.");
+		Assert.notNull(abandonTimeout, "AbandonTimeout must not be 'null'.");
+		Assert.isTrue(!abandonTimeout.isNegative() && !abandonTimeout.isZero(), "AbandonTimeout must be positive.");
+
+		this.queue = new ArrayBlockingQueue<Object>(capacity);
+		this.abandonTimeoutNanos = abandonTimeout.toNanos();
+	}
+
+	/**
+	 * @return a {@link Consumer} to be called by the producer for each object read. Throws
+	 *         {@link CancellationException} once the spliterator has been cancelled or abandoned.
+	 */
+	Consumer<T> producer() {
+
+		return new Consumer<T>() {
+
+			@Override
+			public void accept(T value) {
+				enqueue(value);
+			}
+		};
+	}
+
+	/**
+	 * Signal that the producer read all objects.
+	 */
+	void complete() {
+
+		try {
+			enqueue(END);
+		} catch (CancellationException e) {
+			// nobody listening anymore
+		}
+	}
+
+	/**
+	 * Signal that the producer failed. The error is rethrown to the consumer once all objects read so far are consumed.
+	 *
+	 * @param error must not be {@literal null}.
+	 */
+	void fail(Throwable error) {
+
+		if (abandoned) {
+			return;
+		}
+
+		try {
+			enqueue(new Failure(error));
+		} catch (CancellationException e) {
+			// nobody listening anymore
+		}
+	}
+
+	/**
+	 * Stop consuming. The producer is aborted on its next attempt to hand over an object.
+	 */
+	void cancel() {
+
+		cancelled = true;
+		queue.clear();
+	}
+
+	/**
+	 * @return {@literal true} if {@link #cancel()} has been called or the consumer abandoned the stream.
+	 */
+	boolean isCancelled() {
+		return cancelled || abandoned;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean tryAdvance(Consumer<? super T> action) {
+
+		if (done) {
+			return false;
+		}
+
+		Object next;
+		try {
+
+			next = queue.poll();
+			while (next == null) {
+
+				if (abandoned) {
+
+					done = true;
+					throw new UncategorizedSolrException(String.format(
+							"Streamed response has been abandoned since the stream was not consumed within %s ms.",
+							TimeUnit.NANOSECONDS.toMillis(abandonTimeoutNanos)), null);
+				}
+				next = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+			}
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new UncategorizedSolrException("Interrupted while waiting for streamed results.", e);
+		}
+
+		if (next == END) {
+
+			done = true;
+			return false;
+		}
+
+		if (next instanceof Failure) {
+
+			done = true;
+			((Failure) next).rethrow();
+		}
+
+		action.accept((T) next);
+		return true;
+	}
+
+	private void enqueue(Object value) {
+
+		long start = System.nanoTime();
+		try {
+			while (!queue.offer(value, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+
+				if (cancelled) {
+					throw new CancellationException("Stream has been closed.");
+				}
+				if (System.nanoTime() - start >= abandonTimeoutNanos) {
+
+					abandoned = true;
+					throw new CancellationException("Stream has been abandoned.");
+				}
+			}
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Interrupted while handing over streamed result.");
+		}
+
+		if (cancelled) {
+			throw new CancellationException("Stream has been closed.");
+		}
+	}
+
+	private static class Failure {
+
+		private final Throwable error;
+
+		Failure(Throwable error) {
+			this.error = error;
+		}
+
+		void rethrow() {
+
+			if (error instanceof RuntimeException) {
+				throw (RuntimeException) error;
+			}
+			if (error instanceof Error) {
+				throw (Error) error;
+			}
+			throw new UncategorizedSolrException(error.getMessage(), error);
+		}
+	}
+}
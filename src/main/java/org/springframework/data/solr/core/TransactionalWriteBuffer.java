@@ -0,0 +1,300 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.client.solrj.response.UpdateResponse;
+import org.apache.solr.common.SolrInputDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.solr.core.query.SolrDataQuery;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Collects write operations issued within a transaction instead of sending them right away. Documents and deletes by
+ * id are deduplicated per collection so that only the last write for a given id is sent. The buffer is flushed using
+ * one update request per collection before the transaction commits, followed by one commit per collection issued via
+ * the {@link CommitStrategy} the buffer has been created with. A transaction rolled back before that point discards the
+ * buffer without contacting the server. <br />
+ * If sending the buffer fails part way, a {@link SolrOperations#rollback(String) rollback} is sent to every collection
+ * written to so far before the error is rethrown. Note that the server discards all uncommitted changes of those
+ * collections, including ones sent by other clients, and that changes sent with {@literal commitWithin} may have been
+ * committed already. <br />
+ * Use {@link #getOrCreate(SolrOperations, CommitStrategy)} to obtain the buffer bound to the current transaction.
+ *
+ * @since 2.1
+ */
+public class TransactionalWriteBuffer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TransactionalWriteBuffer.class);
+	private static final Object DELETE = new Object();
+
+	private final CommitStrategy commitStrategy;
+	private final List<Object> segments = new ArrayList<Object>();
+	private final Map<String, WriteSegment> openSegments = new HashMap<String, WriteSegment>();
+
+	TransactionalWriteBuffer(CommitStrategy commitStrategy) {
+		this.commitStrategy = commitStrategy;
+	}
+
+	/**
+	 * Get the {@link TransactionalWriteBuffer} bound to the current transaction for the given {@link SolrOperations} or
+	 * create and bind a new one committing via {@link CommitStrategy#explicit()}. Requires active transaction
+	 * synchronization.
+	 *
+	 * @param solrOperations must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public static TransactionalWriteBuffer getOrCreate(SolrOperations solrOperations) {
+		return getOrCreate(solrOperations, CommitStrategy.explicit());
+	}
+
+	/**
+	 * Get the {@link TransactionalWriteBuffer} bound to the current transaction for the given {@link SolrOperations} or
+	 * create and bind a new one committing via the given {@link CommitStrategy}. The strategy is only used when creating
+	 * the buffer, so the first caller within a transaction determines how it is committed. Requires active transaction
+	 * synchronization.
+	 *
+	 * @param solrOperations must not be {@literal null}.
+	 * @param commitStrategy must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public static TransactionalWriteBuffer getOrCreate(SolrOperations solrOperations, CommitStrategy commitStrategy) {
+
+		Assert.notNull(solrOperations, "SolrOperations must not be 'null'.");
+		Assert.notNull(commitStrategy, "CommitStrategy must not be 'null'.");
+		Assert.state(TransactionSynchronizationManager.isSynchronizationActive(),
+				"Transaction synchronization is not active.");
+
+		ResourceKey key = new ResourceKey(solrOperations);
+		TransactionalWriteBuffer buffer = (TransactionalWriteBuffer) TransactionSynchronizationManager.getResource(key);
+		if (buffer == null) {
+
+			buffer = new TransactionalWriteBuffer(commitStrategy);
+			TransactionSynchronizationManager.bindResource(key, buffer);
+			SolrTransactionSynchronizationAdapterBuilder.forOperations(solrOperations).withWriteBuffer(buffer, key)
+					.register();
+		}
+		return buffer;
+	}
+
+	/**
+	 * Buffer the given document replacing previous writes for the same id.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @param document must not be {@literal null}.
+	 */
+	public void add(String collectionName, String id, SolrInputDocument document) {
+
+		Assert.notNull(id, "Id must not be 'null'.");
+		Assert.notNull(document, "Document must not be 'null'.");
+
+		openSegment(collectionName).put(id, document);
+	}
+
+	/**
+	 * Buffer deletion of documents with the given ids replacing previous writes for the same ids.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 */
+	public void deleteById(String collectionName, Collection<String> ids) {
+
+		Assert.notNull(ids, "Ids must not be 'null'.");
+
+		WriteSegment segment = openSegment(collectionName);
+		for (String id : ids) {
+			segment.put(id, DELETE);
+		}
+	}
+
+	/**
+	 * Buffer deletion of all documents matching the given query. Since the query cannot be matched against buffered
+	 * documents, writes issued before and after are not merged with each other.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 */
+	public void delete(String collectionName, SolrDataQuery query) {
+
+		Assert.notNull(query, "Query must not be 'null'.");
+
+		openSegments.remove(collectionName);
+		segments.add(new DeleteByQuerySegment(collectionName, query));
+	}
+
+	/**
+	 * @return {@literal true} if no writes have been buffered.
+	 */
+	public boolean isEmpty() {
+		return segments.isEmpty();
+	}
+
+	/**
+	 * Send all buffered writes in the order they have been issued and commit each affected collection once using the
+	 * {@link CommitStrategy}. Roll back all affected collections in case sending fails.
+	 *
+	 * @param solrOperations must not be {@literal null}.
+	 */
+	void flush(SolrOperations solrOperations) {
+
+		int commitWithin = commitStrategy.getCommitWithin();
+		Set<String> collections = new LinkedHashSet<String>();
+		try {
+
+			for (Object segment : segments) {
+
+				if (segment instanceof WriteSegment) {
+					collections.add(((WriteSegment) segment).collectionName);
+					((WriteSegment) segment).send(solrOperations, commitWithin);
+				} else {
+					DeleteByQuerySegment deleteByQuery = (DeleteByQuerySegment) segment;
+					collections.add(deleteByQuery.collectionName);
+					solrOperations.delete(deleteByQuery.collectionName, deleteByQuery.query, commitWithin);
+				}
+			}
+		} catch (RuntimeException e) {
+
+			rollback(solrOperations, collections);
+			throw e;
+		}
+
+		clear();
+
+		for (String collection : collections) {
+			commitStrategy.commit(solrOperations, collection);
+		}
+	}
+
+	/**
+	 * Discard all buffered writes.
+	 */
+	void clear() {
+
+		segments.clear();
+		openSegments.clear();
+	}
+
+	private static void rollback(SolrOperations solrOperations, Collection<String> collections) {
+
+		for (String collection : collections) {
+			try {
+				solrOperations.rollback(collection);
+			} catch (DataAccessException e) {
+				LOGGER.warn(String.format("Failed to roll back collection '%s'.", collection), e);
+			}
+		}
+	}
+
+	private Map<String, Object> openSegment(String collectionName) {
+
+		WriteSegment segment = openSegments.get(collectionName);
+		if (segment == null) {
+
+			segment = new WriteSegment(collectionName);
+			openSegments.put(collectionName, segment);
+			segments.add(segment);
+		}
+		return segment.writes;
+	}
+
+	/**
+	 * Adds and deletes by id for one collection. Contains at most one write per id.
+	 */
+	private static class WriteSegment {
+
+		private final String collectionName;
+		private final Map<String, Object> writes = new LinkedHashMap<String, Object>();
+
+		WriteSegment(String collectionName) {
+			this.collectionName = collectionName;
+		}
+
+		void send(SolrOperations solrOperations, int commitWithin) {
+
+			final UpdateRequest request = new UpdateRequest();
+			request.setCommitWithin(commitWithin);
+			for (Map.Entry<String, Object> entry : writes.entrySet()) {
+
+				if (entry.getValue() == DELETE) {
+					request.deleteById(entry.getKey());
+				} else {
+					request.add((SolrInputDocument) entry.getValue());
+				}
+			}
+
+			solrOperations.execute(collectionName, new CollectionCallback<UpdateResponse>() {
+
+				@Override
+				public UpdateResponse doInSolr(SolrClient solrClient, String collection)
+						throws SolrServerException, IOException {
+					return StringUtils.hasText(collection) ? request.process(solrClient, collection)
+							: request.process(solrClient);
+				}
+			});
+		}
+	}
+
+	private static class DeleteByQuerySegment {
+
+		private final String collectionName;
+		private final SolrDataQuery query;
+
+		DeleteByQuerySegment(String collectionName, SolrDataQuery query) {
+
+			this.collectionName = collectionName;
+			this.query = query;
+		}
+	}
+
+	/**
+	 * Key used to bind the buffer to the current transaction. Uses identity of the {@link SolrOperations}.
+	 */
+	static class ResourceKey {
+
+		private final SolrOperations solrOperations;
+
+		ResourceKey(SolrOperations solrOperations) {
+			this.solrOperations = solrOperations;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof ResourceKey && ((ResourceKey) obj).solrOperations == this.solrOperations;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(solrOperations);
+		}
+	}
+}
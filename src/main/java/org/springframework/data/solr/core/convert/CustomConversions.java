@@ -51,6 +51,7 @@ public class CustomConversions {
 	private final Set<ConvertiblePair> readingPairs;
 	private final Set<ConvertiblePair> writingPairs;
 	private SimpleTypeHolder simpleTypeHolder;
+	private final boolean threadSafe;
 
 	private ConcurrentMap<ConvertiblePair, Class<?>> cache = new ConcurrentHashMap<ConvertiblePair, Class<?>>(36, 0.9f, 1);
 
@@ -74,6 +75,7 @@ public class CustomConversions {
 		this.customSimpleTypes = new HashSet<Class<?>>();
 
 		this.simpleTypeHolder = new SimpleTypeHolder(customSimpleTypes, SolrSimpleTypes.HOLDER);
+		this.threadSafe = allAnnotatedThreadSafe(this.converters);
 
 		this.converters.add(StringToPointConverter.INSTANCE);
 		this.converters.add(Point3DToStringConverter.INSTANCE);
@@ -114,6 +116,15 @@ public class CustomConversions {
 		}
 	}
 
+	/**
+	 * @return true if all custom converters have been declared {@link ThreadSafeConverter thread safe}. Built in
+	 *         converters are always considered thread safe.
+	 * @since 2.1
+	 */
+	public boolean isThreadSafe() {
+		return threadSafe;
+	}
+
 	/**
 	 * @param clazz
 	 * @return true if given class is considered a simple type
@@ -199,6 +210,16 @@ public class CustomConversions {
 		return getCustomTarget(sourceType, targetType, readingPairs);
 	}
 
+	private static boolean allAnnotatedThreadSafe(List<Object> converters) {
+
+		for (Object converter : converters) {
+			if (!converter.getClass().isAnnotationPresent(ThreadSafeConverter.class)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private void registerConversion(Object converter) {
 		Class<?> type = converter.getClass();
 		boolean isWriting = type.isAnnotationPresent(WritingConverter.class);
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.convert;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.solr.core.mapping.SolrPersistentProperty;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Creates getter and setter functions for {@link SolrPersistentProperty properties} bound to the public accessor methods
+ * of the owning type via {@link LambdaMetafactory}. The resulting call sites invoke the accessor method directly
+ * instead of dispatching by property through a {@link org.springframework.data.mapping.PersistentPropertyAccessor}.
+ * Returns {@literal null} whenever no such function can be created, eg. for properties without public accessor methods,
+ * non public types or types not visible to the class loader of this class. Callers are expected to fall back to
+ * {@link org.springframework.data.mapping.PersistentPropertyAccessor} in that case.
+ *
+ * @since 2.1
+ */
+final class LambdaPropertyAccessors {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LambdaPropertyAccessors.class);
+
+	private LambdaPropertyAccessors() {}
+
+	/**
+	 * @param property must not be {@literal null}.
+	 * @return {@literal null} if the getter cannot be generated.
+	 */
+	@SuppressWarnings("unchecked")
+	static Function<Object, Object> getter(SolrPersistentProperty property) {
+
+		Method getter = property.getGetter();
+		if (!isAccessible(getter)) {
+			return null;
+		}
+
+		try {
+
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle target = lookup.unreflect(getter);
+
+			CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+					MethodType.methodType(Object.class, Object.class), target,
+					MethodType.methodType(ClassUtils.resolvePrimitiveIfNecessary(getter.getReturnType()),
+							getter.getDeclaringClass()));
+
+			return (Function<Object, Object>) site.getTarget().invoke();
+		} catch (Throwable e) {
+
+			LOGGER.debug("Cannot generate getter for property '{}'. Falling back to PersistentPropertyAccessor.",
+					property.getName(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * @param property must not be {@literal null}.
+	 * @return {@literal null} if the setter cannot be generated.
+	 */
+	@SuppressWarnings("unchecked")
+	static BiConsumer<Object, Object> setter(SolrPersistentProperty property) {
+
+		Method setter = property.getSetter();
+		if (!isAccessible(setter)) {
+			return null;
+		}
+
+		try {
+
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle target = lookup.unreflect(setter);
+
+			CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+					MethodType.methodType(void.class, Object.class, Object.class), target,
+					MethodType.methodType(void.class, setter.getDeclaringClass(),
+							ClassUtils.resolvePrimitiveIfNecessary(setter.getParameterTypes()[0])));
+
+			return (BiConsumer<Object, Object>) site.getTarget().invoke();
+		} catch (Throwable e) {
+
+			LOGGER.debug("Cannot generate setter for property '{}'. Falling back to PersistentPropertyAccessor.",
+					property.getName(), e);
+			return null;
+		}
+	}
+
+	private static boolean isAccessible(Method method) {
+
+		if (method == null || Modifier.isStatic(method.getModifiers()) || !Modifier.isPublic(method.getModifiers())) {
+			return false;
+		}
+
+		for (Class<?> type = method.getDeclaringClass(); type != null; type = type.getEnclosingClass()) {
+			if (!Modifier.isPublic(type.getModifiers())) {
+				return false;
+			}
+		}
+
+		return ClassUtils.isVisible(method.getDeclaringClass(), LambdaPropertyAccessors.class.getClassLoader());
+	}
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.solr.core.convert;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -23,6 +24,11 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.solr.common.SolrDocumentList;
@@ -51,6 +57,7 @@ import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Implementation of {@link SolrConverter} to read/write {@link org.apache.solr.common.SolrDocument}/
@@ -121,8 +128,19 @@ public class MappingSolrConverter extends SolrConverterBase
 		public abstract String createName(String fieldName, String name);
 	}
 
+	private static final int MIN_PARALLEL_READ_CHUNK_SIZE = 64;
+	private static final int PARALLEL_READ_CHUNKS_PER_THREAD = 4;
+
 	private final MappingContext<? extends SolrPersistentEntity<?>, SolrPersistentProperty> mappingContext;
 	private final EntityInstantiators instantiators = new EntityInstantiators();
+	private final Map<SolrPersistentEntity<?>, EntityReadPlan> readPlans = new ConcurrentHashMap<SolrPersistentEntity<?>, EntityReadPlan>();
+	private final Map<SolrPersistentEntity<?>, EntityWritePlan> writePlans = new ConcurrentHashMap<SolrPersistentEntity<?>, EntityWritePlan>();
+	private final boolean customValueReading = ReflectionUtils
+			.findMethod(getClass(), "getValue", SolrPersistentProperty.class, Object.class, Object.class)
+			.getDeclaringClass() != MappingSolrConverter.class;
+	private boolean useGeneratedAccessors = false;
+	private int parallelReadThreshold = 0;
+	private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
 
 	@SuppressWarnings("unused") //
 	private ApplicationContext applicationContext;
@@ -145,8 +163,13 @@ public class MappingSolrConverter extends SolrConverterBase
 			return Collections.emptyList();
 		}
 
-		List<R> resultList = new ArrayList<R>(source.size());
 		TypeInformation<R> typeInformation = ClassTypeInformation.from(type);
+		if (parallelReadThreshold > 0 && source.size() >= parallelReadThreshold
+				&& getCustomConversions().isThreadSafe()) {
+			return readInParallel(source, typeInformation);
+		}
+
+		List<R> resultList = new ArrayList<R>(source.size());
 		for (Map<String, ?> item : source) {
 			resultList.add(read(typeInformation, item));
 		}
@@ -154,6 +177,17 @@ public class MappingSolrConverter extends SolrConverterBase
 		return resultList;
 	}
 
+	@SuppressWarnings("unchecked")
+	private <R> List<R> readInParallel(SolrDocumentList source, TypeInformation<R> typeInformation) {
+
+		Object[] results = new Object[source.size()];
+		int chunkSize = Math.max(MIN_PARALLEL_READ_CHUNK_SIZE,
+				source.size() / (forkJoinPool.getParallelism() * PARALLEL_READ_CHUNKS_PER_THREAD));
+
+		forkJoinPool.invoke(new ReadDocumentsTask(source, typeInformation, results, 0, source.size(), chunkSize));
+		return new ArrayList<R>((List<R>) Arrays.asList(results));
+	}
+
 	@Override
 	public <R> R read(Class<R> type, Map<String, ?> source) {
 		return read(ClassTypeInformation.from(type), source);
@@ -176,50 +210,27 @@ public class MappingSolrConverter extends SolrConverterBase
 		return read(entity, source, null);
 	}
 
-	private <S extends Object> S read(final SolrPersistentEntity<S> entity, final Map<String, ?> source, Object parent) {
+	private <S extends Object> S read(SolrPersistentEntity<S> entity, Map<String, ?> source, Object parent) {
+
 		ParameterValueProvider<SolrPersistentProperty> parameterValueProvider = getParameterValueProvider(entity, source,
 				parent);
 
 		EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
-		final S instance = instantiator.createInstance(entity, parameterValueProvider);
-		final PersistentPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(instance),
-				getConversionService());
-
-		entity.doWithProperties(new PropertyHandler<SolrPersistentProperty>() {
+		S instance = instantiator.createInstance(entity, parameterValueProvider);
 
-			@Override
-			public void doWithPersistentProperty(SolrPersistentProperty persistentProperty) {
-				if (entity.isConstructorArgument(persistentProperty)) {
-					return;
-				}
-
-				Object o = getValue(persistentProperty, source, instance);
-				if (o != null) {
-
-					if (o instanceof Collection && !persistentProperty.isCollectionLike()) {
-
-						Collection<?> c = (Collection<?>) o;
-
-						if (!c.isEmpty()) {
-
-							if (c.size() == 1) {
-								accessor.setProperty(persistentProperty, c.iterator().next());
-							} else {
-								throw new MappingException(String.format(
-										"Cannot set multiple values %s read from '%s' to non collection property '%s'. Please check your mapping / schema defintion!",
-										c, persistentProperty.getFieldName(), persistentProperty.getName()));
-							}
-						}
+		getReadPlan(entity).execute(entity, source, instance);
+		return instance;
+	}
 
-					} else {
-						accessor.setProperty(persistentProperty, o);
-					}
+	private EntityReadPlan getReadPlan(SolrPersistentEntity<?> entity) {
 
-				}
-			}
-		});
+		EntityReadPlan plan = readPlans.get(entity);
+		if (plan == null) {
 
-		return instance;
+			plan = new EntityReadPlan(entity);
+			readPlans.put(entity, plan);
+		}
+		return plan;
 	}
 
 	protected Object getValue(SolrPersistentProperty property, Object source, Object parent) {
@@ -261,54 +272,23 @@ public class MappingSolrConverter extends SolrConverterBase
 	}
 
 	@SuppressWarnings("rawtypes")
-	protected void write(Object source, final Map target, SolrPersistentEntity<?> entity) {
-
-		final PersistentPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(source),
-				getConversionService());
-
-		entity.doWithProperties(new PropertyHandler<SolrPersistentProperty>() {
-
-			@SuppressWarnings("unchecked")
-			@Override
-			public void doWithPersistentProperty(SolrPersistentProperty persistentProperty) {
-
-				Object value = accessor.getProperty(persistentProperty);
-				if (value == null || persistentProperty.isReadonly()) {
-					return;
-				}
-
-				if (persistentProperty.containsWildcard() && !persistentProperty.isMap()) {
-					throw new IllegalArgumentException("Field '" + persistentProperty.getFieldName()
-							+ "' must not contain wildcards. Consider excluding Field from beeing indexed.");
-				}
+	protected void write(Object source, Map target, SolrPersistentEntity<?> entity) {
+		getWritePlan(entity).execute(entity, source, target);
+	}
 
-				Collection<SolrInputField> fields;
-				if (persistentProperty.isMap() && persistentProperty.containsWildcard()) {
-					fields = writeWildcardMapPropertyToTarget(target, persistentProperty, (Map<?, ?>) value);
-				} else {
-					fields = writeRegularPropertyToTarget(target, persistentProperty, value);
-				}
+	private EntityWritePlan getWritePlan(SolrPersistentEntity<?> entity) {
 
-				if (persistentProperty.isBoosted()) {
-					for (SolrInputField field : fields) {
-						field.setBoost(persistentProperty.getBoost());
-					}
-				}
-			}
-		});
+		EntityWritePlan plan = writePlans.get(entity);
+		if (plan == null) {
 
-		if (entity.isBoosted() && target instanceof SolrInputDocument) {
-			((SolrInputDocument) target).setDocumentBoost(entity.getBoost());
+			plan = new EntityWritePlan(entity);
+			writePlans.put(entity, plan);
 		}
-
+		return plan;
 	}
 
 	private Collection<SolrInputField> writeWildcardMapPropertyToTarget(Map<? super Object, ? super Object> target,
-			SolrPersistentProperty persistentProperty, Map<?, ?> fieldValue) {
-
-		TypeInformation<?> mapTypeInformation = persistentProperty.getTypeInformation().getMapValueType();
-		Class<?> rawMapType = mapTypeInformation.getType();
-		String fieldName = persistentProperty.getFieldName();
+			PropertyWriteStep step, Map<?, ?> fieldValue) {
 
 		Collection<SolrInputField> fields = new ArrayList<SolrInputField>();
 
@@ -317,8 +297,8 @@ public class MappingSolrConverter extends SolrConverterBase
 			Object value = entry.getValue();
 			String key = entry.getKey().toString();
 
-			if (persistentProperty.isDynamicProperty()) {
-				key = WildcardPosition.getAppropriate(fieldName).createName(fieldName, key);
+			if (step.dynamic) {
+				key = step.wildcardPosition.createName(step.fieldName, key);
 			}
 
 			SolrInputField field = new SolrInputField(key);
@@ -326,16 +306,16 @@ public class MappingSolrConverter extends SolrConverterBase
 			if (value instanceof Iterable) {
 
 				for (Object o : (Iterable<?>) value) {
-					field.addValue(convertToSolrType(rawMapType, o), 1f);
+					field.addValue(convertToSolrType(step.mapValueType, o), 1f);
 				}
 			} else {
 
-				if (rawMapType.isArray()) {
+				if (step.mapValueType.isArray()) {
 					for (Object o : (Object[]) value) {
-						field.addValue(convertToSolrType(rawMapType, o), 1f);
+						field.addValue(convertToSolrType(step.mapValueType, o), 1f);
 					}
 				} else {
-					field.addValue(convertToSolrType(rawMapType, value), 1f);
+					field.addValue(convertToSolrType(step.mapValueType, value), 1f);
 				}
 
 			}
@@ -348,18 +328,24 @@ public class MappingSolrConverter extends SolrConverterBase
 	}
 
 	private Collection<SolrInputField> writeRegularPropertyToTarget(final Map<? super Object, ? super Object> target,
-			SolrPersistentProperty persistentProperty, Object fieldValue) {
+			PropertyWriteStep step, Object fieldValue) {
 
-		SolrInputField field = new SolrInputField(persistentProperty.getFieldName());
+		SolrInputField field = new SolrInputField(step.fieldName);
 
-		if (persistentProperty.isCollectionLike()) {
+		if (step.numericArray) {
+
+			List<Object> values = PrimitiveArrays.asList(fieldValue);
+			if (!values.isEmpty()) {
+				field.setValue(values.size() == 1 ? values.get(0) : values, 1f);
+			}
+		} else if (step.collectionLike) {
 			Collection<?> collection = asCollection(fieldValue);
 			for (Object o : collection) {
 				if (o != null) {
 					if(o instanceof Enum) {
 						field.addValue(this.getConversionService().convert(o, String.class), 1f);
 					} else {
-						field.addValue(convertToSolrType(persistentProperty.getType(), o), 1f);
+						field.addValue(convertToSolrType(step.type, o), 1f);
 					}
 				}
 			}
@@ -368,10 +354,10 @@ public class MappingSolrConverter extends SolrConverterBase
 			field.setValue(this.getConversionService().convert(fieldValue, String.class), 1f);
 		}
 		else {
-			field.setValue(convertToSolrType(persistentProperty.getType(), fieldValue), 1f);
+			field.setValue(convertToSolrType(step.type, fieldValue), 1f);
 		}
 
-		target.put(persistentProperty.getFieldName(), field);
+		target.put(step.fieldName, field);
 
 		return Collections.singleton(field);
 
@@ -403,11 +389,368 @@ public class MappingSolrConverter extends SolrConverterBase
 		return source.getClass().isArray() ? CollectionUtils.arrayToList(source) : Collections.singleton(source);
 	}
 
+	/**
+	 * Convert {@link SolrDocumentList lists} of at least the given number of documents in parallel using the configured
+	 * {@link ForkJoinPool}. The order of the resulting objects is preserved. Parallel conversion only takes place if all
+	 * converters registered via {@link CustomConversions} are declared {@link ThreadSafeConverter thread safe}.
+	 *
+	 * @param parallelReadThreshold use {@literal 0} (default) to always convert sequentially.
+	 * @since 2.1
+	 */
+	public void setParallelReadThreshold(int parallelReadThreshold) {
+
+		Assert.isTrue(parallelReadThreshold >= 0, "ParallelReadThreshold must not be negative.");
+		this.parallelReadThreshold = parallelReadThreshold;
+	}
+
+	/**
+	 * Set the {@link ForkJoinPool} used for parallel conversion. Defaults to {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param forkJoinPool must not be {@literal null}.
+	 * @since 2.1
+	 */
+	public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+
+		Assert.notNull(forkJoinPool, "ForkJoinPool must not be 'null'.");
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * Read and write properties through functions bound to their public getter and setter methods via
+	 * {@link java.lang.invoke.LambdaMetafactory} instead of the {@link PersistentPropertyAccessor} of the entity.
+	 * Properties without public accessor methods, as well as types that are not public, fall back to the
+	 * {@link PersistentPropertyAccessor}. Note that the {@link PersistentPropertyAccessor} by default uses field access,
+	 * so enabling this option causes logic in accessor methods to be invoked. Defaults to {@literal false}.
+	 *
+	 * @param useGeneratedAccessors
+	 * @since 2.1
+	 */
+	public void setUseGeneratedAccessors(boolean useGeneratedAccessors) {
+
+		this.useGeneratedAccessors = useGeneratedAccessors;
+		this.readPlans.clear();
+		this.writePlans.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.convert.SolrConverterBase#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		super.afterPropertiesSet();
+
+		for (SolrPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+			getWritePlan(entity);
+		}
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.applicationContext = applicationContext;
 	}
 
+	/**
+	 * Converts a range of documents, splitting it in halves until it does not exceed the chunk size. Each converted
+	 * object is written to the position of its source document so that the order is preserved.
+	 *
+	 * @since 2.1
+	 */
+	private class ReadDocumentsTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final SolrDocumentList source;
+		private final TypeInformation<?> typeInformation;
+		private final Object[] results;
+		private final int from;
+		private final int to;
+		private final int chunkSize;
+
+		ReadDocumentsTask(SolrDocumentList source, TypeInformation<?> typeInformation, Object[] results, int from, int to,
+				int chunkSize) {
+
+			this.source = source;
+			this.typeInformation = typeInformation;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.RecursiveAction#compute()
+		 */
+		@Override
+		protected void compute() {
+
+			if (to - from <= chunkSize) {
+
+				for (int i = from; i < to; i++) {
+					results[i] = read(typeInformation, source.get(i));
+				}
+				return;
+			}
+
+			int middle = (from + to) >>> 1;
+			invokeAll(new ReadDocumentsTask(source, typeInformation, results, from, middle, chunkSize),
+					new ReadDocumentsTask(source, typeInformation, results, middle, to, chunkSize));
+		}
+	}
+
+	/**
+	 * Read plan for a single {@link SolrPersistentEntity} computed once and executed for every document read. Resolves
+	 * the properties to populate after instantiation along with their Solr field name and target type up front, so that
+	 * reading a document does not require walking the entity metadata, skips properties whose field is not present in
+	 * the document and only falls back to conversion if the value read does not already match the property type.
+	 * Wildcard and {@link org.springframework.data.solr.core.mapping.Dynamic} properties are registered with a
+	 * {@link WildcardFieldIndex}, so that the fields of a document are matched against all of them in a single pass
+	 * instead of scanning the whole document once per property.
+	 *
+	 * @since 2.1
+	 */
+	private class EntityReadPlan {
+
+		private final PropertyReadStep[] steps;
+		private final WildcardFieldIndex wildcardIndex;
+
+		EntityReadPlan(final SolrPersistentEntity<?> entity) {
+
+			final List<PropertyReadStep> steps = new ArrayList<PropertyReadStep>();
+			final WildcardFieldIndex wildcardIndex = new WildcardFieldIndex();
+			entity.doWithProperties(new PropertyHandler<SolrPersistentProperty>() {
+
+				@Override
+				public void doWithPersistentProperty(SolrPersistentProperty persistentProperty) {
+
+					if (!entity.isConstructorArgument(persistentProperty)) {
+						steps.add(new PropertyReadStep(persistentProperty, useGeneratedAccessors, wildcardIndex));
+					}
+				}
+			});
+
+			this.steps = steps.toArray(new PropertyReadStep[steps.size()]);
+			this.wildcardIndex = wildcardIndex.size() > 0 ? wildcardIndex : null;
+		}
+
+		void execute(SolrPersistentEntity<?> entity, Map<String, ?> source, Object instance) {
+
+			SolrPropertyValueProvider valueProvider = new SolrPropertyValueProvider(source, instance);
+			PersistentPropertyAccessor accessor = null;
+			PersistentPropertyAccessor convertingAccessor = null;
+
+			List<Map.Entry<String, ?>>[] wildcardMatches = !customValueReading && wildcardIndex != null
+					? wildcardIndex.classify(source) : null;
+
+			for (PropertyReadStep step : steps) {
+
+				if (!customValueReading && step.fieldName != null && source.get(step.fieldName) == null) {
+					continue;
+				}
+
+				Object value;
+				if (customValueReading) {
+					value = getValue(step.property, source, instance);
+				} else if (step.wildcardPosition != null) {
+
+					List<Map.Entry<String, ?>> matches = wildcardMatches[step.wildcardSlot];
+					value = matches != null
+							? valueProvider.readWildcard(matches, step.property, instance, step.wildcardPosition) : null;
+				} else {
+					value = valueProvider.getPropertyValue(step.property);
+				}
+
+				if (value == null) {
+					continue;
+				}
+
+				if (value instanceof Collection && !step.collectionLike) {
+
+					Collection<?> c = (Collection<?>) value;
+					if (c.isEmpty()) {
+						continue;
+					}
+					if (c.size() > 1) {
+						throw new MappingException(String.format(
+								"Cannot set multiple values %s read from '%s' to non collection property '%s'. Please check your mapping / schema defintion!",
+								c, step.property.getFieldName(), step.property.getName()));
+					}
+					value = c.iterator().next();
+				}
+
+				if (step.setter != null && step.targetType.isInstance(value)) {
+
+					step.setter.accept(instance, value);
+					continue;
+				}
+
+				if (accessor == null) {
+					accessor = entity.getPropertyAccessor(instance);
+				}
+
+				if (value == null || step.targetType.isInstance(value)) {
+					accessor.setProperty(step.property, value);
+				} else {
+
+					if (convertingAccessor == null) {
+						convertingAccessor = new ConvertingPropertyAccessor(accessor, getConversionService());
+					}
+					convertingAccessor.setProperty(step.property, value);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @since 2.1
+	 */
+	private static class PropertyReadStep {
+
+		private final SolrPersistentProperty property;
+		private final String fieldName;
+		private final Class<?> targetType;
+		private final boolean collectionLike;
+		private final BiConsumer<Object, Object> setter;
+		private final WildcardPosition wildcardPosition;
+		private final int wildcardSlot;
+
+		PropertyReadStep(SolrPersistentProperty property, boolean useGeneratedAccessors,
+				WildcardFieldIndex wildcardIndex) {
+
+			this.property = property;
+			this.fieldName = property.containsWildcard() || property.isScoreProperty() ? null : property.getFieldName();
+			this.targetType = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+			this.collectionLike = property.isCollectionLike();
+			this.setter = useGeneratedAccessors ? LambdaPropertyAccessors.setter(property) : null;
+
+			if (property.containsWildcard()) {
+
+				this.wildcardPosition = WildcardPosition.getAppropriate(property.getFieldName());
+				String pattern = wildcardPosition.removeWildcard(property.getFieldName());
+				this.wildcardSlot = wildcardPosition == WildcardPosition.LEADING ? wildcardIndex.addSuffix(pattern)
+						: wildcardIndex.addPrefix(pattern);
+			} else {
+
+				this.wildcardPosition = null;
+				this.wildcardSlot = -1;
+			}
+		}
+	}
+
+	/**
+	 * Write plan for a single {@link SolrPersistentEntity} computed once and executed for every object written. Field
+	 * names, boosts and the way a property is written are resolved up front so that writing an object does not require
+	 * any further annotation lookups. Read only properties are not part of the plan at all.
+	 *
+	 * @since 2.1
+	 */
+	private class EntityWritePlan {
+
+		private final PropertyWriteStep[] steps;
+		private final Float documentBoost;
+
+		EntityWritePlan(SolrPersistentEntity<?> entity) {
+
+			final List<PropertyWriteStep> steps = new ArrayList<PropertyWriteStep>();
+			entity.doWithProperties(new PropertyHandler<SolrPersistentProperty>() {
+
+				@Override
+				public void doWithPersistentProperty(SolrPersistentProperty persistentProperty) {
+
+					if (!persistentProperty.isReadonly()) {
+						steps.add(new PropertyWriteStep(persistentProperty, useGeneratedAccessors));
+					}
+				}
+			});
+
+			this.steps = steps.toArray(new PropertyWriteStep[steps.size()]);
+			this.documentBoost = entity.isBoosted() ? entity.getBoost() : null;
+		}
+
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		void execute(SolrPersistentEntity<?> entity, Object source, Map target) {
+
+			PersistentPropertyAccessor accessor = null;
+
+			for (PropertyWriteStep step : steps) {
+
+				Object value;
+				if (step.getter != null) {
+					value = step.getter.apply(source);
+				} else {
+
+					if (accessor == null) {
+						accessor = entity.getPropertyAccessor(source);
+					}
+					value = accessor.getProperty(step.property);
+				}
+
+				if (value == null) {
+					continue;
+				}
+
+				if (step.wildcard && !step.map) {
+					throw new IllegalArgumentException("Field '" + step.fieldName
+							+ "' must not contain wildcards. Consider excluding Field from beeing indexed.");
+				}
+
+				Collection<SolrInputField> fields;
+				if (step.wildcard) {
+					fields = writeWildcardMapPropertyToTarget(target, step, (Map<?, ?>) value);
+				} else {
+					fields = writeRegularPropertyToTarget(target, step, value);
+				}
+
+				if (step.boost != null) {
+					for (SolrInputField field : fields) {
+						field.setBoost(step.boost);
+					}
+				}
+			}
+
+			if (documentBoost != null && target instanceof SolrInputDocument) {
+				((SolrInputDocument) target).setDocumentBoost(documentBoost);
+			}
+		}
+	}
+
+	/**
+	 * @since 2.1
+	 */
+	private static class PropertyWriteStep {
+
+		private final SolrPersistentProperty property;
+		private final String fieldName;
+		private final Class<?> type;
+		private final boolean collectionLike;
+		private final boolean numericArray;
+		private final boolean wildcard;
+		private final boolean map;
+		private final boolean dynamic;
+		private final WildcardPosition wildcardPosition;
+		private final Class<?> mapValueType;
+		private final Float boost;
+		private final Function<Object, Object> getter;
+
+		PropertyWriteStep(SolrPersistentProperty property, boolean useGeneratedAccessors) {
+
+			this.property = property;
+			this.fieldName = property.getFieldName();
+			this.type = property.getType();
+			this.collectionLike = property.isCollectionLike();
+			this.numericArray = PrimitiveArrays.isNumericArray(type);
+			this.wildcard = property.containsWildcard();
+			this.map = property.isMap();
+			this.dynamic = property.isDynamicProperty();
+			this.wildcardPosition = wildcard ? WildcardPosition.getAppropriate(fieldName) : null;
+			this.mapValueType = wildcard && map ? property.getTypeInformation().getMapValueType().getType() : null;
+			this.boost = property.isBoosted() ? property.getBoost() : null;
+			this.getter = useGeneratedAccessors ? LambdaPropertyAccessors.getter(property) : null;
+		}
+	}
+
 	private class SolrPropertyValueProvider implements PropertyValueProvider<SolrPersistentProperty> {
 
 		private final Object source;
@@ -466,6 +809,10 @@ public class MappingSolrConverter extends SolrConverterBase
 				documentValue = value;
 			}
 
+			if (PrimitiveArrays.isNumericArray(rawType)) {
+				return (T) PrimitiveArrays.read(documentValue, rawType, getConversionService());
+			}
+
 			if (documentValue instanceof Collection) {
 				return (T) readCollection((Collection<?>) documentValue, type, parent);
 			} else if (canConvert(documentValue.getClass(), rawType)) {
@@ -479,36 +826,52 @@ public class MappingSolrConverter extends SolrConverterBase
 		private Object readWildcard(Map<String, ?> source, SolrPersistentProperty property, Object parent) {
 
 			WildcardPosition wildcardPosition = WildcardPosition.getAppropriate(property.getFieldName());
+			boolean singleValue = !property.isMap() && !property.isCollectionLike();
 
-			if (property.isMap()) {
-				return readWildcardMap(source, property, parent, wildcardPosition);
-			} else if (property.isCollectionLike()) {
-				return readWildcardCollectionLike(source, property, parent, wildcardPosition);
-			} else {
+			List<Map.Entry<String, ?>> matches = new ArrayList<Map.Entry<String, ?>>();
+			for (Map.Entry<String, ?> potentialMatch : source.entrySet()) {
 
-				for (Map.Entry<String, ?> potentialMatch : source.entrySet()) {
+				if (wildcardPosition.match(property.getFieldName(), potentialMatch.getKey())) {
 
-					if (wildcardPosition.match(property.getFieldName(), potentialMatch.getKey())) {
-						return getValue(property, potentialMatch.getValue(), parent);
+					matches.add(potentialMatch);
+					if (singleValue) {
+						break;
 					}
 				}
 			}
 
-			return null;
+			return readWildcard(matches, property, parent, wildcardPosition);
 		}
 
-		private Object readWildcardCollectionLike(Map<String, ?> source, SolrPersistentProperty property, Object parent,
+		/**
+		 * Read a wildcard property from the document entries already known to match its field name.
+		 *
+		 * @param matches entries matching the field name of the property in document order.
+		 * @param property the wildcard property.
+		 * @param parent can be {@literal null}.
+		 * @param wildcardPosition position of the wildcard in the field name of the property.
+		 * @return {@literal null} if there is nothing to read.
+		 */
+		private Object readWildcard(List<Map.Entry<String, ?>> matches, SolrPersistentProperty property, Object parent,
 				WildcardPosition wildcardPosition) {
 
+			if (property.isMap()) {
+				return readWildcardMap(matches, property, parent, wildcardPosition);
+			} else if (property.isCollectionLike()) {
+				return readWildcardCollectionLike(matches, property, parent);
+			}
+
+			return matches.isEmpty() ? null : getValue(property, matches.get(0).getValue(), parent);
+		}
+
+		private Object readWildcardCollectionLike(List<Map.Entry<String, ?>> matches, SolrPersistentProperty property,
+				Object parent) {
+
 			Class<?> genericTargetType = property.getComponentType() != null ? property.getComponentType() : Object.class;
 
 			List<Object> values = new ArrayList<Object>();
 
-			for (Map.Entry<String, ?> potentialMatch : source.entrySet()) {
-
-				if (!wildcardPosition.match(property.getFieldName(), potentialMatch.getKey())) {
-					continue;
-				}
+			for (Map.Entry<String, ?> potentialMatch : matches) {
 
 				Object value = potentialMatch.getValue();
 
@@ -531,8 +894,8 @@ public class MappingSolrConverter extends SolrConverterBase
 			return values.isEmpty() ? null : (property.isArray() ? values.toArray() : values);
 		}
 
-		private Object readWildcardMap(Map<String, ?> source, SolrPersistentProperty property, Object parent,
-				WildcardPosition wildcardPosition) {
+		private Object readWildcardMap(List<Map.Entry<String, ?>> matches, SolrPersistentProperty property,
+				Object parent, WildcardPosition wildcardPosition) {
 
 			TypeInformation<?> mapTypeInformation = property.getTypeInformation().getMapValueType();
 			Class<?> rawMapType = mapTypeInformation.getType();
@@ -551,14 +914,10 @@ public class MappingSolrConverter extends SolrConverterBase
 				values = new HashMap<String, Object>();
 			}
 
-			for (Map.Entry<String, ?> potentialMatch : source.entrySet()) {
+			for (Map.Entry<String, ?> potentialMatch : matches) {
 
 				String key = potentialMatch.getKey();
 
-				if (!wildcardPosition.match(property.getFieldName(), key)) {
-					continue;
-				}
-
 				if (property.isDynamicProperty()) {
 					key = wildcardPosition.extractName(property.getFieldName(), key);
 				}
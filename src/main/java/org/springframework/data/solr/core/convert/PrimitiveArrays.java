@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.convert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.MappingException;
+
+/**
+ * Read and write support for {@code int[]}, {@code long[]}, {@code float[]} and {@code double[]} properties mapped to
+ * multivalued numeric fields. Values are unboxed directly into an array of the required length when reading and boxed
+ * into a single list of the required size when writing, without any intermediate collections or reflective array
+ * access.
+ *
+ * @since 2.1
+ */
+final class PrimitiveArrays {
+
+	private PrimitiveArrays() {}
+
+	/**
+	 * @param type can be {@literal null}.
+	 * @return {@literal true} if given type is one of {@code int[]}, {@code long[]}, {@code float[]} or {@code double[]}.
+	 */
+	static boolean isNumericArray(Class<?> type) {
+		return type == int[].class || type == long[].class || type == float[].class || type == double[].class;
+	}
+
+	/**
+	 * Read given field value into a primitive array of given type. Values that are not a {@link Number} already are
+	 * converted using the {@link ConversionService}.
+	 *
+	 * @param source the raw field value. Either a {@link Collection}, an array or a single value.
+	 * @param arrayType must be a {@link #isNumericArray(Class) numeric array} type.
+	 * @param conversionService must not be {@literal null}.
+	 * @return new array holding the unboxed values.
+	 */
+	static Object read(Object source, Class<?> arrayType, ConversionService conversionService) {
+
+		if (arrayType.isInstance(source)) {
+			return source;
+		}
+
+		Collection<?> values = source instanceof Collection ? (Collection<?>) source
+				: source instanceof Object[] ? Arrays.asList((Object[]) source) : Collections.singletonList(source);
+
+		int i = 0;
+		if (arrayType == int[].class) {
+
+			int[] result = new int[values.size()];
+			for (Object value : values) {
+				result[i++] = toNumber(value, Integer.class, arrayType, conversionService).intValue();
+			}
+			return result;
+		}
+
+		if (arrayType == long[].class) {
+
+			long[] result = new long[values.size()];
+			for (Object value : values) {
+				result[i++] = toNumber(value, Long.class, arrayType, conversionService).longValue();
+			}
+			return result;
+		}
+
+		if (arrayType == float[].class) {
+
+			float[] result = new float[values.size()];
+			for (Object value : values) {
+				result[i++] = toNumber(value, Float.class, arrayType, conversionService).floatValue();
+			}
+			return result;
+		}
+
+		if (arrayType == double[].class) {
+
+			double[] result = new double[values.size()];
+			for (Object value : values) {
+				result[i++] = toNumber(value, Double.class, arrayType, conversionService).doubleValue();
+			}
+			return result;
+		}
+
+		throw new IllegalArgumentException(String.format("%s is not a numeric primitive array type.", arrayType));
+	}
+
+	/**
+	 * Box the values of given {@link #isNumericArray(Class) numeric array} into a list of matching size.
+	 *
+	 * @param array must not be {@literal null}.
+	 * @return new {@link List} holding the boxed values.
+	 */
+	static List<Object> asList(Object array) {
+
+		if (array instanceof int[]) {
+
+			int[] values = (int[]) array;
+			List<Object> result = new ArrayList<Object>(values.length);
+			for (int value : values) {
+				result.add(value);
+			}
+			return result;
+		}
+
+		if (array instanceof long[]) {
+
+			long[] values = (long[]) array;
+			List<Object> result = new ArrayList<Object>(values.length);
+			for (long value : values) {
+				result.add(value);
+			}
+			return result;
+		}
+
+		if (array instanceof float[]) {
+
+			float[] values = (float[]) array;
+			List<Object> result = new ArrayList<Object>(values.length);
+			for (float value : values) {
+				result.add(value);
+			}
+			return result;
+		}
+
+		if (array instanceof double[]) {
+
+			double[] values = (double[]) array;
+			List<Object> result = new ArrayList<Object>(values.length);
+			for (double value : values) {
+				result.add(value);
+			}
+			return result;
+		}
+
+		throw new IllegalArgumentException(String.format("%s is not a numeric primitive array.", array));
+	}
+
+	private static Number toNumber(Object value, Class<? extends Number> type, Class<?> arrayType,
+			ConversionService conversionService) {
+
+		if (value instanceof Number) {
+			return (Number) value;
+		}
+
+		Number number = value != null ? conversionService.convert(value, type) : null;
+		if (number == null) {
+			throw new MappingException(String.format("Cannot read value '%s' into %s.", value, arrayType.getSimpleName()));
+		}
+		return number;
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.convert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * Index of wildcard field name patterns used to classify the fields of a document in a single pass. Every pattern,
+ * either a fixed prefix ({@code attr_*}) or a fixed suffix ({@code *_s}), is assigned a slot. Prefixes and suffixes
+ * are held in two character tries, so that finding all patterns matching a field name only requires walking the field
+ * name once from the start and once from the end, no matter how many patterns have been registered.
+ * <p>
+ * Patterns have to be added before the index is used for classification. Classification itself is thread safe.
+ *
+ * @since 2.1
+ */
+class WildcardFieldIndex {
+
+	private final Node prefixes = new Node();
+	private final Node suffixes = new Node();
+	private int slots;
+
+	/**
+	 * Register a pattern matching all field names starting with given prefix.
+	 *
+	 * @param prefix must not be {@literal null}.
+	 * @return the slot assigned to the pattern.
+	 */
+	int addPrefix(String prefix) {
+
+		Assert.notNull(prefix, "Prefix must not be 'null'.");
+
+		Node node = prefixes;
+		for (int i = 0; i < prefix.length(); i++) {
+			node = node.getOrCreateChild(prefix.charAt(i));
+		}
+		return node.addSlot(slots++);
+	}
+
+	/**
+	 * Register a pattern matching all field names ending with given suffix.
+	 *
+	 * @param suffix must not be {@literal null}.
+	 * @return the slot assigned to the pattern.
+	 */
+	int addSuffix(String suffix) {
+
+		Assert.notNull(suffix, "Suffix must not be 'null'.");
+
+		Node node = suffixes;
+		for (int i = suffix.length() - 1; i >= 0; i--) {
+			node = node.getOrCreateChild(suffix.charAt(i));
+		}
+		return node.addSlot(slots++);
+	}
+
+	/**
+	 * @return the number of registered patterns.
+	 */
+	int size() {
+		return slots;
+	}
+
+	/**
+	 * Classify the entries of given source by the patterns their key matches. An entry matching multiple patterns is
+	 * assigned to each of them. The entries of every slot keep the iteration order of the source.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return array indexed by slot holding the matching entries or {@literal null} for slots without any match.
+	 */
+	@SuppressWarnings("unchecked")
+	List<Map.Entry<String, ?>>[] classify(Map<String, ?> source) {
+
+		List<Map.Entry<String, ?>>[] matches = new List[slots];
+
+		for (Map.Entry<String, ?> entry : source.entrySet()) {
+
+			String fieldName = entry.getKey();
+			if (fieldName == null) {
+				continue;
+			}
+
+			Node node = prefixes;
+			for (int i = 0; node != null; i++) {
+
+				collect(node.slots, entry, matches);
+				node = i < fieldName.length() ? node.getChild(fieldName.charAt(i)) : null;
+			}
+
+			node = suffixes;
+			for (int i = fieldName.length() - 1; node != null; i--) {
+
+				collect(node.slots, entry, matches);
+				node = i >= 0 ? node.getChild(fieldName.charAt(i)) : null;
+			}
+		}
+
+		return matches;
+	}
+
+	private static void collect(int[] slots, Map.Entry<String, ?> entry, List<Map.Entry<String, ?>>[] matches) {
+
+		for (int slot : slots) {
+
+			if (matches[slot] == null) {
+				matches[slot] = new ArrayList<Map.Entry<String, ?>>();
+			}
+			matches[slot].add(entry);
+		}
+	}
+
+	/**
+	 * @since 2.1
+	 */
+	private static class Node {
+
+		private static final int[] NO_SLOTS = new int[0];
+
+		private final Map<Character, Node> children = new HashMap<Character, Node>(4);
+		private int[] slots = NO_SLOTS;
+
+		Node getChild(char c) {
+			return children.get(c);
+		}
+
+		Node getOrCreateChild(char c) {
+
+			Node child = children.get(c);
+			if (child == null) {
+
+				child = new Node();
+				children.put(c, child);
+			}
+			return child;
+		}
+
+		int addSlot(int slot) {
+
+			slots = Arrays.copyOf(slots, slots.length + 1);
+			slots[slots.length - 1] = slot;
+			return slot;
+		}
+	}
+}
@@ -100,12 +100,23 @@ public abstract class DelegatingCursor<T> implements Cursor<T> {
 	}
 
 	private void load(String cursorMark) {
+		process(fetch(this.getCursorMark()));
+	}
+
+	/**
+	 * Obtain the {@link PartialResult} for the given cursor mark. By default this positions a copy of the reference query
+	 * at the given cursor mark and calls {@link #doLoad(SolrQuery)}.
+	 *
+	 * @param cursorMark the cursor mark to read from.
+	 * @return
+	 * @since 2.1
+	 */
+	protected PartialResult<T> fetch(String cursorMark) {
 
 		SolrQuery query = referenceQuery.getCopy();
-		query.set(CursorMarkParams.CURSOR_MARK_PARAM, this.getCursorMark());
+		query.set(CursorMarkParams.CURSOR_MARK_PARAM, cursorMark);
 
-		PartialResult<T> result = doLoad(query);
-		process(result);
+		return doLoad(query);
 	}
 
 	/**
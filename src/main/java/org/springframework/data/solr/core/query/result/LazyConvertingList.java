@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.query.result;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.util.Assert;
+
+/**
+ * Read only {@link List} converting elements of a source list on first access. Converted elements are memoized, so
+ * that each element is converted at most once and subsequent access returns the very same instance, even when
+ * accessed concurrently. The list is serialized as a fully converted {@link ArrayList}.
+ *
+ * @since 2.1
+ */
+class LazyConvertingList<S, T> extends AbstractList<T> implements RandomAccess, Serializable {
+
+	private static final long serialVersionUID = 1L;
+	private static final Object NULL = new Object();
+
+	private final transient List<S> source;
+	private final transient Converter<? super S, ? extends T> converter;
+	private final transient AtomicReferenceArray<Object> converted;
+
+	/**
+	 * @param source must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 */
+	LazyConvertingList(List<S> source, Converter<? super S, ? extends T> converter) {
+
+		Assert.notNull(source, "Source must not be 'null'.");
+		Assert.notNull(converter, "Converter must not be 'null'.");
+
+		this.source = source;
+		this.converter = converter;
+		this.converted = new AtomicReferenceArray<Object>(source.size());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#get(int)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+
+		Object value = converted.get(index);
+		if (value == null) {
+
+			T result = converter.convert(source.get(index));
+			value = result != null ? result : NULL;
+
+			if (!converted.compareAndSet(index, null, value)) {
+				value = converted.get(index);
+			}
+		}
+
+		return value != NULL ? (T) value : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return converted.length();
+	}
+
+	/**
+	 * @return the number of elements converted so far.
+	 */
+	int getConvertedCount() {
+
+		int count = 0;
+		for (int i = 0; i < converted.length(); i++) {
+			if (converted.get(i) != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private Object writeReplace() {
+		return new ArrayList<T>(this);
+	}
+}
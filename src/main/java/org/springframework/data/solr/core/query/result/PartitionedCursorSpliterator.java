@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.query.result;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Spliterator} over the union of multiple {@link Cursor cursors}, each iterating one disjoint partition of a
+ * result. Splitting hands over whole partitions, so a parallel stream consumes the partitions concurrently. The order
+ * of elements across partitions is undefined.
+ *
+ * @since 2.1
+ * @param <T>
+ */
+public class PartitionedCursorSpliterator<T> implements Spliterator<T>, Closeable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedCursorSpliterator.class);
+
+	private final List<Cursor<T>> cursors;
+	private int current;
+
+	/**
+	 * @param cursors must not be {@literal null}.
+	 */
+	public PartitionedCursorSpliterator(List<? extends Cursor<T>> cursors) {
+
+		Assert.notNull(cursors, "Cursors must not be 'null'.");
+		this.cursors = new ArrayList<Cursor<T>>(cursors);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+	 */
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+
+		while (current < cursors.size()) {
+
+			Cursor<T> cursor = cursors.get(current);
+			if (cursor.hasNext()) {
+				action.accept(cursor.next());
+				return true;
+			}
+			current++;
+		}
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#trySplit()
+	 */
+	@Override
+	public Spliterator<T> trySplit() {
+
+		int remaining = cursors.size() - current;
+		if (remaining < 2) {
+			return null;
+		}
+
+		int splitAt = cursors.size() - remaining / 2;
+		List<Cursor<T>> tail = cursors.subList(splitAt, cursors.size());
+		PartitionedCursorSpliterator<T> split = new PartitionedCursorSpliterator<T>(tail);
+		tail.clear();
+		return split;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#estimateSize()
+	 */
+	@Override
+	public long estimateSize() {
+		return cursors.size() - current > 0 ? Long.MAX_VALUE : 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Spliterator#characteristics()
+	 */
+	@Override
+	public int characteristics() {
+		return NONNULL | IMMUTABLE;
+	}
+
+	/**
+	 * @return number of partitions not yet fully consumed by this instance.
+	 */
+	public int getRemainingPartitions() {
+		return cursors.size() - current;
+	}
+
+	/**
+	 * Close all cursors currently held by this instance. Partitions already split off have to be closed by their own
+	 * {@link PartitionedCursorSpliterator}.
+	 */
+	@Override
+	public void close() {
+
+		for (Cursor<T> cursor : cursors) {
+			try {
+				cursor.close();
+			} catch (IOException e) {
+				LOGGER.warn("Failed to close cursor.", e);
+			}
+		}
+	}
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.query.result;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.common.params.CursorMarkParams;
+import org.springframework.data.solr.UncategorizedSolrException;
+import org.springframework.util.Assert;
+
+/**
+ * {@link DelegatingCursor} loading subsequent pages ahead of time. As soon as a page arrives the request for the next
+ * cursor mark is issued on the given {@link Executor}, so that consuming (and converting) the current page overlaps
+ * with fetching the next one. At most {@code readAhead} pages are held in memory ahead of the one currently iterated.
+ * <p>
+ * The background fetch works on its own copy of the query, so closing the cursor does not interfere with a request in
+ * flight. If the {@link Executor} rejects the background fetch, pages are loaded synchronously instead. A cursor that
+ * is neither read from nor closed for five minutes stops prefetching and releases its thread. Reading from
+ * it afterwards continues by loading the remaining pages synchronously.
+ *
+ * @since 2.1
+ * @param <T>
+ */
+public abstract class PrefetchingCursor<T> extends DelegatingCursor<T> {
+
+	static final Duration ABANDON_TIMEOUT = Duration.ofMinutes(5);
+	private static final long POLL_INTERVAL_MILLIS = 100;
+
+	private final Executor executor;
+	private final BlockingQueue<Object> pages;
+	private final SolrQuery prefetchQuery;
+	private volatile boolean cancelled;
+	private volatile boolean stopped;
+	private boolean started;
+	private boolean synchronous;
+
+	/**
+	 * @param query must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param readAhead number of pages to load ahead. Must be greater than zero.
+	 */
+	protected PrefetchingCursor(SolrQuery query, Executor executor, int readAhead) {
+
+		super(query);
+
+		Assert.notNull(executor, "Executor must not be 'null'.");
+		Assert.isTrue(readAhead > 0, "ReadAhead must be greater than zero.");
+
+		this.executor = executor;
+		this.pages = new ArrayBlockingQueue<Object>(readAhead);
+		this.prefetchQuery = query.getCopy();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.query.result.DelegatingCursor#fetch(java.lang.String)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	protected PartialResult<T> fetch(String cursorMark) {
+
+		if (synchronous || !start(cursorMark)) {
+			return super.fetch(cursorMark);
+		}
+
+		Object page;
+		try {
+
+			page = pages.poll();
+			while (page == null) {
+
+				if (stopped) {
+
+					// pages already handed over have been consumed, so continue from the current position on our own
+					synchronous = true;
+					return super.fetch(cursorMark);
+				}
+				page = pages.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncategorizedSolrException("Interrupted while waiting for cursor page " + cursorMark + ".", e);
+		}
+
+		if (page instanceof FetchFailure) {
+			((FetchFailure) page).rethrow();
+		}
+		return page instanceof PartialResult ? (PartialResult<T>) page : null;
+	}
+
+	/**
+	 * Start loading pages in the background without waiting for the first one, so that multiple cursors can be set up to
+	 * load concurrently before being {@link #open() opened}. Has no effect if loading has already been started.
+	 *
+	 * @return this.
+	 */
+	public PrefetchingCursor<T> prefetch() {
+
+		start(getCursorMark());
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.query.result.DelegatingCursor#doClose()
+	 */
+	@Override
+	protected void doClose() {
+
+		this.cancelled = true;
+		this.pages.clear();
+		super.doClose();
+	}
+
+	/**
+	 * Submit the {@link Prefetcher} unless already done.
+	 *
+	 * @return {@literal false} if the executor rejected it and pages have to be loaded synchronously.
+	 */
+	private boolean start(String cursorMark) {
+
+		if (!started) {
+
+			started = true;
+			try {
+				executor.execute(new Prefetcher(cursorMark));
+			} catch (RejectedExecutionException e) {
+				synchronous = true;
+			}
+		}
+		return !synchronous;
+	}
+
+	private PartialResult<T> fetchInBackground(String cursorMark) {
+
+		SolrQuery query = prefetchQuery.getCopy();
+		query.set(CursorMarkParams.CURSOR_MARK_PARAM, cursorMark);
+		return doLoad(query);
+	}
+
+	/**
+	 * Hand over the given page to the consumer.
+	 *
+	 * @return {@literal false} if the cursor has been closed or abandoned in the meantime.
+	 */
+	private boolean handOver(Object page) throws InterruptedException {
+
+		long start = System.nanoTime();
+		while (!pages.offer(page, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+
+			if (cancelled) {
+				return false;
+			}
+			if (System.nanoTime() - start >= ABANDON_TIMEOUT.toNanos()) {
+
+				stopped = true;
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Sequentially follows the cursor marks until the result is exhausted or the cursor gets closed.
+	 */
+	private class Prefetcher implements Runnable {
+
+		private String cursorMark;
+
+		Prefetcher(String cursorMark) {
+			this.cursorMark = cursorMark;
+		}
+
+		@Override
+		public void run() {
+
+			try {
+				while (!cancelled) {
+
+					PartialResult<T> result = fetchInBackground(cursorMark);
+					if (result == null) {
+						handOver(EndOfResult.INSTANCE);
+						return;
+					}
+
+					if (!handOver(result) || cursorMark.equals(result.getNextCursorMark())) {
+						return;
+					}
+					cursorMark = result.getNextCursorMark();
+				}
+			} catch (InterruptedException e) {
+
+				stopped = true;
+				Thread.currentThread().interrupt();
+			} catch (Throwable e) {
+				if (!cancelled) {
+					try {
+						handOver(new FetchFailure(e));
+					} catch (InterruptedException ie) {
+
+						stopped = true;
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+		}
+	}
+
+	private static class FetchFailure {
+
+		private final Throwable cause;
+
+		FetchFailure(Throwable cause) {
+			this.cause = cause;
+		}
+
+		void rethrow() {
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new UncategorizedSolrException(cause.getMessage(), cause);
+		}
+	}
+
+	private enum EndOfResult {
+		INSTANCE
+	}
+}
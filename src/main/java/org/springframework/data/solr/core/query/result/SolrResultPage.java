@@ -18,10 +18,12 @@ package org.springframework.data.solr.core.query.result;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -58,6 +60,7 @@ public class SolrResultPage<T> extends PageImpl<T> implements FacetPage<T>, High
 	private Map<Object, GroupResult<T>> groupResults = Collections.emptyMap();
 	private Map<String, FieldStatsResult> fieldStatsResults;
 	private Map<String, List<Alternative>> suggestions = new LinkedHashMap<String, List<Alternative>>();
+	private List<T> lazyContent;
 
 	public SolrResultPage(List<T> content) {
 		super(content);
@@ -68,6 +71,137 @@ public class SolrResultPage<T> extends PageImpl<T> implements FacetPage<T>, High
 		this.maxScore = maxScore;
 	}
 
+	/**
+	 * Create a page whose content is converted from the given source on first access of each element. Elements are
+	 * converted at most once, so pages only partially consumed do not pay for converting their whole content. The total
+	 * is corrected for the last page the same way {@link PageImpl} does for eagerly converted content.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param total
+	 * @param maxScore can be {@literal null}.
+	 * @since 2.1
+	 */
+	public <S> SolrResultPage(List<S> source, Converter<? super S, ? extends T> converter, Pageable pageable, long total,
+			Float maxScore) {
+
+		super(Collections.<T> emptyList(), pageable, correctTotal(source.size(), pageable, total));
+		this.lazyContent = new LazyConvertingList<S, T>(source, converter);
+		this.maxScore = maxScore;
+	}
+
+	private static long correctTotal(int size, Pageable pageable, long total) {
+
+		if (size > 0 && pageable.isPaged() && pageable.getOffset() + pageable.getPageSize() > total) {
+			return pageable.getOffset() + size;
+		}
+		return total;
+	}
+
+	/**
+	 * Create a copy of the given page. Content and result entries are shared with the source, while the collections
+	 * holding them are copied, so modifying the copy does not affect the source.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @since 2.1
+	 */
+	public SolrResultPage(SolrResultPage<T> source) {
+
+		super(source.lazyContent != null ? Collections.<T> emptyList() : new ArrayList<T>(source.getContent()),
+				source.getPageable(), source.getTotalElements());
+
+		this.lazyContent = source.lazyContent;
+		this.maxScore = source.maxScore;
+		this.facetResultPages = new LinkedHashMap<PageKey, Page<FacetFieldEntry>>(source.facetResultPages);
+		this.facetPivotResultPages = new LinkedHashMap<PageKey, List<FacetPivotFieldEntry>>(source.facetPivotResultPages);
+		this.facetRangeResultPages = new LinkedHashMap<PageKey, Page<FacetFieldEntry>>(source.facetRangeResultPages);
+		this.facetQueryResult = source.facetQueryResult;
+		this.highlighted = source.highlighted != null ? new ArrayList<HighlightEntry<T>>(source.highlighted) : null;
+		this.groupResults = source.groupResults != null
+				? new LinkedHashMap<Object, GroupResult<T>>(source.groupResults) : null;
+		this.fieldStatsResults = source.fieldStatsResults != null
+				? new LinkedHashMap<String, FieldStatsResult>(source.fieldStatsResults) : null;
+		this.suggestions = new LinkedHashMap<String, List<Alternative>>(source.suggestions);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Chunk#getContent()
+	 */
+	@Override
+	public List<T> getContent() {
+		return lazyContent != null ? Collections.unmodifiableList(lazyContent) : super.getContent();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Chunk#iterator()
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return lazyContent != null ? getContent().iterator() : super.iterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Chunk#getNumberOfElements()
+	 */
+	@Override
+	public int getNumberOfElements() {
+		return lazyContent != null ? lazyContent.size() : super.getNumberOfElements();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Chunk#hasContent()
+	 */
+	@Override
+	public boolean hasContent() {
+		return lazyContent != null ? !lazyContent.isEmpty() : super.hasContent();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageImpl#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (lazyContent == null && !(obj instanceof SolrResultPage && ((SolrResultPage<?>) obj).lazyContent != null)) {
+			return super.equals(obj);
+		}
+
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof SolrResultPage)) {
+			return false;
+		}
+
+		SolrResultPage<?> that = (SolrResultPage<?>) obj;
+		return getTotalElements() == that.getTotalElements() && getPageable().equals(that.getPageable())
+				&& getContent().equals(that.getContent());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageImpl#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		if (lazyContent == null) {
+			return super.hashCode();
+		}
+
+		long total = getTotalElements();
+		int result = 17;
+		result += 31 * (int) (total ^ total >>> 32);
+		result += 31 * (17 + 31 * getPageable().hashCode() + 31 * lazyContent.hashCode());
+		return result;
+	}
+
 	private Page<FacetFieldEntry> getResultPage(String fieldname, Map<PageKey, Page<FacetFieldEntry>> resultPages) {
 		Page<FacetFieldEntry> page = resultPages.get(new StringPageKey(fieldname));
 		return page != null ? page : new PageImpl<FacetFieldEntry>(Collections.<FacetFieldEntry> emptyList());
@@ -15,10 +15,13 @@
  */
 package org.springframework.data.solr.repository.query;
 
+import java.io.IOException;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Map.Entry;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import org.apache.solr.common.params.HighlightParams;
 import org.springframework.core.convert.support.GenericConversionService;
@@ -27,16 +30,24 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Point;
 import org.springframework.data.repository.core.EntityMetadata;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.solr.UncategorizedSolrException;
 import org.springframework.data.solr.VersionUtil;
+import org.springframework.data.solr.core.CommitStrategy;
 import org.springframework.data.solr.core.SolrOperations;
 import org.springframework.data.solr.core.SolrTransactionSynchronizationAdapterBuilder;
+import org.springframework.data.solr.core.TransactionalWriteBuffer;
 import org.springframework.data.solr.core.convert.DateTimeConverters;
 import org.springframework.data.solr.core.convert.NumberConverters;
+import org.springframework.data.solr.core.convert.SolrConverter;
+import org.springframework.data.solr.core.convert.SolrConverterBase;
 import org.springframework.data.solr.core.geo.GeoConverters;
+import org.springframework.data.solr.core.mapping.SolrPersistentProperty;
 import org.springframework.data.solr.core.query.FacetAndHighlightQuery;
 import org.springframework.data.solr.core.query.FacetOptions;
 import org.springframework.data.solr.core.query.FacetQuery;
@@ -53,9 +64,12 @@ import org.springframework.data.solr.core.query.SimpleStringCriteria;
 import org.springframework.data.solr.core.query.SolrPageRequest;
 import org.springframework.data.solr.core.query.StatsOptions;
 import org.springframework.data.solr.core.query.StatsOptions.FieldStatsOptions;
+import org.springframework.data.solr.core.query.result.Cursor;
 import org.springframework.data.solr.core.query.result.FacetAndHighlightPage;
 import org.springframework.data.solr.core.query.result.FacetPage;
 import org.springframework.data.solr.core.query.result.HighlightPage;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -72,13 +86,24 @@ import org.springframework.util.StringUtils;
  */
 public abstract class AbstractSolrQuery implements RepositoryQuery {
 
-	private static final Pattern PARAMETER_PLACEHOLDER = Pattern.compile("\\?(\\d+)");
-
 	private final SolrOperations solrOperations;
 	private final SolrQueryMethod solrQueryMethod;
+	private CommitStrategy commitStrategy = CommitStrategy.explicit();
+	private boolean bufferTransactionalWrites;
+	private volatile ProjectingDocumentConverter projectingConverter;
+	private volatile boolean projectionResolved;
+	private final Map<String, QueryTemplate> queryTemplates = new ConcurrentHashMap<String, QueryTemplate>();
 
 	public final int UNLIMITED = 1;
 
+	/**
+	 * Number of documents fetched per round trip when executing {@link Stream} and {@link Cursor} queries without a
+	 * {@link Pageable}.
+	 *
+	 * @since 2.1
+	 */
+	public static final int DEFAULT_CURSOR_PAGE_SIZE = 1000;
+
 	private final GenericConversionService conversionService = new GenericConversionService();
 
 	{
@@ -115,6 +140,30 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 		this.solrQueryMethod = solrQueryMethod;
 	}
 
+	/**
+	 * Set the {@link CommitStrategy} to apply to delete queries executed outside of a transaction and to buffered
+	 * transactional deletes. Defaults to {@link CommitStrategy#explicit()}.
+	 *
+	 * @param commitStrategy must not be {@literal null}.
+	 * @since 2.1
+	 */
+	public void setCommitStrategy(CommitStrategy commitStrategy) {
+
+		Assert.notNull(commitStrategy, "CommitStrategy must not be 'null'.");
+		this.commitStrategy = commitStrategy;
+	}
+
+	/**
+	 * Enable buffering of delete queries executed within a transaction using the {@link TransactionalWriteBuffer}.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param bufferTransactionalWrites
+	 * @since 2.1
+	 */
+	public void setBufferTransactionalWrites(boolean bufferTransactionalWrites) {
+		this.bufferTransactionalWrites = bufferTransactionalWrites;
+	}
+
 	@Override
 	public Object execute(Object[] parameters) {
 		SolrParameterAccessor accessor = new SolrParametersParameterAccessor(solrQueryMethod, parameters);
@@ -142,6 +191,18 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 			return new DeleteExecution().execute(query);
 		}
 
+		if (solrQueryMethod.isStreamQuery() || solrQueryMethod.isCursorQuery()) {
+
+			if (solrQueryMethod.isFacetQuery() || solrQueryMethod.isHighlightQuery()) {
+				throw new InvalidDataAccessApiUsageException(
+						"Cannot apply faceting or highlighting when returning a Stream or Cursor.");
+			}
+			if (solrQueryMethod.isStreamQuery()) {
+				return new StreamExecution(accessor.getPageable()).execute(query);
+			}
+			return new CursorExecution(accessor.getPageable()).execute(query);
+		}
+
 		if (solrQueryMethod.isPageQuery() || solrQueryMethod.isSliceQuery()) {
 			if (solrQueryMethod.isFacetQuery() && solrQueryMethod.isHighlightQuery()) {
 				FacetAndHighlightQuery facetAndHighlightQuery = SimpleFacetAndHighlightQuery.fromQuery(query,
@@ -221,7 +282,54 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 			for (String fieldname : this.getQueryMethod().getProjectionFields()) {
 				query.addProjectionOnField(new SimpleField(fieldname));
 			}
+		} else if (query != null && getProjectingConverter() != null) {
+			for (String fieldname : getProjectingConverter().getFieldNames()) {
+				query.addProjectionOnField(new SimpleField(fieldname));
+			}
+		}
+	}
+
+	/**
+	 * Get the converter reading closed interface and DTO projections returned by the query method directly from the
+	 * Solr document. Executions not using the converter, like stream, cursor, facet and highlight queries, build the
+	 * full entity first and therefore must not restrict the fields returned. The same applies to projections the
+	 * converter cannot read and to {@link SolrConverter converters} not based on {@link SolrConverterBase}, whose
+	 * reading rules are unknown.
+	 *
+	 * @return {@literal null} if the query method does not return such a projection or the execution does not read
+	 *         projections from the document.
+	 * @since 2.1
+	 */
+	ProjectingDocumentConverter getProjectingConverter() {
+
+		if (!projectionResolved) {
+
+			ReturnedType returnedType = solrQueryMethod.getResultProcessor().getReturnedType();
+			if (returnedType.isProjecting() && returnedType.needsCustomConstruction() && readsProjectionFromDocument()) {
+
+				SolrConverter converter = solrOperations.getConverter();
+				if (converter instanceof SolrConverterBase) {
+
+					projectingConverter = ProjectingDocumentConverter.forReturnedType(returnedType,
+							converter.getMappingContext().getRequiredPersistentEntity(returnedType.getDomainType()),
+							solrQueryMethod.getProjectionFactory(), converter.getConversionService(),
+							((SolrConverterBase) converter).getCustomConversions());
+				}
+			}
+			projectionResolved = true;
 		}
+		return projectingConverter;
+	}
+
+	private boolean readsProjectionFromDocument() {
+
+		if (isCountQuery() || isDeleteQuery() || solrQueryMethod.isStreamQuery() || solrQueryMethod.isCursorQuery()) {
+			return false;
+		}
+		if (solrQueryMethod.isPageQuery() || solrQueryMethod.isSliceQuery()) {
+			return !solrQueryMethod.isFacetQuery() && !solrQueryMethod.isHighlightQuery();
+		}
+		return true;
 	}
 
 	protected SimpleQuery createQueryFromString(String queryString, SolrParameterAccessor parameterAccessor) {
@@ -229,20 +337,46 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 		return new SimpleQuery(new SimpleStringCriteria(parsedQueryString));
 	}
 
+	/**
+	 * Create a {@link SimpleQuery} from a {@link QueryTemplate} compiled upfront.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return
+	 * @since 2.1
+	 */
+	SimpleQuery createQueryFromTemplate(QueryTemplate template, SolrParameterAccessor parameterAccessor) {
+		return new SimpleQuery(new SimpleStringCriteria(render(template, parameterAccessor)));
+	}
+
 	private String replacePlaceholders(String input, SolrParameterAccessor accessor) {
 		if (!StringUtils.hasText(input)) {
 			return input;
 		}
 
-		Matcher matcher = PARAMETER_PLACEHOLDER.matcher(input);
-		String result = input;
+		return render(getQueryTemplate(input), accessor);
+	}
+
+	private QueryTemplate getQueryTemplate(String queryString) {
 
-		while (matcher.find()) {
-			String group = matcher.group();
-			int index = Integer.parseInt(matcher.group(1));
-			result = result.replace(group, getParameterWithIndex(accessor, index));
+		QueryTemplate template = queryTemplates.get(queryString);
+		if (template == null) {
+
+			template = QueryTemplate.compile(queryString);
+			queryTemplates.put(queryString, template);
 		}
-		return result;
+		return template;
+	}
+
+	private String render(QueryTemplate template, final SolrParameterAccessor accessor) {
+
+		return template.render(new QueryTemplate.ParameterValues() {
+
+			@Override
+			public String get(int index) {
+				return getParameterWithIndex(accessor, index);
+			}
+		});
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -441,6 +575,11 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 
 		protected Page<?> executeFind(Query query) {
 			EntityMetadata<?> metadata = solrQueryMethod.getEntityInformation();
+
+			ProjectingDocumentConverter projection = getProjectingConverter();
+			if (projection != null) {
+				return solrOperations.queryForPage(query, metadata.getJavaType(), projection);
+			}
 			return solrOperations.queryForPage(query, metadata.getJavaType());
 		}
 	}
@@ -599,6 +738,120 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 		}
 	}
 
+	/**
+	 * Implementation to lazily query solr via a {@link Cursor}. The query is sorted by the unique key (if not already
+	 * present) and pages are fetched using either the page size of the given {@link Pageable} or
+	 * {@link AbstractSolrQuery#DEFAULT_CURSOR_PAGE_SIZE}. Cursors always start at the first result, so a {@link Pageable}
+	 * pointing to any other page is rejected.
+	 *
+	 * @since 2.1
+	 */
+	class CursorExecution implements QueryExecution {
+
+		private final Pageable pageable;
+
+		public CursorExecution(Pageable pageable) {
+			this.pageable = pageable;
+		}
+
+		@Override
+		public Object execute(Query query) {
+			return openCursor(query);
+		}
+
+		protected Cursor<?> openCursor(Query query) {
+
+			Class<?> type = solrQueryMethod.getEntityInformation().getJavaType();
+
+			if (pageable != null && pageable.isPaged() && pageable.getOffset() > 0) {
+				throw new InvalidDataAccessApiUsageException(String.format(
+						"Cannot start cursor at offset %s. Use a Pageable for the first page to define the fetch size.",
+						pageable.getOffset()));
+			}
+
+			int pageSize = pageable != null && pageable.isPaged() ? pageable.getPageSize() : DEFAULT_CURSOR_PAGE_SIZE;
+			if (isLimiting() && getLimit() > 0) {
+				pageSize = Math.min(pageSize, getLimit());
+			}
+
+			query.setPageRequest(new SolrPageRequest(0, pageSize));
+			appendUniqueKeySortIfMissing(query, type);
+
+			return solrOperations.queryForCursor(query, type);
+		}
+
+		private void appendUniqueKeySortIfMissing(Query query, Class<?> type) {
+
+			SolrPersistentProperty idProperty = solrOperations.getConverter().getMappingContext()
+					.getRequiredPersistentEntity(type).getIdProperty();
+
+			if (idProperty == null) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("Cannot use cursor for type %s without id property.", type.getName()));
+			}
+
+			Sort sort = query.getSort();
+			if (sort == null || sort.getOrderFor(idProperty.getFieldName()) == null) {
+				query.addSort(Sort.by(idProperty.getFieldName()));
+			}
+		}
+	}
+
+	/**
+	 * Implementation to lazily query solr returning a {@link Stream} backed by a {@link Cursor}. Closing the
+	 * {@link Stream} closes the {@link Cursor}.
+	 *
+	 * @since 2.1
+	 */
+	class StreamExecution extends CursorExecution {
+
+		public StreamExecution(Pageable pageable) {
+			super(pageable);
+		}
+
+		@Override
+		public Object execute(Query query) {
+
+			Stream<?> stream = StreamUtils.createStreamFromIterator(new CloseableCursorIterator<Object>(openCursor(query)));
+			return isLimiting() && getLimit() > 0 ? stream.limit(getLimit()) : stream;
+		}
+	}
+
+	/**
+	 * {@link CloseableIterator} adapter for {@link Cursor}.
+	 *
+	 * @since 2.1
+	 */
+	private static class CloseableCursorIterator<T> implements CloseableIterator<T> {
+
+		private final Cursor<T> cursor;
+
+		@SuppressWarnings("unchecked")
+		CloseableCursorIterator(Cursor<?> cursor) {
+			this.cursor = (Cursor<T>) cursor;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return cursor.hasNext();
+		}
+
+		@Override
+		public T next() {
+			return cursor.next();
+		}
+
+		@Override
+		public void close() {
+
+			try {
+				cursor.close();
+			} catch (IOException e) {
+				throw new UncategorizedSolrException("Failed to close cursor.", e);
+			}
+		}
+	}
+
 	/**
 	 * Implementation to query solr returning one single entity
 	 *
@@ -609,6 +862,14 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 		@Override
 		public Object execute(Query query) {
 			EntityMetadata<?> metadata = solrQueryMethod.getEntityInformation();
+
+			ProjectingDocumentConverter projection = getProjectingConverter();
+			if (projection != null) {
+
+				query.setPageRequest(new SolrPageRequest(0, 1));
+				Page<?> page = solrOperations.queryForPage(query, metadata.getJavaType(), projection);
+				return Optional.ofNullable(page.hasContent() ? page.getContent().get(0) : null);
+			}
 			return solrOperations.queryForObject(query, metadata.getJavaType());
 		}
 	}
@@ -633,15 +894,25 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 		@Override
 		public Object execute(Query query) {
 
+			if (bufferTransactionalWrites && TransactionSynchronizationManager.isSynchronizationActive()) {
+
+				Object result = countOrGetDocumentsForDelete(query);
+				TransactionalWriteBuffer.getOrCreate(solrOperations, commitStrategy)
+						.delete(solrQueryMethod.getEntityInformation().getCollectionName(), query);
+				return result;
+			}
+
 			if (TransactionSynchronizationManager.isSynchronizationActive()) {
 				SolrTransactionSynchronizationAdapterBuilder.forOperations(solrOperations).withDefaultBehaviour().register();
 			}
 
 			Object result = countOrGetDocumentsForDelete(query);
 
-			solrOperations.delete(query);
-			if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-				solrOperations.commit();
+			if (TransactionSynchronizationManager.isSynchronizationActive()) {
+				solrOperations.delete(query);
+			} else {
+				solrOperations.delete(null, query, commitStrategy.getCommitWithin());
+				commitStrategy.commit(solrOperations, null);
 			}
 
 			return result;
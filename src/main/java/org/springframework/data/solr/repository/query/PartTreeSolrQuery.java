@@ -15,7 +15,10 @@
  */
 package org.springframework.data.solr.repository.query;
 
+import java.util.Map;
+
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.solr.core.SolrOperations;
 import org.springframework.data.solr.core.mapping.SolrPersistentProperty;
@@ -30,11 +33,13 @@ public class PartTreeSolrQuery extends AbstractSolrQuery {
 
 	private final PartTree tree;
 	private final MappingContext<?, SolrPersistentProperty> mappingContext;
+	private final Map<Part, String> fieldNames;
 
 	public PartTreeSolrQuery(SolrQueryMethod method, SolrOperations solrOperations) {
 		super(solrOperations, method);
 		this.tree = new PartTree(method.getName(), method.getEntityInformation().getJavaType());
 		this.mappingContext = solrOperations.getConverter().getMappingContext();
+		this.fieldNames = SolrQueryCreator.resolveFieldNames(tree, mappingContext);
 	}
 
 	public PartTree getTree() {
@@ -43,7 +48,7 @@ public class PartTreeSolrQuery extends AbstractSolrQuery {
 
 	@Override
 	protected Query createQuery(SolrParameterAccessor parameterAccessor) {
-		Query query = new SolrQueryCreator(tree, parameterAccessor, mappingContext).createQuery();
+		Query query = new SolrQueryCreator(tree, parameterAccessor, mappingContext, fieldNames).createQuery();
 		appendProjection(query);
 		return query;
 	}
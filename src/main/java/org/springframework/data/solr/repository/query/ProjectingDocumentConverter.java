@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.repository.query;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.solr.common.SolrDocument;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.solr.core.convert.CustomConversions;
+import org.springframework.data.solr.core.mapping.SolrPersistentEntity;
+import org.springframework.data.solr.core.mapping.SolrPersistentProperty;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Read plan creating closed interface and DTO projections directly from a {@link SolrDocument} without instantiating
+ * the domain type. The Solr field name and target type of every projected property are resolved once, so that reading
+ * a document only requires looking up the projected fields. Projections involving properties that need more than a
+ * plain value conversion, like wildcard and {@link org.springframework.data.solr.core.mapping.Dynamic dynamic} fields,
+ * nested entities and projections or types having a custom reading converter, are not supported and have to be read
+ * via the domain type.
+ *
+ * @since 2.1
+ */
+class ProjectingDocumentConverter implements Converter<SolrDocument, Object> {
+
+	private static final List<Class<?>> SOLR_VALUE_TYPES = Arrays.<Class<?>> asList(String.class, Integer.class,
+			Long.class, Float.class, Double.class, Boolean.class, Date.class, byte[].class);
+
+	private final Class<?> projectionType;
+	private final ProjectedProperty[] properties;
+	private final Constructor<?> constructor;
+	private final ProjectionFactory projectionFactory;
+	private final ConversionService conversionService;
+
+	private ProjectingDocumentConverter(Class<?> projectionType, ProjectedProperty[] properties,
+			Constructor<?> constructor, ProjectionFactory projectionFactory, ConversionService conversionService) {
+
+		this.projectionType = projectionType;
+		this.properties = properties;
+		this.constructor = constructor;
+		this.projectionFactory = projectionFactory;
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Create a {@link ProjectingDocumentConverter} for the given {@link ReturnedType}.
+	 *
+	 * @param returnedType must not be {@literal null}.
+	 * @param domainEntity must not be {@literal null}.
+	 * @param projectionFactory must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 * @param customConversions must not be {@literal null}.
+	 * @return {@literal null} if the {@link ReturnedType} is not a closed interface or DTO projection or cannot be read
+	 *         directly from the document.
+	 */
+	static ProjectingDocumentConverter forReturnedType(ReturnedType returnedType, SolrPersistentEntity<?> domainEntity,
+			ProjectionFactory projectionFactory, ConversionService conversionService, CustomConversions customConversions) {
+
+		Assert.notNull(returnedType, "ReturnedType must not be 'null'.");
+		Assert.notNull(domainEntity, "DomainEntity must not be 'null'.");
+		Assert.notNull(customConversions, "CustomConversions must not be 'null'.");
+
+		if (!returnedType.isProjecting() || !returnedType.needsCustomConstruction()) {
+			return null;
+		}
+
+		Class<?> type = returnedType.getReturnedType();
+		List<String> names = returnedType.getInputProperties();
+
+		Constructor<?> constructor = null;
+		ResolvableType[] targetTypes = new ResolvableType[names.size()];
+
+		if (type.isInterface()) {
+
+			for (int i = 0; i < names.size(); i++) {
+
+				PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, names.get(i));
+				targetTypes[i] = descriptor != null && descriptor.getReadMethod() != null
+						? ResolvableType.forMethodReturnType(descriptor.getReadMethod())
+						: ResolvableType.forClass(Object.class);
+			}
+		} else {
+
+			constructor = findConstructor(type, names.size());
+			if (constructor == null) {
+				return null;
+			}
+			for (int i = 0; i < names.size(); i++) {
+				targetTypes[i] = ResolvableType.forConstructorParameter(constructor, i);
+			}
+		}
+
+		ProjectedProperty[] properties = new ProjectedProperty[names.size()];
+		for (int i = 0; i < names.size(); i++) {
+
+			SolrPersistentProperty property = domainEntity.getPersistentProperty(names.get(i));
+			if (property != null && !isReadableFromDocument(property, targetTypes[i], customConversions)) {
+				return null;
+			}
+
+			String fieldName = property != null ? property.getFieldName() : names.get(i);
+			properties[i] = new ProjectedProperty(names.get(i), fieldName, targetTypes[i].resolve(Object.class));
+		}
+
+		return new ProjectingDocumentConverter(type, properties, constructor, projectionFactory, conversionService);
+	}
+
+	/**
+	 * @return the Solr field names read by this converter. Never contains wildcard patterns.
+	 */
+	List<String> getFieldNames() {
+
+		List<String> fieldNames = new ArrayList<String>(properties.length);
+		for (ProjectedProperty property : properties) {
+			fieldNames.add(property.fieldName);
+		}
+		return fieldNames;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
+	 */
+	@Override
+	public Object convert(SolrDocument source) {
+
+		if (constructor == null) {
+
+			Map<String, Object> values = new HashMap<String, Object>(properties.length * 2);
+			for (ProjectedProperty property : properties) {
+				values.put(property.name, readValue(source, property));
+			}
+			return projectionFactory.createProjection(projectionType, values);
+		}
+
+		Object[] args = new Object[properties.length];
+		for (int i = 0; i < properties.length; i++) {
+			args[i] = readValue(source, properties[i]);
+		}
+		return BeanUtils.instantiateClass(constructor, args);
+	}
+
+	private Object readValue(SolrDocument source, ProjectedProperty property) {
+
+		Object value = source.get(property.fieldName);
+		if (value == null) {
+			return property.defaultValue;
+		}
+
+		if (value instanceof Collection && !property.collectionLike) {
+
+			Collection<?> values = (Collection<?>) value;
+			value = values.isEmpty() ? null : values.iterator().next();
+			if (value == null) {
+				return property.defaultValue;
+			}
+		}
+
+		if (!property.targetType.isInstance(value)
+				&& conversionService.canConvert(value.getClass(), property.targetType)) {
+			return conversionService.convert(value, property.targetType);
+		}
+		return value;
+	}
+
+	/**
+	 * Check whether the value of the given {@link SolrPersistentProperty} can be read as is, or just needs a plain value
+	 * conversion, into the given projection target type.
+	 */
+	private static boolean isReadableFromDocument(SolrPersistentProperty property, ResolvableType targetType,
+			CustomConversions customConversions) {
+
+		if (property.containsWildcard() || property.isDynamicProperty() || property.isEntity()) {
+			return false;
+		}
+
+		Class<?> propertyType = property.getActualType();
+		for (Class<?> valueType : SOLR_VALUE_TYPES) {
+			if (customConversions.hasCustomReadTarget(valueType, propertyType)) {
+				return false;
+			}
+		}
+
+		Class<?> targetActualType = getActualType(targetType);
+		return customConversions.isSimpleType(targetActualType) || targetActualType.isAssignableFrom(propertyType);
+	}
+
+	private static Class<?> getActualType(ResolvableType type) {
+
+		if (type.isArray()) {
+			return type.getComponentType().resolve(Object.class);
+		}
+		if (Collection.class.isAssignableFrom(type.resolve(Object.class))) {
+			return type.asCollection().resolveGeneric(0) != null ? type.asCollection().resolveGeneric(0) : Object.class;
+		}
+		return type.resolve(Object.class);
+	}
+
+	private static Constructor<?> findConstructor(Class<?> type, int parameterCount) {
+
+		Constructor<?> candidate = null;
+		for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+
+			if (constructor.getParameterCount() != parameterCount) {
+				continue;
+			}
+			if (candidate != null) {
+				return null;
+			}
+			candidate = constructor;
+		}
+		return candidate;
+	}
+
+	/**
+	 * @since 2.1
+	 */
+	private static class ProjectedProperty {
+
+		private final String name;
+		private final String fieldName;
+		private final Class<?> targetType;
+		private final boolean collectionLike;
+		private final Object defaultValue;
+
+		ProjectedProperty(String name, String fieldName, Class<?> targetType) {
+
+			this.name = name;
+			this.fieldName = fieldName;
+			this.targetType = ClassUtils.resolvePrimitiveIfNecessary(targetType);
+			this.collectionLike = Collection.class.isAssignableFrom(targetType) || targetType.isArray();
+			this.defaultValue = targetType.isPrimitive() ? Array.get(Array.newInstance(targetType, 1), 0) : null;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.repository.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Query string containing {@code ?0}, {@code ?1}, ... parameter placeholders parsed once into its literal segments and
+ * parameter slots. Rendering appends segments and parameter values to a single buffer, so that the cost of rendering
+ * only depends on the length of the result. Placeholders are matched greedily, {@code ?10} always refers to the
+ * parameter at index {@literal 10} and never to the one at index {@literal 1}.
+ *
+ * @since 2.1
+ */
+class QueryTemplate {
+
+	private final String[] literals;
+	private final int[] parameterIndexes;
+	private final int literalLength;
+
+	private QueryTemplate(String[] literals, int[] parameterIndexes) {
+
+		this.literals = literals;
+		this.parameterIndexes = parameterIndexes;
+
+		int length = 0;
+		for (String literal : literals) {
+			length += literal.length();
+		}
+		this.literalLength = length;
+	}
+
+	/**
+	 * Parse the given query string.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	static QueryTemplate compile(String source) {
+
+		Assert.notNull(source, "Source must not be 'null'.");
+
+		List<String> literals = new ArrayList<String>();
+		List<Integer> parameterIndexes = new ArrayList<Integer>();
+
+		int start = 0;
+		int i = 0;
+		while (i < source.length()) {
+
+			if (source.charAt(i) != '?' || !isDigit(source, i + 1)) {
+				i++;
+				continue;
+			}
+
+			int end = i + 1;
+			while (isDigit(source, end)) {
+				end++;
+			}
+
+			literals.add(source.substring(start, i));
+			parameterIndexes.add(Integer.parseInt(source.substring(i + 1, end)));
+
+			start = end;
+			i = end;
+		}
+		literals.add(source.substring(start));
+
+		int[] indexes = new int[parameterIndexes.size()];
+		for (int j = 0; j < indexes.length; j++) {
+			indexes[j] = parameterIndexes.get(j);
+		}
+
+		return new QueryTemplate(literals.toArray(new String[literals.size()]), indexes);
+	}
+
+	/**
+	 * @return {@literal true} if the template contains at least one parameter placeholder.
+	 */
+	boolean hasParameters() {
+		return parameterIndexes.length > 0;
+	}
+
+	/**
+	 * Render the template replacing every placeholder with the value provided for its parameter index.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	String render(ParameterValues values) {
+
+		if (!hasParameters()) {
+			return literals[0];
+		}
+
+		StringBuilder result = new StringBuilder(literalLength + parameterIndexes.length * 16);
+		for (int i = 0; i < parameterIndexes.length; i++) {
+
+			result.append(literals[i]);
+			result.append(values.get(parameterIndexes[i]));
+		}
+		result.append(literals[literals.length - 1]);
+
+		return result.toString();
+	}
+
+	private static boolean isDigit(String source, int index) {
+
+		if (index >= source.length()) {
+			return false;
+		}
+
+		char c = source.charAt(index);
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Provides the string representation of the parameter values bound to a {@link QueryTemplate}.
+	 *
+	 * @since 2.1
+	 */
+	interface ParameterValues {
+
+		/**
+		 * @param index the parameter index.
+		 * @return the value to place in the query.
+		 */
+		String get(int index);
+	}
+}
@@ -16,7 +16,10 @@
 package org.springframework.data.solr.repository.query;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Sort;
@@ -43,18 +46,49 @@ import org.springframework.data.solr.core.query.SimpleQuery;
 class SolrQueryCreator extends AbstractQueryCreator<Query, Query> {
 
 	private final MappingContext<?, SolrPersistentProperty> context;
+	private final Map<Part, String> fieldNames;
 
 	public SolrQueryCreator(PartTree tree, SolrParameterAccessor parameters,
 			MappingContext<?, SolrPersistentProperty> context) {
+		this(tree, parameters, context, Collections.<Part, String> emptyMap());
+	}
+
+	/**
+	 * @param tree
+	 * @param parameters
+	 * @param context
+	 * @param fieldNames Solr field names of the {@link Part parts} of the given tree resolved upfront via
+	 *          {@link #resolveFieldNames(PartTree, MappingContext)}.
+	 * @since 2.1
+	 */
+	SolrQueryCreator(PartTree tree, SolrParameterAccessor parameters, MappingContext<?, SolrPersistentProperty> context,
+			Map<Part, String> fieldNames) {
 		super(tree, parameters);
 		this.context = context;
+		this.fieldNames = fieldNames;
+	}
+
+	/**
+	 * Resolve the Solr field names of all {@link Part parts} of the given {@link PartTree}, so that creating queries for
+	 * the very same tree does not require any further {@link MappingContext} lookups.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @return field names by {@link Part} identity.
+	 * @since 2.1
+	 */
+	static Map<Part, String> resolveFieldNames(PartTree tree, MappingContext<?, SolrPersistentProperty> context) {
+
+		Map<Part, String> fieldNames = new IdentityHashMap<Part, String>();
+		for (Part part : tree.getParts()) {
+			fieldNames.put(part, resolveFieldName(part, context));
+		}
+		return Collections.unmodifiableMap(fieldNames);
 	}
 
 	@Override
 	protected Query create(Part part, Iterator<Object> iterator) {
-		PersistentPropertyPath<SolrPersistentProperty> path = context.getPersistentPropertyPath(part.getProperty());
-		return new SimpleQuery(from(part.getType(),
-				new Criteria(path.toDotPath(SolrPersistentProperty.PropertyToFieldNameConverter.INSTANCE)), iterator));
+		return new SimpleQuery(from(part.getType(), new Criteria(getFieldName(part)), iterator));
 	}
 
 	@Override
@@ -62,9 +96,19 @@ class SolrQueryCreator extends AbstractQueryCreator<Query, Query> {
 		if (base == null) {
 			return create(part, iterator);
 		}
+		return base.addCriteria(from(part.getType(), new Criteria(getFieldName(part)), iterator));
+	}
+
+	private String getFieldName(Part part) {
+
+		String fieldName = fieldNames.get(part);
+		return fieldName != null ? fieldName : resolveFieldName(part, context);
+	}
+
+	private static String resolveFieldName(Part part, MappingContext<?, SolrPersistentProperty> context) {
+
 		PersistentPropertyPath<SolrPersistentProperty> path = context.getPersistentPropertyPath(part.getProperty());
-		return base.addCriteria(from(part.getType(),
-				new Criteria(path.toDotPath(SolrPersistentProperty.PropertyToFieldNameConverter.INSTANCE)), iterator));
+		return path.toDotPath(SolrPersistentProperty.PropertyToFieldNameConverter.INSTANCE);
 	}
 
 	@Override
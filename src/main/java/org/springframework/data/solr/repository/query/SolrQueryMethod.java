@@ -31,6 +31,7 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.solr.core.query.SpellcheckOptions;
+import org.springframework.data.solr.core.query.result.Cursor;
 import org.springframework.data.solr.repository.Facet;
 import org.springframework.data.solr.repository.Highlight;
 import org.springframework.data.solr.repository.Pivot;
@@ -55,11 +56,21 @@ import org.springframework.util.StringUtils;
 public class SolrQueryMethod extends QueryMethod {
 
 	private final Method method;
+	private final ProjectionFactory projectionFactory;
 
 	public SolrQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 			SolrEntityInformationCreator solrInformationCreator) {
 		super(method, metadata, factory);
 		this.method = method;
+		this.projectionFactory = factory;
+	}
+
+	/**
+	 * @return the {@link ProjectionFactory} used for creating interface projections.
+	 * @since 2.1
+	 */
+	ProjectionFactory getProjectionFactory() {
+		return projectionFactory;
 	}
 
 	/**
@@ -319,6 +330,14 @@ public class SolrQueryMethod extends QueryMethod {
 		return false;
 	}
 
+	/**
+	 * @return true if the method returns a {@link Cursor}.
+	 * @since 2.1
+	 */
+	public boolean isCursorQuery() {
+		return Cursor.class.isAssignableFrom(method.getReturnType());
+	}
+
 	private Annotation getHighlightAnnotation() {
 		return this.method.getAnnotation(Highlight.class);
 	}
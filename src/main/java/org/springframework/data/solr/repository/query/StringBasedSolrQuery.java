@@ -27,7 +27,7 @@ import org.springframework.data.solr.core.query.SimpleQuery;
  */
 public class StringBasedSolrQuery extends AbstractSolrQuery {
 
-	private final String rawQueryString;
+	private final QueryTemplate queryTemplate;
 
 	public StringBasedSolrQuery(SolrQueryMethod method, SolrOperations solrOperations) {
 		this(method.getAnnotatedQuery(), method, solrOperations);
@@ -35,12 +35,12 @@ public class StringBasedSolrQuery extends AbstractSolrQuery {
 
 	public StringBasedSolrQuery(String query, SolrQueryMethod queryMethod, SolrOperations solrOperations) {
 		super(solrOperations, queryMethod);
-		this.rawQueryString = query;
+		this.queryTemplate = QueryTemplate.compile(query);
 	}
 
 	@Override
 	protected Query createQuery(SolrParameterAccessor parameterAccessor) {
-		SimpleQuery query = createQueryFromString(this.rawQueryString, parameterAccessor);
+		SimpleQuery query = createQueryFromTemplate(this.queryTemplate, parameterAccessor);
 		appendProjection(query);
 		query.addSort(parameterAccessor.getSort());
 		return query;
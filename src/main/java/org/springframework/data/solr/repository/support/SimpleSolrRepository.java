@@ -15,6 +15,7 @@
  */
 package org.springframework.data.solr.repository.support;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -23,16 +24,19 @@ import java.util.*;
 import org.apache.solr.common.SolrInputDocument;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.solr.UncategorizedSolrException;
+import org.springframework.data.solr.core.CommitStrategy;
 import org.springframework.data.solr.core.SolrOperations;
 import org.springframework.data.solr.core.SolrTransactionSynchronizationAdapterBuilder;
+import org.springframework.data.solr.core.TransactionalWriteBuffer;
 import org.springframework.data.solr.core.mapping.SimpleSolrMappingContext;
 import org.springframework.data.solr.core.query.Criteria;
 import org.springframework.data.solr.core.query.SimpleFilterQuery;
 import org.springframework.data.solr.core.query.SimpleQuery;
 import org.springframework.data.solr.core.query.SolrPageRequest;
+import org.springframework.data.solr.core.query.result.Cursor;
 import org.springframework.data.solr.repository.SolrCrudRepository;
 import org.springframework.data.solr.repository.query.SolrEntityInformation;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -48,12 +52,16 @@ import org.springframework.util.Assert;
 public class SimpleSolrRepository<T, ID extends Serializable> implements SolrCrudRepository<T, ID> {
 
 	private static final String DEFAULT_ID_FIELD = "id";
+	static final int DEFAULT_CURSOR_PAGE_SIZE = 1000;
 
 	private SolrOperations solrOperations;
 	private String idFieldName = DEFAULT_ID_FIELD;
 	private Class<T> entityClass;
 	private SolrEntityInformation<T, ?> entityInformation;
 	private final String solrCollectionName;
+	private int cursorPageSize = DEFAULT_CURSOR_PAGE_SIZE;
+	private CommitStrategy commitStrategy = CommitStrategy.explicit();
+	private boolean bufferTransactionalWrites;
 
 	/**
 	 * @param metadata must not be null
@@ -88,11 +96,7 @@ public class SimpleSolrRepository<T, ID extends Serializable> implements SolrCru
 
 	@Override
 	public Iterable<T> findAll() {
-		int itemCount = (int) this.count();
-		if (itemCount == 0) {
-			return new PageImpl<T>(Collections.<T> emptyList());
-		}
-		return this.findAll(new SolrPageRequest(0, itemCount));
+		return findAll(Sort.unsorted());
 	}
 
 	@Override
@@ -102,23 +106,61 @@ public class SimpleSolrRepository<T, ID extends Serializable> implements SolrCru
 				getEntityClass());
 	}
 
+	/**
+	 * Returns a lazy {@link Iterable} backed by a {@link Cursor}. Each call to {@link Iterable#iterator()} opens a new
+	 * cursor loading {@link #getCursorPageSize()} documents per request. The given {@link Sort} is completed with the id
+	 * field as required by Solr for cursor based paging.
+	 *
+	 * @see org.springframework.data.repository.PagingAndSortingRepository#findAll(org.springframework.data.domain.Sort)
+	 */
 	@Override
 	public Iterable<T> findAll(Sort sort) {
-		int itemCount = (int) this.count();
-		if (itemCount == 0) {
-			return new PageImpl<T>(Collections.<T> emptyList());
+
+		Sort cursorSort = sort != null ? sort : Sort.unsorted();
+		if (cursorSort.getOrderFor(this.idFieldName) == null) {
+			cursorSort = cursorSort.and(Sort.by(this.idFieldName));
 		}
-		return getSolrOperations().queryForPage(
-				new SimpleQuery(new Criteria(Criteria.WILDCARD).expression(Criteria.WILDCARD)).setPageRequest(
-						new SolrPageRequest(0, itemCount)).addSort(sort), getEntityClass());
+
+		final org.springframework.data.solr.core.query.Query query = new SimpleQuery(
+				new Criteria(Criteria.WILDCARD).expression(Criteria.WILDCARD))
+						.setPageRequest(new SolrPageRequest(0, this.cursorPageSize)).addSort(cursorSort);
+
+		return new Iterable<T>() {
+
+			@Override
+			public Iterator<T> iterator() {
+				return new ClosingCursorIterator<T>(
+						getSolrOperations().queryForCursor(solrCollectionName, query, getEntityClass()));
+			}
+		};
 	}
 
+	/**
+	 * Loads the entities using the realtime get handler requesting at most {@link #getCursorPageSize()} ids at once.
+	 * <strong>NOTE:</strong> Realtime get also returns documents that have been written but not committed yet, including
+	 * ones written outside the current transaction. Use a query on the id field to see committed documents only.
+	 *
+	 * @see org.springframework.data.repository.CrudRepository#findAllById(java.lang.Iterable)
+	 */
 	@Override
 	public Iterable<T> findAllById(Iterable<ID> ids) {
-		org.springframework.data.solr.core.query.Query query = new SimpleQuery(new Criteria(this.idFieldName).in(ids));
-		query.setPageRequest(new SolrPageRequest(0, (int) count(query)));
 
-		return getSolrOperations().queryForPage(query, getEntityClass());
+		Assert.notNull(ids, "Ids must not be 'null'.");
+
+		List<T> result = new ArrayList<T>();
+		List<ID> chunk = new ArrayList<ID>(Math.min(this.cursorPageSize, 64));
+		for (ID id : ids) {
+
+			chunk.add(id);
+			if (chunk.size() == this.cursorPageSize) {
+				result.addAll(getSolrOperations().getById(solrCollectionName, chunk, getEntityClass()));
+				chunk.clear();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			result.addAll(getSolrOperations().getById(solrCollectionName, chunk, getEntityClass()));
+		}
+		return result;
 	}
 
 	@Override
@@ -134,8 +176,14 @@ public class SimpleSolrRepository<T, ID extends Serializable> implements SolrCru
 	@Override
 	public <S extends T> S save(S entity) {
 		Assert.notNull(entity, "Cannot save 'null' entity.");
+
+		if (isTransactionalWriteBufferActive()) {
+			bufferSave(getTransactionalWriteBuffer(), entity);
+			return entity;
+		}
+
 		registerTransactionSynchronisationIfSynchronisationActive();
-		this.solrOperations.saveBean(entity);
+		this.solrOperations.saveBean(entity, resolveCommitWithin());
 		commitIfTransactionSynchronisationIsInactive();
 		return entity;
 	}
@@ -148,8 +196,17 @@ public class SimpleSolrRepository<T, ID extends Serializable> implements SolrCru
 			throw new InvalidDataAccessApiUsageException("Entities have to be inside a collection");
 		}
 
+		if (isTransactionalWriteBufferActive()) {
+
+			TransactionalWriteBuffer buffer = getTransactionalWriteBuffer();
+			for (S entity : entities) {
+				bufferSave(buffer, entity);
+			}
+			return entities;
+		}
+
 		registerTransactionSynchronisationIfSynchronisationActive();
-		this.solrOperations.saveBeans((Collection<? extends T>) entities);
+		this.solrOperations.saveBeans((Collection<? extends T>) entities, resolveCommitWithin());
 		commitIfTransactionSynchronisationIsInactive();
 		return entities;
 	}
@@ -163,8 +220,13 @@ public class SimpleSolrRepository<T, ID extends Serializable> implements SolrCru
 	public void deleteById(ID id) {
 		Assert.notNull(id, "Cannot delete entity with id 'null'.");
 
+		if (isTransactionalWriteBufferActive()) {
+			getTransactionalWriteBuffer().deleteById(solrCollectionName, Collections.singletonList(id.toString()));
+			return;
+		}
+
 		registerTransactionSynchronisationIfSynchronisationActive();
-		this.solrOperations.deleteById(id.toString());
+		this.solrOperations.deleteById(null, Collections.singletonList(id.toString()), resolveCommitWithin());
 		commitIfTransactionSynchronisationIsInactive();
 	}
 
@@ -184,18 +246,95 @@ public class SimpleSolrRepository<T, ID extends Serializable> implements SolrCru
 			idsToDelete.add(extractIdFromBean(entity).toString());
 		}
 
+		if (isTransactionalWriteBufferActive()) {
+			getTransactionalWriteBuffer().deleteById(solrCollectionName, idsToDelete);
+			return;
+		}
+
 		registerTransactionSynchronisationIfSynchronisationActive();
-		this.solrOperations.deleteById(idsToDelete);
+		this.solrOperations.deleteById(null, idsToDelete, resolveCommitWithin());
 		commitIfTransactionSynchronisationIsInactive();
 	}
 
 	@Override
 	public void deleteAll() {
+
+		SimpleFilterQuery query = new SimpleFilterQuery(new Criteria(Criteria.WILDCARD).expression(Criteria.WILDCARD));
+		if (isTransactionalWriteBufferActive()) {
+			getTransactionalWriteBuffer().delete(solrCollectionName, query);
+			return;
+		}
+
 		registerTransactionSynchronisationIfSynchronisationActive();
-		this.solrOperations.delete(new SimpleFilterQuery(new Criteria(Criteria.WILDCARD).expression(Criteria.WILDCARD)));
+		this.solrOperations.delete(null, query, resolveCommitWithin());
 		commitIfTransactionSynchronisationIsInactive();
 	}
 
+	/**
+	 * @return number of documents loaded per request when iterating via {@link #findAll()}.
+	 * @since 2.1
+	 */
+	public int getCursorPageSize() {
+		return cursorPageSize;
+	}
+
+	/**
+	 * Set the number of documents to load per request when iterating via {@link #findAll()} and the max number of ids
+	 * per realtime get request in {@link #findAllById(Iterable)}. Defaults to {@value #DEFAULT_CURSOR_PAGE_SIZE}.
+	 *
+	 * @param cursorPageSize must be greater than zero.
+	 * @since 2.1
+	 */
+	public void setCursorPageSize(int cursorPageSize) {
+
+		Assert.isTrue(cursorPageSize > 0, "CursorPageSize must be greater than zero.");
+		this.cursorPageSize = cursorPageSize;
+	}
+
+	/**
+	 * @return the {@link CommitStrategy} applied to write operations outside of a transaction and to buffered
+	 *         transactional writes.
+	 * @since 2.1
+	 */
+	public CommitStrategy getCommitStrategy() {
+		return commitStrategy;
+	}
+
+	/**
+	 * Set the {@link CommitStrategy} to apply to write operations outside of a transaction and to buffered transactional
+	 * writes once they have been sent. Defaults to {@link CommitStrategy#explicit()}.
+	 *
+	 * @param commitStrategy must not be {@literal null}.
+	 * @since 2.1
+	 */
+	public void setCommitStrategy(CommitStrategy commitStrategy) {
+
+		Assert.notNull(commitStrategy, "CommitStrategy must not be 'null'.");
+		this.commitStrategy = commitStrategy;
+	}
+
+	/**
+	 * @return {@literal true} if writes within a transaction are buffered.
+	 * @since 2.1
+	 */
+	public boolean isBufferTransactionalWrites() {
+		return bufferTransactionalWrites;
+	}
+
+	/**
+	 * Enable buffering of writes issued within a transaction. Buffered documents and deletes are deduplicated by id and
+	 * sent as one update request per collection followed by a single commit via the {@link CommitStrategy} right before
+	 * the transaction commits. On rollback the buffer is discarded without contacting the server. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param bufferTransactionalWrites
+	 * @see TransactionalWriteBuffer
+	 * @since 2.1
+	 */
+	public void setBufferTransactionalWrites(boolean bufferTransactionalWrites) {
+		this.bufferTransactionalWrites = bufferTransactionalWrites;
+	}
+
 	public final String getIdFieldName() {
 		return idFieldName;
 	}
@@ -283,12 +422,72 @@ public class SimpleSolrRepository<T, ID extends Serializable> implements SolrCru
 				.forOperations(this.solrOperations).withDefaultBehaviour());
 	}
 
+	private boolean isTransactionalWriteBufferActive() {
+		return this.bufferTransactionalWrites && TransactionSynchronizationManager.isSynchronizationActive();
+	}
+
+	private TransactionalWriteBuffer getTransactionalWriteBuffer() {
+		return TransactionalWriteBuffer.getOrCreate(this.solrOperations, this.commitStrategy);
+	}
+
+	private void bufferSave(TransactionalWriteBuffer buffer, Object entity) {
+
+		SolrInputDocument document = this.solrOperations.convertBeanToSolrInputDocument(entity);
+		buffer.add(solrCollectionName, extractIdFromSolrInputDocument(document), document);
+	}
+
+	private int resolveCommitWithin() {
+		return TransactionSynchronizationManager.isSynchronizationActive() ? -1 : this.commitStrategy.getCommitWithin();
+	}
+
 	private void commitIfTransactionSynchronisationIsInactive() {
 		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-			this.solrOperations.commit();
+			this.commitStrategy.commit(this.solrOperations, null);
 		}
 	}
 	private static SolrEntityInformation getEntityInformation(Class type) {
 		return new SolrEntityInformationCreatorImpl(new SimpleSolrMappingContext()).getEntityInformation(type);
 	}
+
+	/**
+	 * {@link Iterator} closing the underlying {@link Cursor} as soon as it is exhausted.
+	 *
+	 * @since 2.1
+	 * @param <T>
+	 */
+	private static class ClosingCursorIterator<T> implements Iterator<T> {
+
+		private final Cursor<T> cursor;
+
+		ClosingCursorIterator(Cursor<T> cursor) {
+			this.cursor = cursor;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			if (cursor.isClosed()) {
+				return false;
+			}
+
+			boolean hasNext = cursor.hasNext();
+			if (!hasNext) {
+				try {
+					cursor.close();
+				} catch (IOException e) {
+					throw new UncategorizedSolrException("Failed to close cursor.", e);
+				}
+			}
+			return hasNext;
+		}
+
+		@Override
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return cursor.next();
+		}
+	}
 }
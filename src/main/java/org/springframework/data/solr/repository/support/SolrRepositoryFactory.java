@@ -34,11 +34,13 @@ import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.solr.core.CommitStrategy;
 import org.springframework.data.solr.core.SolrOperations;
 import org.springframework.data.solr.core.SolrTemplate;
 import org.springframework.data.solr.core.convert.SolrConverter;
 import org.springframework.data.solr.core.schema.SolrPersistentEntitySchemaCreator.Feature;
 import org.springframework.data.solr.repository.SolrRepository;
+import org.springframework.data.solr.repository.query.AbstractSolrQuery;
 import org.springframework.data.solr.repository.query.PartTreeSolrQuery;
 import org.springframework.data.solr.repository.query.SolrEntityInformation;
 import org.springframework.data.solr.repository.query.SolrEntityInformationCreator;
@@ -62,6 +64,8 @@ public class SolrRepositoryFactory extends RepositoryFactorySupport {
 	private SolrClientFactory factory;
 	private SolrTemplateHolder templateHolder = new SolrTemplateHolder();
 	private boolean schemaCreationSupport;
+	private CommitStrategy commitStrategy = CommitStrategy.explicit();
+	private boolean bufferTransactionalWrites;
 
 	public SolrRepositoryFactory(SolrOperations solrOperations) {
 		Assert.notNull(solrOperations, "SolrOperations must not be null!");
@@ -135,6 +139,8 @@ public class SolrRepositoryFactory extends RepositoryFactorySupport {
 		SimpleSolrRepository repository = getTargetRepositoryViaReflection(metadata,
 				getEntityInformation(metadata.getDomainType()), operations);
 		repository.setEntityClass(metadata.getDomainType());
+		repository.setCommitStrategy(commitStrategy);
+		repository.setBufferTransactionalWrites(bufferTransactionalWrites);
 
 		this.templateHolder.add(metadata.getDomainType(), operations);
 		return repository;
@@ -179,6 +185,47 @@ public class SolrRepositoryFactory extends RepositoryFactorySupport {
 		this.schemaCreationSupport = schemaCreationSupport;
 	}
 
+	/**
+	 * @return
+	 * @since 2.1
+	 */
+	public CommitStrategy getCommitStrategy() {
+		return commitStrategy;
+	}
+
+	/**
+	 * Set the {@link CommitStrategy} applied by repositories to write operations outside of a transaction and to
+	 * buffered transactional writes. Defaults to {@link CommitStrategy#explicit()}.
+	 *
+	 * @param commitStrategy must not be {@literal null}.
+	 * @since 2.1
+	 */
+	public void setCommitStrategy(CommitStrategy commitStrategy) {
+
+		Assert.notNull(commitStrategy, "CommitStrategy must not be 'null'.");
+		this.commitStrategy = commitStrategy;
+	}
+
+	/**
+	 * @return
+	 * @since 2.1
+	 */
+	public boolean isBufferTransactionalWrites() {
+		return bufferTransactionalWrites;
+	}
+
+	/**
+	 * Buffer repository writes issued within a transaction and send them right before the transaction commits. Defaults
+	 * to {@literal false}.
+	 *
+	 * @param bufferTransactionalWrites
+	 * @see org.springframework.data.solr.core.TransactionalWriteBuffer
+	 * @since 2.1
+	 */
+	public void setBufferTransactionalWrites(boolean bufferTransactionalWrites) {
+		this.bufferTransactionalWrites = bufferTransactionalWrites;
+	}
+
 	private class SolrQueryLookupStrategy implements QueryLookupStrategy {
 
 		@Override
@@ -190,14 +237,19 @@ public class SolrRepositoryFactory extends RepositoryFactorySupport {
 
 			SolrOperations solrOperations = selectSolrOperations(metadata);
 
+			AbstractSolrQuery query;
 			if (namedQueries.hasQuery(namedQueryName)) {
 				String namedQuery = namedQueries.getQuery(namedQueryName);
-				return new StringBasedSolrQuery(namedQuery, queryMethod, solrOperations);
+				query = new StringBasedSolrQuery(namedQuery, queryMethod, solrOperations);
 			} else if (queryMethod.hasAnnotatedQuery()) {
-				return new StringBasedSolrQuery(queryMethod, solrOperations);
+				query = new StringBasedSolrQuery(queryMethod, solrOperations);
 			} else {
-				return new PartTreeSolrQuery(queryMethod, solrOperations);
+				query = new PartTreeSolrQuery(queryMethod, solrOperations);
 			}
+
+			query.setCommitStrategy(commitStrategy);
+			query.setBufferTransactionalWrites(bufferTransactionalWrites);
+			return query;
 		}
 
 		private SolrOperations selectSolrOperations(RepositoryMetadata metadata) {
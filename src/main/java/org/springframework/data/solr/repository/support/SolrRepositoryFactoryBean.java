@@ -22,6 +22,7 @@ import org.springframework.beans.factory.FactoryBean;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
+import org.springframework.data.solr.core.CommitStrategy;
 import org.springframework.data.solr.core.SolrOperations;
 import org.springframework.data.solr.core.convert.SolrConverter;
 import org.springframework.data.solr.core.mapping.SimpleSolrMappingContext;
@@ -41,6 +42,8 @@ public class SolrRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 	private boolean schemaCreationSupport;
 	private SimpleSolrMappingContext solrMappingContext;
 	private SolrConverter solrConverter;
+	private CommitStrategy commitStrategy;
+	private boolean bufferTransactionalWrites;
 
 	/**
 	 * Creates a new {@link SolrRepositoryFactoryBean} for the given repository interface.
@@ -76,6 +79,22 @@ public class SolrRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		this.solrConverter = solrConverter;
 	}
 
+	/**
+	 * @param commitStrategy the {@link CommitStrategy} to apply to write operations outside of a transaction.
+	 * @since 2.1
+	 */
+	public void setCommitStrategy(CommitStrategy commitStrategy) {
+		this.commitStrategy = commitStrategy;
+	}
+
+	/**
+	 * @param bufferTransactionalWrites whether to buffer writes within a transaction until it commits.
+	 * @since 2.1
+	 */
+	public void setBufferTransactionalWrites(boolean bufferTransactionalWrites) {
+		this.bufferTransactionalWrites = bufferTransactionalWrites;
+	}
+
 	/**
 	 * @param solrMappingContext
 	 * @since 1.4
@@ -117,6 +136,10 @@ public class SolrRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		SolrRepositoryFactory factory = operations != null ? new SolrRepositoryFactory(this.operations)
 				: new SolrRepositoryFactory(this.solrClient, solrConverter);
 		factory.setSchemaCreationSupport(schemaCreationSupport);
+		factory.setBufferTransactionalWrites(bufferTransactionalWrites);
+		if (commitStrategy != null) {
+			factory.setCommitStrategy(commitStrategy);
+		}
 		return factory;
 	}
 }
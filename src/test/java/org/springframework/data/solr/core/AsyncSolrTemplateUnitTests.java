@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsInstanceOf.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.solr.core.query.Criteria;
+import org.springframework.data.solr.core.query.SimpleQuery;
+import org.springframework.data.solr.core.query.SolrDataQuery;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncSolrTemplateUnitTests {
+
+	@Mock SolrOperations solrOperationsMock;
+
+	ExecutorService executor;
+	AsyncSolrTemplate template;
+
+	@Before
+	public void setUp() {
+
+		executor = Executors.newFixedThreadPool(2);
+		template = new AsyncSolrTemplate(solrOperationsMock, executor);
+	}
+
+	@After
+	public void tearDown() {
+
+		template.destroy();
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void countShouldCompleteWithResultOfDelegate() throws Exception {
+
+		when(solrOperationsMock.count(eq("collection-1"), any(SolrDataQuery.class))).thenReturn(10L);
+
+		assertThat(template.count("collection-1", new SimpleQuery(Criteria.where("id").is("1"))).get(), is(10L));
+	}
+
+	@Test
+	public void getByIdShouldWrapMissingResultInOptional() throws Exception {
+
+		assertThat(template.getById("collection-1", "1", SimpleJavaObject.class).get(),
+				is(Optional.<SimpleJavaObject> empty()));
+		verify(solrOperationsMock).getById("collection-1", "1", SimpleJavaObject.class);
+	}
+
+	@Test
+	public void shouldCompleteExceptionallyWhenDelegateFails() throws InterruptedException {
+
+		when(solrOperationsMock.count(eq("collection-1"), any(SolrDataQuery.class)))
+				.thenThrow(new DataAccessResourceFailureException("boom"));
+
+		try {
+			template.count("collection-1", new SimpleQuery(Criteria.where("id").is("1"))).get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause(), instanceOf(DataAccessResourceFailureException.class));
+		}
+	}
+
+	@Test
+	public void shouldCompleteExceptionallyWithQueryTimeoutException() throws InterruptedException {
+
+		final CountDownLatch release = new CountDownLatch(1);
+		when(solrOperationsMock.count(eq("collection-1"), any(SolrDataQuery.class))).thenAnswer(new Answer<Long>() {
+
+			@Override
+			public Long answer(InvocationOnMock invocation) throws Throwable {
+				release.await();
+				return 1L;
+			}
+		});
+
+		try {
+			template.withTimeout(Duration.ofMillis(10)).count("collection-1", new SimpleQuery(Criteria.where("id").is("1")))
+					.get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause(), instanceOf(QueryTimeoutException.class));
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void destroyOfTimeoutViewShouldNotStopTimerOfOriginal() throws InterruptedException {
+
+		((AsyncSolrTemplate) template.withTimeout(Duration.ofSeconds(1))).destroy();
+
+		shouldCompleteExceptionallyWithQueryTimeoutException();
+	}
+
+	@Test
+	public void shouldSkipOperationTimedOutBeforeBeingStarted() throws Exception {
+
+		final CountDownLatch release = new CountDownLatch(1);
+		when(solrOperationsMock.count(eq("collection-1"), any(SolrDataQuery.class))).thenAnswer(new Answer<Long>() {
+
+			@Override
+			public Long answer(InvocationOnMock invocation) throws Throwable {
+				release.await();
+				return 1L;
+			}
+		});
+
+		ExecutorService singleThread = Executors.newSingleThreadExecutor();
+		AsyncSolrTemplate singleThreadTemplate = new AsyncSolrTemplate(solrOperationsMock, singleThread);
+		try {
+
+			AsyncSolrOperations operations = singleThreadTemplate.withTimeout(Duration.ofMillis(10));
+			operations.count("collection-1", new SimpleQuery(Criteria.where("id").is("1")));
+			try {
+				operations.count("collection-1", new SimpleQuery(Criteria.where("id").is("2"))).get();
+				fail("Missing ExecutionException");
+			} catch (ExecutionException e) {
+				assertThat(e.getCause(), instanceOf(QueryTimeoutException.class));
+			}
+
+			release.countDown();
+			singleThread.shutdown();
+			singleThread.awaitTermination(5, TimeUnit.SECONDS);
+
+			verify(solrOperationsMock, times(1)).count(eq("collection-1"), any(SolrDataQuery.class));
+		} finally {
+
+			release.countDown();
+			singleThreadTemplate.destroy();
+			singleThread.shutdownNow();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withTimeoutShouldRejectZeroDuration() {
+		template.withTimeout(Duration.ZERO);
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.hamcrest.core.Is.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.solr.core.CommitStrategy.CoalescingCommitStrategy;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CommitStrategyUnitTests {
+
+	@Mock SolrOperations operationsMock;
+	@Mock SolrOperations otherOperationsMock;
+
+	CoalescingCommitStrategy coalescing;
+
+	@After
+	public void tearDown() {
+
+		if (coalescing != null) {
+			coalescing.destroy();
+		}
+	}
+
+	@Test
+	public void explicitShouldSendHardCommit() {
+
+		CommitStrategy.explicit().commit(operationsMock, "foo");
+
+		verify(operationsMock).commit("foo");
+		assertThat(CommitStrategy.explicit().getCommitWithin(), is(-1));
+	}
+
+	@Test
+	public void softCommitShouldSendSoftCommit() {
+
+		CommitStrategy.softCommit().commit(operationsMock, "foo");
+
+		verify(operationsMock).softCommit("foo");
+	}
+
+	@Test
+	public void commitWithinShouldNotSendCommit() {
+
+		CommitStrategy strategy = CommitStrategy.commitWithin(500);
+		strategy.commit(operationsMock, "foo");
+
+		verifyZeroInteractions(operationsMock);
+		assertThat(strategy.getCommitWithin(), is(500));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void commitWithinShouldRejectNonPositiveValue() {
+		CommitStrategy.commitWithin(0);
+	}
+
+	@Test
+	public void coalescingShouldMergeCommitsWithinWindow() {
+
+		coalescing = CommitStrategy.coalescing(60000);
+
+		coalescing.commit(operationsMock, "foo");
+		coalescing.commit(operationsMock, "foo");
+		coalescing.commit(operationsMock, "bar");
+		coalescing.commit(otherOperationsMock, "foo");
+
+		verifyZeroInteractions(operationsMock, otherOperationsMock);
+
+		coalescing.flush();
+
+		verify(operationsMock, times(1)).commit("foo");
+		verify(operationsMock, times(1)).commit("bar");
+		verify(otherOperationsMock, times(1)).commit("foo");
+	}
+
+	@Test
+	public void coalescingShouldCommitOnceWindowElapsed() {
+
+		coalescing = CommitStrategy.coalescing(10);
+
+		coalescing.commit(operationsMock, null);
+
+		verify(operationsMock, timeout(5000).times(1)).commit((String) null);
+	}
+
+	@Test
+	public void destroyShouldSendOutstandingCommits() {
+
+		coalescing = CommitStrategy.coalescing(60000);
+		coalescing.commit(operationsMock, "foo");
+
+		coalescing.destroy();
+
+		verify(operationsMock, times(1)).commit("foo");
+	}
+
+	@Test
+	public void coalescingShouldCommitRightAwayOnceDestroyed() {
+
+		coalescing = CommitStrategy.coalescing(60000);
+		coalescing.destroy();
+
+		coalescing.commit(operationsMock, "foo");
+		verify(operationsMock, times(1)).commit("foo");
+
+		coalescing.flush();
+		verify(operationsMock, times(1)).commit("foo");
+	}
+
+	@Test
+	public void coalescingShouldRethrowFailedCommitToNextCaller() {
+
+		DataAccessResourceFailureException failure = new DataAccessResourceFailureException("boom");
+		doThrow(failure).when(operationsMock).commit("foo");
+
+		coalescing = CommitStrategy.coalescing(60000);
+		coalescing.commit(operationsMock, "foo");
+		coalescing.flush();
+
+		try {
+			coalescing.commit(operationsMock, "foo");
+			fail("Missing DataAccessResourceFailureException");
+		} catch (DataAccessResourceFailureException e) {
+			assertThat(e, is(failure));
+		}
+
+		coalescing.commit(operationsMock, "foo");
+		coalescing.commit(otherOperationsMock, "foo");
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsNull.*;
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.common.params.ShardParams;
+import org.junit.Test;
+
+public class CursorPartitioningUnitTests {
+
+	@Test
+	public void hashRangeShouldCreateOneFilterQueryPerWorker() {
+
+		SolrQuery query = new SolrQuery("*:*");
+		List<SolrQuery> partitions = CursorPartitioning.byHashRange(3).partition(query, "id");
+
+		assertThat(partitions.size(), is(3));
+		for (int i = 0; i < 3; i++) {
+			assertThat(partitions.get(i).getFilterQueries()[0], is("{!hash workers=3 worker=" + i + "}"));
+			assertThat(partitions.get(i).get("partitionKeys"), is("id"));
+			assertThat(partitions.get(i).getQuery(), is("*:*"));
+		}
+		assertThat(query.getFilterQueries(), nullValue());
+	}
+
+	@Test
+	public void hashRangeShouldNotAddFilterForSinglePartition() {
+
+		List<SolrQuery> partitions = CursorPartitioning.byHashRange(1).partition(new SolrQuery("*:*"), "id");
+
+		assertThat(partitions.size(), is(1));
+		assertThat(partitions.get(0).getFilterQueries(), nullValue());
+	}
+
+	@Test
+	public void shardsShouldRestrictEachPartitionToOneShard() {
+
+		List<SolrQuery> partitions = CursorPartitioning.byShards("shard1", "shard2").partition(new SolrQuery("*:*"),
+				"id");
+
+		assertThat(partitions.size(), is(2));
+		assertThat(partitions.get(0).get(ShardParams.SHARDS), is("shard1"));
+		assertThat(partitions.get(1).get(ShardParams.SHARDS), is("shard2"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void hashRangeShouldRejectZeroPartitions() {
+		CursorPartitioning.byHashRange(0);
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.hamcrest.core.Is.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.response.UpdateResponse;
+import org.apache.solr.common.SolrInputDocument;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.solr.core.BulkSolrIndexer.BatchFailureHandler;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultBulkSolrIndexerUnitTests {
+
+	@Mock SolrClient solrClientMock;
+
+	SolrTemplate template;
+	BulkSolrIndexer indexer;
+
+	@Before
+	public void setUp() {
+
+		template = new SolrTemplate(solrClientMock, "core1");
+		template.afterPropertiesSet();
+	}
+
+	@After
+	public void tearDown() {
+
+		if (indexer != null) {
+			indexer.close();
+		}
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void shouldSendBatchOnceBatchSizeIsReached() throws SolrServerException, IOException {
+
+		indexer = template.createBulkIndexer(BulkIndexerOptions.defaults().batchSize(2).maxBatchDelay(60000));
+
+		indexer.add(new SimpleJavaObject("1", 1L));
+		indexer.add(new SimpleJavaObject("2", 2L));
+		indexer.add(new SimpleJavaObject("3", 3L));
+		indexer.flush();
+
+		ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+		verify(solrClientMock, times(2)).add(eq("core1"), captor.capture(), eq(-1));
+
+		int total = 0;
+		for (Collection<?> batch : captor.getAllValues()) {
+			total += batch.size();
+		}
+		assertThat(total, is(3));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void flushShouldSendPendingBatchesPerCollection() throws SolrServerException, IOException {
+
+		indexer = template.createBulkIndexer(BulkIndexerOptions.defaults().maxBatchDelay(60000).commitWithin(100));
+
+		indexer.add("foo", new SimpleJavaObject("1", 1L));
+		indexer.add("bar", new SimpleJavaObject("2", 2L));
+		indexer.flush();
+
+		verify(solrClientMock).add(eq("foo"), anyCollectionOf(SolrInputDocument.class), eq(100));
+		verify(solrClientMock).add(eq("bar"), anyCollectionOf(SolrInputDocument.class), eq(100));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldNotifyFailureHandlerAndContinueWithNextBatch() throws SolrServerException, IOException {
+
+		when(solrClientMock.add(eq("poisoned"), anyCollectionOf(SolrInputDocument.class), anyInt()))
+				.thenThrow(new SolrServerException("poisoned document"));
+		when(solrClientMock.add(eq("core1"), anyCollectionOf(SolrInputDocument.class), anyInt()))
+				.thenReturn(new UpdateResponse());
+
+		final List<String> failedCollections = new ArrayList<String>();
+		indexer = template.createBulkIndexer(BulkIndexerOptions.defaults().batchSize(1).senders(1)
+				.onFailure(new BatchFailureHandler() {
+
+					@Override
+					public void onFailure(String collection, List<SolrInputDocument> documents, Exception cause) {
+						failedCollections.add(collection);
+					}
+				}));
+
+		indexer.add("poisoned", new SimpleJavaObject("1", 1L));
+		indexer.add(new SimpleJavaObject("2", 2L));
+		indexer.flush();
+
+		assertThat(failedCollections.size(), is(1));
+		assertThat(failedCollections.get(0), is("poisoned"));
+		verify(solrClientMock).add(eq("core1"), anyCollectionOf(SolrInputDocument.class), eq(-1));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void addShouldFailOnceClosed() {
+
+		indexer = template.createBulkIndexer(null);
+		indexer.close();
+
+		indexer.add(new SimpleJavaObject("1", 1L));
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsNull.*;
+import static org.hamcrest.core.IsSame.*;
+import static org.junit.Assert.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collections;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.SolrRequest.METHOD;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.solr.core.query.SimpleQuery;
+import org.springframework.data.solr.core.query.result.SolrResultPage;
+
+public class DefaultQueryResultCacheUnitTests {
+
+	MutableClock clock;
+	DefaultQueryResultCache cache;
+
+	@Before
+	public void setUp() {
+
+		clock = new MutableClock();
+		cache = new DefaultQueryResultCache(clock);
+	}
+
+	@Test
+	public void shouldReturnStoredPage() {
+
+		SolrResultPage<String> page = page();
+		cache.put(key("collection-1", "q1"), page, 10);
+
+		assertThat(cache.<String> get(key("collection-1", "q1")), sameInstance(page));
+		assertThat(cache.<String> get(key("collection-1", "q2")), nullValue());
+	}
+
+	@Test
+	public void shouldNotReturnExpiredEntries() {
+
+		cache.setTimeToLive(Duration.ofSeconds(10));
+		cache.put(key("collection-1", "q1"), page(), 10);
+
+		clock.advance(Duration.ofSeconds(10));
+
+		assertThat(cache.<String> get(key("collection-1", "q1")), nullValue());
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void shouldEvictLeastRecentlyUsedEntryWhenMaxEntriesExceeded() {
+
+		cache.setMaxEntries(2);
+		cache.put(key("collection-1", "q1"), page(), 10);
+		cache.put(key("collection-1", "q2"), page(), 10);
+
+		cache.get(key("collection-1", "q1"));
+		cache.put(key("collection-1", "q3"), page(), 10);
+
+		assertThat(cache.<String> get(key("collection-1", "q1")), is(notNullValue()));
+		assertThat(cache.<String> get(key("collection-1", "q2")), nullValue());
+		assertThat(cache.<String> get(key("collection-1", "q3")), is(notNullValue()));
+	}
+
+	@Test
+	public void shouldOnlyEvictEntriesOfCollectionExceedingByteBudget() {
+
+		cache.setMaxBytesPerCollection(250);
+		cache.put(key("collection-1", "q1"), page(), 100);
+		cache.put(key("collection-2", "q1"), page(), 100);
+		cache.put(key("collection-1", "q2"), page(), 100);
+
+		assertThat(cache.<String> get(key("collection-1", "q1")), nullValue());
+		assertThat(cache.<String> get(key("collection-1", "q2")), is(notNullValue()));
+		assertThat(cache.<String> get(key("collection-2", "q1")), is(notNullValue()));
+	}
+
+	@Test
+	public void shouldNotStoreEntryExceedingByteBudget() {
+
+		cache.setMaxBytesPerCollection(100);
+		cache.put(key("collection-1", "q1"), page(), 1000);
+
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void evictShouldRemoveEntriesOfCollectionAndDefaultCollectionOnly() {
+
+		cache.put(key("collection-1", "q1"), page(), 10);
+		cache.put(key("collection-2", "q1"), page(), 10);
+		cache.put(key(null, "q1"), page(), 10);
+
+		cache.evict("collection-1");
+
+		assertThat(cache.<String> get(key("collection-1", "q1")), nullValue());
+		assertThat(cache.<String> get(key(null, "q1")), nullValue());
+		assertThat(cache.<String> get(key("collection-2", "q1")), is(notNullValue()));
+	}
+
+	@Test
+	public void evictWithNullCollectionShouldRemoveAllEntries() {
+
+		cache.put(key("collection-1", "q1"), page(), 10);
+		cache.put(key("collection-2", "q1"), page(), 10);
+
+		cache.evict(null);
+
+		assertThat(cache.size(), is(0));
+	}
+
+	private static QueryResultCache.Key key(String collection, String query) {
+		return new QueryResultCache.Key(QueryKey.of(collection, new SolrQuery(query), METHOD.GET), SimpleQuery.class,
+				String.class);
+	}
+
+	private static SolrResultPage<String> page() {
+		return new SolrResultPage<String>(Collections.singletonList("foo"));
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant now = Instant.ofEpochMilli(0);
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.of("UTC");
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsNot.*;
+import static org.hamcrest.core.IsNull.*;
+import static org.hamcrest.core.IsSame.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.SolrParams;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.solr.core.DefaultQueryResultCacheUnitTests.MutableClock;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DocumentNearCacheUnitTests {
+
+	@Mock SolrClient solrClientMock;
+
+	SolrTemplate solrTemplate;
+	MutableClock clock;
+	DocumentNearCache cache;
+
+	@Before
+	public void setUp() throws SolrServerException, IOException {
+
+		solrTemplate = new SolrTemplate(solrClientMock, "core1");
+		solrTemplate.afterPropertiesSet();
+
+		clock = new MutableClock();
+		cache = new DocumentNearCache(solrTemplate, SimpleJavaObject.class, "id", Duration.ofSeconds(10), 10, clock);
+
+		when(solrClientMock.getById("core1", "id-1")).thenReturn(document("id-1", 1L));
+	}
+
+	@Test
+	public void shouldServeCachedObjectLocally() throws SolrServerException, IOException {
+
+		Object first = cache.getById("core1", "id-1");
+		Object second = cache.getById("core1", "id-1");
+
+		assertThat(second, sameInstance(first));
+		verify(solrClientMock, times(1)).getById("core1", "id-1");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldRevalidateVersionOnlyOnceIntervalElapsed() throws SolrServerException, IOException {
+
+		when(solrClientMock.getById(eq("core1"), anyCollectionOf(String.class), any(SolrParams.class)))
+				.thenReturn(list(document("id-1", 1L)));
+
+		Object first = cache.getById("core1", "id-1");
+		clock.advance(Duration.ofSeconds(10));
+		Object second = cache.getById("core1", "id-1");
+
+		assertThat(second, sameInstance(first));
+
+		ArgumentCaptor<SolrParams> params = ArgumentCaptor.forClass(SolrParams.class);
+		verify(solrClientMock, times(1)).getById(eq("core1"), anyCollectionOf(String.class), params.capture());
+		assertThat(params.getValue().get(CommonParams.FL), is("id,_version_"));
+		verify(solrClientMock, times(1)).getById("core1", "id-1");
+	}
+
+	@Test
+	public void shouldReloadObjectWhenVersionChanged() throws SolrServerException, IOException {
+
+		when(solrClientMock.getById(eq("core1"), anyCollectionOf(String.class), any(SolrParams.class)))
+				.thenReturn(list(document("id-1", 2L)));
+
+		Object first = cache.getById("core1", "id-1");
+		cache.markStale("core1");
+		Object second = cache.getById("core1", "id-1");
+
+		assertThat(second, is(not(sameInstance(first))));
+		verify(solrClientMock, times(2)).getById("core1", "id-1");
+	}
+
+	@Test
+	public void shouldReloadObjectWhenDocumentIsGone() throws SolrServerException, IOException {
+
+		when(solrClientMock.getById(eq("core1"), anyCollectionOf(String.class), any(SolrParams.class)))
+				.thenReturn(new SolrDocumentList());
+
+		cache.getById("core1", "id-1");
+		cache.markStale(null);
+		cache.getById("core1", "id-1");
+
+		verify(solrClientMock, times(2)).getById("core1", "id-1");
+	}
+
+	@Test
+	public void evictShouldRemoveEntryForDocumentId() {
+
+		cache.getById("core1", "id-1");
+
+		SolrInputDocument document = new SolrInputDocument();
+		document.addField("id", "id-1");
+		cache.evict("core1", document);
+
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void shouldNotCacheMissingDocument() {
+
+		cache.getById("core1", "id-1");
+
+		assertThat(cache.getById("core1", "id-2"), nullValue());
+		assertThat(cache.size(), is(1));
+	}
+
+	@Test
+	public void shouldNotCacheObjectEvictedWhileLoading() throws SolrServerException, IOException {
+
+		when(solrClientMock.getById("core1", "id-1")).thenAnswer(new Answer<SolrDocument>() {
+
+			@Override
+			public SolrDocument answer(InvocationOnMock invocation) throws Throwable {
+
+				cache.evict("core1", "id-1");
+				return document("id-1", 1L);
+			}
+		});
+
+		assertThat(cache.getById("core1", "id-1"), notNullValue());
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void saveBeanThroughTemplateShouldEvictNearCacheEntry() throws SolrServerException, IOException {
+
+		solrTemplate.enableNearCache(SimpleJavaObject.class, Duration.ofMinutes(1), 10);
+
+		solrTemplate.getById("id-1", SimpleJavaObject.class);
+		solrTemplate.getById("id-1", SimpleJavaObject.class);
+		solrTemplate.saveBean(new SimpleJavaObject("id-1", 3L));
+		solrTemplate.getById("id-1", SimpleJavaObject.class);
+
+		verify(solrClientMock, times(2)).getById("core1", "id-1");
+		verify(solrClientMock, never()).getById(anyString(), any(Collection.class));
+	}
+
+	private static SolrDocument document(String id, Long version) {
+
+		SolrDocument document = new SolrDocument();
+		document.setField("id", id);
+		document.setField("_version_", version);
+		return document;
+	}
+
+	private static SolrDocumentList list(SolrDocument... documents) {
+
+		SolrDocumentList list = new SolrDocumentList();
+		for (SolrDocument document : documents) {
+			list.add(document);
+		}
+		return list;
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsInstanceOf.*;
+import static org.hamcrest.core.IsNull.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataAccessException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GetByIdBatcherUnitTests {
+
+	@Mock SolrClient solrClientMock;
+
+	SolrTemplate solrTemplate;
+	ExecutorService executor;
+
+	@Before
+	public void setUp() throws SolrServerException, IOException {
+
+		solrTemplate = new SolrTemplate(solrClientMock, "core1");
+		solrTemplate.afterPropertiesSet();
+
+		executor = Executors.newFixedThreadPool(2);
+
+		when(solrClientMock.getById(anyString(), anyCollectionOf(String.class)))
+				.thenAnswer(new Answer<SolrDocumentList>() {
+
+					@Override
+					@SuppressWarnings("unchecked")
+					public SolrDocumentList answer(InvocationOnMock invocation) throws Throwable {
+
+						SolrDocumentList documents = new SolrDocumentList();
+						for (String id : (Collection<String>) invocation.getArguments()[1]) {
+
+							if (id.startsWith("error")) {
+								throw new SolrServerException("boom");
+							}
+							if (id.startsWith("missing")) {
+								continue;
+							}
+
+							SolrDocument document = new SolrDocument();
+							document.setField("id", id);
+							documents.add(document);
+						}
+						return documents;
+					}
+				});
+	}
+
+	@After
+	public void tearDown() {
+
+		solrTemplate.destroy();
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void concurrentLookupsShouldBeSentAsOneRequestOnceBatchIsFull() throws Exception {
+
+		solrTemplate.enableGetByIdBatching(Duration.ofMinutes(1), 2);
+
+		Future<SimpleJavaObject> first = executor.submit(lookup("id-1"));
+		Future<SimpleJavaObject> second = executor.submit(lookup("id-2"));
+
+		assertThat(first.get().getId(), is("id-1"));
+		assertThat(second.get().getId(), is("id-2"));
+		verify(solrClientMock, times(1)).getById(eq("core1"), anyCollectionOf(String.class));
+	}
+
+	@Test
+	public void lookupShouldBeSentOnceWindowElapsed() throws Exception {
+
+		solrTemplate.enableGetByIdBatching(Duration.ofMillis(10), 100);
+
+		assertThat(solrTemplate.getById("id-1", SimpleJavaObject.class).getId(), is("id-1"));
+		verify(solrClientMock, times(1)).getById(eq("core1"), anyCollectionOf(String.class));
+	}
+
+	@Test
+	public void lookupShouldReturnNullForMissingId() throws Exception {
+
+		solrTemplate.enableGetByIdBatching(Duration.ofMillis(10), 100);
+
+		assertThat(solrTemplate.getById("missing-1", SimpleJavaObject.class), nullValue());
+	}
+
+	@Test
+	public void allCallersOfBatchShouldReceiveError() throws Exception {
+
+		solrTemplate.enableGetByIdBatching(Duration.ofMinutes(1), 2);
+
+		Future<SimpleJavaObject> first = executor.submit(lookup("id-1"));
+		Future<SimpleJavaObject> second = executor.submit(lookup("error-1"));
+
+		assertFailedWithDataAccessException(first);
+		assertFailedWithDataAccessException(second);
+	}
+
+	@Test
+	public void lookupOnDestroyedBatcherShouldBeSentByCaller() {
+
+		GetByIdBatcher batcher = new GetByIdBatcher(solrTemplate, Duration.ofMinutes(1), 100);
+		batcher.destroy();
+
+		assertThat(batcher.getById("core1", "id-1", SimpleJavaObject.class, "id").getId(), is("id-1"));
+	}
+
+	@Test
+	public void lookupShouldBeSentWhenTaskExecutorRejectsBatch() {
+
+		solrTemplate.setTaskExecutor(new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException();
+			}
+		});
+		solrTemplate.enableGetByIdBatching(Duration.ofMillis(10), 100);
+
+		assertThat(solrTemplate.getById("id-1", SimpleJavaObject.class).getId(), is("id-1"));
+	}
+
+	private Callable<SimpleJavaObject> lookup(final String id) {
+
+		return new Callable<SimpleJavaObject>() {
+
+			@Override
+			public SimpleJavaObject call() {
+				return solrTemplate.getById(id, SimpleJavaObject.class);
+			}
+		};
+	}
+
+	private static void assertFailedWithDataAccessException(Future<?> future) throws InterruptedException {
+
+		try {
+			future.get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause(), instanceOf(DataAccessException.class));
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsNot.*;
+import static org.junit.Assert.*;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.SolrRequest.METHOD;
+import org.junit.Test;
+
+public class QueryKeyUnitTests {
+
+	@Test
+	public void keysShouldBeEqualRegardlessOfParameterOrder() {
+
+		SolrQuery first = new SolrQuery("name:foo");
+		first.setRows(10);
+		first.addFilterQuery("cat:bar", "inStock:true");
+
+		SolrQuery second = new SolrQuery();
+		second.addFilterQuery("inStock:true", "cat:bar");
+		second.setRows(10);
+		second.setQuery("name:foo");
+
+		assertThat(QueryKey.of("collection-1", first, METHOD.GET), is(QueryKey.of("collection-1", second, METHOD.GET)));
+		assertThat(QueryKey.of("collection-1", first, METHOD.GET).hashCode(),
+				is(QueryKey.of("collection-1", second, METHOD.GET).hashCode()));
+	}
+
+	@Test
+	public void keysShouldDifferForDifferentCollections() {
+
+		SolrQuery query = new SolrQuery("name:foo");
+
+		assertThat(QueryKey.of("collection-1", query, METHOD.GET), not(QueryKey.of("collection-2", query, METHOD.GET)));
+		assertThat(QueryKey.of("collection-1", query, METHOD.GET), not(QueryKey.of(null, query, METHOD.GET)));
+	}
+
+	@Test
+	public void keysShouldDifferForDifferentMethods() {
+
+		SolrQuery query = new SolrQuery("name:foo");
+
+		assertThat(QueryKey.of("collection-1", query, METHOD.GET), not(QueryKey.of("collection-1", query, METHOD.POST)));
+	}
+
+	@Test
+	public void keyShouldNotReflectLaterModificationOfParameters() {
+
+		SolrQuery query = new SolrQuery("name:foo");
+		QueryKey key = QueryKey.of("collection-1", query, METHOD.GET);
+
+		query.setRows(5);
+
+		assertThat(key, not(QueryKey.of("collection-1", query, METHOD.GET)));
+	}
+}
@@ -37,6 +37,7 @@ import org.springframework.data.solr.core.QueryParserBase.DefaultProcessor;
 import org.springframework.data.solr.core.QueryParserBase.NamedObjectsQuery;
 import org.springframework.data.solr.core.QueryParserBase.PredicateProcessor;
 import org.springframework.data.solr.core.QueryParserBase.WildcardProcessor;
+import org.springframework.data.solr.core.query.Criteria;
 import org.springframework.data.solr.core.query.Criteria.OperationKey;
 import org.springframework.data.solr.core.query.Criteria.Predicate;
 import org.springframework.data.solr.core.query.Field;
@@ -69,6 +70,41 @@ public class QueryParserBaseTests {
 		};
 	}
 
+	@Test
+	public void criteriaValueEscapingShouldApplyReservedCharsReplacement() {
+
+		BasePredicateProcessor processor = this.parser.new BasePredicateProcessor() {
+
+			{
+				RESERVED_CHARS_REPLACEMENT = RESERVED_CHARS_REPLACEMENT.clone();
+				RESERVED_CHARS_REPLACEMENT[1] = "PLUS";
+			}
+
+			@Override
+			public boolean canProcess(Predicate predicate) {
+				return true;
+			}
+
+			@Override
+			protected Object doProcess(Predicate predicate, Field field) {
+				return filterCriteriaValue(predicate.getValue());
+			}
+		};
+
+		Assert.assertThat(processor.process(new Predicate(OperationKey.EQUALS, "a+b&&c d"), null),
+				Is.<Object> is("\"aPLUSb\\&\\&c d\""));
+	}
+
+	@Test
+	public void reservedCharsShouldPreferEarliestAndFirstListedSequence() {
+
+		QueryParserBase.ReservedChars reservedChars = new QueryParserBase.ReservedChars(
+				new String[] { "a", "ab", "b", "" }, new String[] { "1", "2", "3", "4" });
+
+		Assert.assertThat(reservedChars.escape("abc"), Is.is("13c"));
+		Assert.assertThat(reservedChars.escape("xyz"), Is.is("xyz"));
+	}
+
 	@Test
 	public void testExpressionProcessorCanProcess() {
 		assertProcessorCanProcess(this.parser.new ExpressionProcessor(), OperationKey.EXPRESSION);
@@ -143,6 +179,58 @@ public class QueryParserBaseTests {
 		Assert.assertEquals("X", processor.process(new Predicate("some key", SOME_VALUE), null));
 	}
 
+	@Test
+	public void defaultProcessorShouldEscapeReservedCharacters() {
+
+		Object value = parser.new DefaultProcessor().process(new Predicate(OperationKey.EQUALS, "a&&b||c&d|e:f\\g&&&"),
+				null);
+
+		Assert.assertThat(value, Is.<Object> is("a\\&\\&b\\|\\|c&d|e\\:f\\\\g\\&\\&&"));
+	}
+
+	@Test
+	public void defaultProcessorShouldQuoteEscapedValueContainingWhitespace() {
+
+		DefaultProcessor processor = parser.new DefaultProcessor();
+
+		Assert.assertThat(processor.process(new Predicate(OperationKey.EQUALS, "some -value"), null),
+				Is.<Object> is("\"some \\-value\""));
+		Assert.assertThat(processor.process(new Predicate(OperationKey.EQUALS, SOME_VALUE), null),
+				Is.<Object> is("\"some value\""));
+		Assert.assertThat(processor.process(new Predicate(OperationKey.EQUALS, "plain"), null), Is.<Object> is("plain"));
+	}
+
+	@Test
+	public void createQueryStringFromNodeShouldUseOverriddenCriteriaFragmentForNestedCriteria() {
+
+		QueryParserBase<SolrDataQuery> parser = new QueryParserBase<SolrDataQuery>() {
+
+			@Override
+			public SolrQuery doConstructSolrQuery(SolrDataQuery query) {
+				return null;
+			}
+
+			@Override
+			protected String createQueryFragmentForCriteria(Criteria part) {
+				return "custom_" + part.getField().getName();
+			}
+		};
+
+		Criteria criteria = new Criteria("field_1").is("foo").and(new Criteria("field_2").is("bar").or("field_3").is("baz"));
+
+		Assert.assertThat(parser.createQueryStringFromNode(criteria),
+				Is.is("custom_field_1 AND (custom_field_2 OR custom_field_3)"));
+	}
+
+	@Test
+	public void createQueryStringFromNodeShouldSupportNestedCriteriaWithinFunctionArguments() {
+
+		Criteria criteria = new Criteria("field_1").is("foo")
+				.and(new Criteria().function(new Foo(Arrays.asList(new Criteria("field_2").is("bar")))));
+
+		Assert.assertThat(parser.createQueryStringFromNode(criteria), Is.is("field_1:foo AND {!func}foo(field_2:bar)"));
+	}
+
 	@Test
 	public void testFunctionFragmemtAppendsMultipleArgumentsCorrectly() {
 		Foo function = new Foo(Arrays.asList("one", "two"));
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.hamcrest.core.Is.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrRequest;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CursorMarkParams;
+import org.apache.solr.common.params.SolrParams;
+import org.apache.solr.common.util.NamedList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.solr.core.query.Criteria;
+import org.springframework.data.solr.core.query.SimpleQuery;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveSolrTemplateUnitTests {
+
+	@Mock SolrClient solrClientMock;
+
+	ReactiveSolrTemplate template;
+
+	@Before
+	public void setUp() {
+
+		SolrTemplate solrTemplate = new SolrTemplate(solrClientMock, "core1");
+		solrTemplate.afterPropertiesSet();
+
+		template = new ReactiveSolrTemplate(solrTemplate, Schedulers.immediate());
+	}
+
+	@Test
+	public void findShouldFetchNextPageOnlyOnDemand() throws SolrServerException, IOException {
+
+		final Map<String, QueryResponse> pages = new HashMap<String, QueryResponse>();
+		pages.put(CursorMarkParams.CURSOR_MARK_START, response("AoE1", "1", "2"));
+		pages.put("AoE1", response("AoE2", "3"));
+		pages.put("AoE2", response("AoE2"));
+
+		when(solrClientMock.query(eq("core1"), any(SolrParams.class), any(SolrRequest.METHOD.class)))
+				.thenAnswer(new Answer<QueryResponse>() {
+
+					@Override
+					public QueryResponse answer(InvocationOnMock invocation) throws Throwable {
+
+						SolrParams params = (SolrParams) invocation.getArguments()[1];
+						return pages.get(params.get(CursorMarkParams.CURSOR_MARK_PARAM));
+					}
+				});
+
+		Flux<SimpleJavaObject> result = template.find("core1", new SimpleQuery(Criteria.where("id").expression("*")),
+				SimpleJavaObject.class);
+
+		StepVerifier.create(result, 1) //
+				.expectNextCount(1) //
+				.then(new Runnable() {
+
+					@Override
+					public void run() {
+						try {
+							verify(solrClientMock, times(1)).query(eq("core1"), any(SolrParams.class),
+									any(SolrRequest.METHOD.class));
+						} catch (Exception e) {
+							throw new IllegalStateException(e);
+						}
+					}
+				}) //
+				.thenRequest(Long.MAX_VALUE) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		verify(solrClientMock, times(3)).query(eq("core1"), any(SolrParams.class), any(SolrRequest.METHOD.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void saveShouldSendObjectsInBatches() throws SolrServerException, IOException {
+
+		template.setBatchSize(2);
+
+		StepVerifier.create(template.save("core1",
+				Flux.just(new SimpleJavaObject("1", 1L), new SimpleJavaObject("2", 2L), new SimpleJavaObject("3", 3L))))
+				.expectNextCount(3) //
+				.verifyComplete();
+
+		verify(solrClientMock, times(2)).add(eq("core1"), anyCollectionOf(SolrInputDocument.class), eq(-1));
+	}
+
+	@Test
+	public void countShouldEmitNumFound() throws SolrServerException, IOException {
+
+		QueryResponse response = response("", "1");
+		response.getResults().setNumFound(42);
+		when(solrClientMock.query(eq("core1"), any(SolrParams.class), any(SolrRequest.METHOD.class))).thenReturn(response);
+
+		Long count = template.count("core1", new SimpleQuery(Criteria.where("id").is("1"))).block();
+
+		assertThat(count, is(42L));
+	}
+
+	private static QueryResponse response(String nextCursorMark, String... ids) {
+
+		SolrDocumentList documents = new SolrDocumentList();
+		for (String id : ids) {
+
+			SolrDocument document = new SolrDocument();
+			document.setField("id", id);
+			documents.add(document);
+		}
+		documents.setNumFound(ids.length);
+
+		NamedList<Object> nl = new NamedList<Object>();
+		nl.add("response", documents);
+		nl.add(CursorMarkParams.CURSOR_MARK_NEXT, nextCursorMark);
+
+		return new QueryResponse(nl, null);
+	}
+}
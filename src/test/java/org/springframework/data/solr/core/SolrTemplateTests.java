@@ -17,12 +17,21 @@ package org.springframework.data.solr.core;
 
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.apache.http.ParseException;
 import org.apache.solr.client.solrj.SolrClient;
@@ -30,6 +39,7 @@ import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.SolrRequest;
 import org.apache.solr.client.solrj.SolrRequest.METHOD;
 import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.StreamingResponseCallback;
 import org.apache.solr.client.solrj.request.schema.SchemaRequest;
 import org.apache.solr.client.solrj.request.schema.SchemaRequest.SchemaVersion;
 import org.apache.solr.client.solrj.response.QueryResponse;
@@ -40,11 +50,13 @@ import org.apache.solr.common.SolrException;
 import org.apache.solr.common.SolrException.ErrorCode;
 import org.apache.solr.common.SolrInputDocument;
 import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.CursorMarkParams;
 import org.apache.solr.common.params.SolrParams;
 import org.apache.solr.common.util.NamedList;
 import org.hamcrest.core.Is;
 import org.hamcrest.core.IsCollectionContaining;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
 import org.hamcrest.core.IsNull;
 import org.junit.Assert;
 import org.junit.Before;
@@ -54,7 +66,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.DataAccessException;
@@ -71,11 +85,13 @@ import org.springframework.data.solr.core.query.PartialUpdate;
 import org.springframework.data.solr.core.query.Query;
 import org.springframework.data.solr.core.query.SimpleFacetAndHighlightQuery;
 import org.springframework.data.solr.core.query.SimpleFacetQuery;
+import org.springframework.data.solr.core.query.SimpleFilterQuery;
 import org.springframework.data.solr.core.query.SimpleHighlightQuery;
 import org.springframework.data.solr.core.query.SimpleQuery;
 import org.springframework.data.solr.core.query.SimpleStringCriteria;
 import org.springframework.data.solr.core.query.SimpleTermsQuery;
 import org.springframework.data.solr.core.query.SolrDataQuery;
+import org.springframework.data.solr.core.query.result.ScoredPage;
 import org.springframework.data.solr.core.schema.SolrPersistentEntitySchemaCreator.Feature;
 import org.springframework.data.solr.repository.ProductBean;
 import org.springframework.data.solr.repository.Score;
@@ -742,6 +758,318 @@ public class SolrTemplateTests {
 		verify(solrClientMock).getById(eq("foo"), eq(Collections.singletonList("id-1")));
 	}
 
+	@Test
+	public void identicalConcurrentQueriesShouldShareResponseWhenCoalescingIsEnabled() throws Exception {
+
+		solrTemplate.setQueryCoalescing(true);
+
+		final QueryResponse response = createAndInitEmptySolrQueryReponseMock();
+		final CountDownLatch inFlight = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		when(solrClientMock.query(anyString(), any(SolrParams.class), any(METHOD.class)))
+				.thenAnswer(new Answer<QueryResponse>() {
+
+					@Override
+					public QueryResponse answer(InvocationOnMock invocation) throws Throwable {
+
+						inFlight.countDown();
+						release.await();
+						return response;
+					}
+				});
+
+		Runnable query = new Runnable() {
+
+			@Override
+			public void run() {
+				solrTemplate.queryForPage(new SimpleQuery(new Criteria("name").is("foo")).addFilterQuery(
+						new SimpleFilterQuery(new Criteria("cat").is("bar"))), ProductBean.class);
+			}
+		};
+
+		Thread first = new Thread(query);
+		first.start();
+		inFlight.await();
+
+		Thread second = new Thread(query);
+		second.start();
+		while (second.getState() != Thread.State.WAITING && second.isAlive()) {
+			Thread.yield();
+		}
+
+		release.countDown();
+		first.join();
+		second.join();
+
+		verify(solrClientMock, times(1)).query(anyString(), any(SolrParams.class), any(METHOD.class));
+	}
+
+	@Test
+	public void coalescedQueryShouldPropagateErrorToWaitingCallers() throws Exception {
+
+		solrTemplate.setQueryCoalescing(true);
+
+		final CountDownLatch inFlight = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		when(solrClientMock.query(anyString(), any(SolrParams.class), any(METHOD.class)))
+				.thenAnswer(new Answer<QueryResponse>() {
+
+					@Override
+					public QueryResponse answer(InvocationOnMock invocation) throws Throwable {
+
+						inFlight.countDown();
+						release.await();
+						throw new StackOverflowError();
+					}
+				});
+
+		final AtomicReference<Throwable> secondError = new AtomicReference<Throwable>();
+		Thread first = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				try {
+					solrTemplate.queryForPage(new SimpleQuery(new Criteria("name").is("foo")), ProductBean.class);
+				} catch (Throwable e) {
+					// expected
+				}
+			}
+		});
+		first.start();
+		inFlight.await();
+
+		Thread second = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				try {
+					solrTemplate.queryForPage(new SimpleQuery(new Criteria("name").is("foo")), ProductBean.class);
+				} catch (Throwable e) {
+					secondError.set(e);
+				}
+			}
+		});
+		second.start();
+		while (second.getState() != Thread.State.WAITING && second.isAlive()) {
+			Thread.yield();
+		}
+
+		release.countDown();
+		first.join();
+		second.join(5000);
+
+		assertThat(second.isAlive(), Is.is(false));
+		assertThat(secondError.get(), IsInstanceOf.instanceOf(StackOverflowError.class));
+		verify(solrClientMock, times(1)).query(anyString(), any(SolrParams.class), any(METHOD.class));
+	}
+
+	@Test
+	public void queryCoalescingShouldBeDisabledByDefault() throws SolrServerException, IOException {
+
+		QueryResponse response = createAndInitEmptySolrQueryReponseMock();
+		when(solrClientMock.query(anyString(), any(SolrParams.class), any(METHOD.class))).thenReturn(response);
+
+		solrTemplate.queryForPage(new SimpleQuery(new Criteria("name").is("foo")), ProductBean.class);
+		solrTemplate.queryForPage(new SimpleQuery(new Criteria("name").is("foo")), ProductBean.class);
+
+		assertThat(solrTemplate.isQueryCoalescing(), Is.is(false));
+		verify(solrClientMock, times(2)).query(anyString(), any(SolrParams.class), any(METHOD.class));
+	}
+
+	@Test
+	public void queryForPageShouldUseQueryResultCacheWhenPresent() throws SolrServerException, IOException {
+
+		solrTemplate.setQueryResultCache(new DefaultQueryResultCache());
+
+		QueryResponse response = createAndInitEmptySolrQueryReponseMock();
+		when(solrClientMock.query(anyString(), any(SolrParams.class), any(METHOD.class))).thenReturn(response);
+
+		ScoredPage<ProductBean> first = solrTemplate.queryForPage(new SimpleQuery(new Criteria("name").is("foo")),
+				ProductBean.class);
+		ScoredPage<ProductBean> second = solrTemplate.queryForPage(new SimpleQuery(new Criteria("name").is("foo")),
+				ProductBean.class);
+
+		Assert.assertNotSame(first, second);
+		assertThat(second.getContent(), IsEqual.equalTo(first.getContent()));
+		verify(solrClientMock, times(1)).query(anyString(), any(SolrParams.class), any(METHOD.class));
+	}
+
+	@Test
+	public void commitShouldEvictQueryResultCache() throws SolrServerException, IOException {
+
+		solrTemplate.setQueryResultCache(new DefaultQueryResultCache());
+
+		QueryResponse response = createAndInitEmptySolrQueryReponseMock();
+		when(solrClientMock.query(anyString(), any(SolrParams.class), any(METHOD.class))).thenReturn(response);
+
+		solrTemplate.queryForPage(new SimpleQuery(new Criteria("name").is("foo")), ProductBean.class);
+		solrTemplate.commit("core1");
+		solrTemplate.queryForPage(new SimpleQuery(new Criteria("name").is("foo")), ProductBean.class);
+
+		verify(solrClientMock, times(2)).query(anyString(), any(SolrParams.class), any(METHOD.class));
+	}
+
+	@Test
+	public void queryForPageShouldConvertDocumentsOnAccessWhenLazyBeanConversionEnabled()
+			throws SolrServerException, IOException {
+
+		solrTemplate.setLazyBeanConversion(true);
+
+		SolrDocumentList documents = new SolrDocumentList();
+		for (String id : Arrays.asList("id-1", "id-2", "id-3")) {
+
+			org.apache.solr.common.SolrDocument document = new org.apache.solr.common.SolrDocument();
+			document.setField("id", id);
+			documents.add(document);
+		}
+		documents.setNumFound(10);
+
+		QueryResponse response = Mockito.mock(QueryResponse.class);
+		when(response.getResults()).thenReturn(documents);
+		when(solrClientMock.query(anyString(), any(SolrParams.class), any(METHOD.class))).thenReturn(response);
+
+		ScoredPage<SimpleJavaObject> page = solrTemplate.queryForPage(new SimpleQuery(new Criteria("id").is("*")),
+				SimpleJavaObject.class);
+
+		assertThat(page.getTotalElements(), Is.is(10L));
+		assertThat(page.getNumberOfElements(), Is.is(3));
+		assertThat(page.getContent().get(1).getId(), Is.is("id-2"));
+		Assert.assertSame(page.getContent().get(1), page.getContent().get(1));
+	}
+
+	@Test
+	public void queryAndConsumeShouldHandOverEachStreamedDocumentAsBean() throws SolrServerException, IOException {
+
+		when(solrClientMock.queryAndStreamResponse(eq("core1"), any(SolrParams.class),
+				any(StreamingResponseCallback.class))).thenAnswer(streamDocuments("id-1", "id-2", "id-3"));
+
+		final List<String> ids = new ArrayList<String>();
+		long numFound = solrTemplate.queryAndConsume("core1", new SimpleQuery(new Criteria("id").is("*")),
+				SimpleJavaObject.class, new Consumer<SimpleJavaObject>() {
+
+					@Override
+					public void accept(SimpleJavaObject bean) {
+						ids.add(bean.getId());
+					}
+				});
+
+		assertThat(numFound, Is.is(3L));
+		assertThat(ids, IsEqual.equalTo(Arrays.asList("id-1", "id-2", "id-3")));
+		verify(solrClientMock, never()).query(anyString(), any(SolrParams.class), any(METHOD.class));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void queryAndConsumeShouldRethrowErrorOfConsumer() throws SolrServerException, IOException {
+
+		when(solrClientMock.queryAndStreamResponse(eq("core1"), any(SolrParams.class),
+				any(StreamingResponseCallback.class))).thenAnswer(streamDocuments("id-1"));
+
+		solrTemplate.queryAndConsume("core1", new SimpleQuery(new Criteria("id").is("*")), SimpleJavaObject.class,
+				new Consumer<SimpleJavaObject>() {
+
+					@Override
+					public void accept(SimpleJavaObject bean) {
+						throw new IllegalStateException("boom");
+					}
+				});
+	}
+
+	@Test
+	public void queryForStreamShouldReturnStreamedBeansInOrder() throws SolrServerException, IOException {
+
+		when(solrClientMock.queryAndStreamResponse(eq("core1"), any(SolrParams.class),
+				any(StreamingResponseCallback.class))).thenAnswer(streamDocuments("id-1", "id-2", "id-3"));
+
+		try (Stream<SimpleJavaObject> stream = solrTemplate.queryForStream("core1",
+				new SimpleQuery(new Criteria("id").is("*")), SimpleJavaObject.class)) {
+
+			List<String> ids = new ArrayList<String>();
+			Iterator<SimpleJavaObject> it = stream.iterator();
+			while (it.hasNext()) {
+				ids.add(it.next().getId());
+			}
+
+			assertThat(ids, IsEqual.equalTo(Arrays.asList("id-1", "id-2", "id-3")));
+		}
+	}
+
+	@Test(expected = UncategorizedSolrException.class)
+	public void queryForStreamShouldFailWhenStreamingExecutorRejectsProducer() {
+
+		solrTemplate.setStreamingExecutor(new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException();
+			}
+		});
+
+		try (Stream<SimpleJavaObject> stream = solrTemplate.queryForStream("core1",
+				new SimpleQuery(new Criteria("id").is("*")), SimpleJavaObject.class)) {
+			stream.iterator().hasNext();
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void queryForPartitionedStreamShouldNotDependOnTaskExecutorThreads() throws SolrServerException, IOException {
+
+		when(solrClientMock.query(eq("core1"), any(SolrParams.class), any(METHOD.class)))
+				.thenAnswer(new Answer<QueryResponse>() {
+
+					@Override
+					public QueryResponse answer(InvocationOnMock invocation) throws Throwable {
+
+						SolrParams params = (SolrParams) invocation.getArguments()[1];
+						String cursorMark = params.get(CursorMarkParams.CURSOR_MARK_PARAM);
+						String nextCursorMark = CursorMarkParams.CURSOR_MARK_START.equals(cursorMark) ? "page-2"
+								: "page-2".equals(cursorMark) ? "page-3" : cursorMark;
+
+						SolrDocumentList documents = new SolrDocumentList();
+						org.apache.solr.common.SolrDocument document = new org.apache.solr.common.SolrDocument();
+						document.setField("id", "id-" + cursorMark);
+						documents.add(document);
+
+						NamedList<Object> nl = new NamedList<Object>();
+						nl.add("response", documents);
+						nl.add(CursorMarkParams.CURSOR_MARK_NEXT, nextCursorMark);
+
+						QueryResponse response = new QueryResponse();
+						response.setResponse(nl);
+						return response;
+					}
+				});
+
+		ExecutorService singleThread = Executors.newSingleThreadExecutor();
+		solrTemplate.setTaskExecutor(singleThread);
+		try (Stream<SimpleJavaObject> stream = solrTemplate.queryForPartitionedStream("core1",
+				new SimpleQuery(new Criteria("id").is("*")), SimpleJavaObject.class, CursorPartitioning.byHashRange(4))) {
+
+			assertThat(stream.count(), Is.is(12L));
+		} finally {
+			singleThread.shutdownNow();
+		}
+	}
+
+	private static Answer<QueryResponse> streamDocuments(final String... ids) {
+
+		return new Answer<QueryResponse>() {
+
+			@Override
+			public QueryResponse answer(InvocationOnMock invocation) throws Throwable {
+
+				StreamingResponseCallback callback = (StreamingResponseCallback) invocation.getArguments()[2];
+				callback.streamDocListInfo(ids.length, 0, null);
+				for (String id : ids) {
+
+					org.apache.solr.common.SolrDocument document = new org.apache.solr.common.SolrDocument();
+					document.setField("id", id);
+					callback.streamSolrDocument(document);
+				}
+				return new QueryResponse();
+			}
+		};
+	}
+
 	private QueryResponse createAndInitEmptySolrQueryReponseMock() {
 
 		SolrDocumentList sdl = Mockito.mock(SolrDocumentList.class);
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsNull.*;
+import static org.hamcrest.core.IsSame.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrRequest;
+import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.common.SolrInputDocument;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.solr.core.query.Criteria;
+import org.springframework.data.solr.core.query.SimpleQuery;
+import org.springframework.data.solr.core.query.SolrDataQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TransactionalWriteBufferUnitTests {
+
+	@Mock SolrOperations operationsMock;
+	@Mock SolrClient solrClientMock;
+
+	@Before
+	public void setUp() {
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@After
+	public void tearDown() {
+
+		TransactionSynchronizationManager.clearSynchronization();
+		for (Object key : new ArrayList<Object>(TransactionSynchronizationManager.getResourceMap().keySet())) {
+			TransactionSynchronizationManager.unbindResource(key);
+		}
+	}
+
+	@Test
+	public void getOrCreateShouldReturnSameBufferWithinTransaction() {
+
+		TransactionalWriteBuffer buffer = TransactionalWriteBuffer.getOrCreate(operationsMock);
+
+		assertThat(TransactionalWriteBuffer.getOrCreate(operationsMock), sameInstance(buffer));
+		assertThat(TransactionSynchronizationManager.getSynchronizations().size(), is(1));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void commitShouldSendDeduplicatedWritesAsSingleRequestFollowedByOneCommit() throws Exception {
+
+		TransactionalWriteBuffer buffer = TransactionalWriteBuffer.getOrCreate(operationsMock);
+		buffer.add("foo", "1", document("1", "first"));
+		buffer.add("foo", "1", document("1", "second"));
+		buffer.deleteById("foo", Arrays.asList("2"));
+		buffer.add("foo", "2", document("2", "third"));
+		buffer.deleteById("foo", Arrays.asList("3"));
+
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+		ArgumentCaptor<CollectionCallback> callback = ArgumentCaptor.forClass(CollectionCallback.class);
+		verify(operationsMock, times(1)).execute(eq("foo"), callback.capture());
+		verify(operationsMock, times(1)).commit("foo");
+		verify(operationsMock, never()).rollback();
+
+		callback.getValue().doInSolr(solrClientMock, "foo");
+
+		ArgumentCaptor<SolrRequest> request = ArgumentCaptor.forClass(SolrRequest.class);
+		verify(solrClientMock).request(request.capture(), eq("foo"));
+
+		UpdateRequest updateRequest = (UpdateRequest) request.getValue();
+		List<SolrInputDocument> documents = updateRequest.getDocuments();
+		assertThat(documents.size(), is(2));
+		assertThat(documents.get(0).getFieldValue("name"), is((Object) "second"));
+		assertThat(documents.get(1).getFieldValue("name"), is((Object) "third"));
+		assertThat(updateRequest.getDeleteById(), is(Arrays.asList("3")));
+	}
+
+	@Test
+	public void rollbackShouldDiscardBufferWithoutContactingServer() {
+
+		TransactionalWriteBuffer buffer = TransactionalWriteBuffer.getOrCreate(operationsMock);
+		buffer.add("foo", "1", document("1", "first"));
+
+		completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		verifyZeroInteractions(operationsMock);
+		assertThat(buffer.isEmpty(), is(true));
+		assertThat(TransactionSynchronizationManager.getResource(new TransactionalWriteBuffer.ResourceKey(operationsMock)),
+				nullValue());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deleteByQueryShouldPreserveOrderOfSurroundingWrites() {
+
+		SolrDataQuery query = new SimpleQuery(new Criteria("name").is("first"));
+
+		TransactionalWriteBuffer buffer = TransactionalWriteBuffer.getOrCreate(operationsMock);
+		buffer.add("foo", "1", document("1", "first"));
+		buffer.delete("foo", query);
+		buffer.add("foo", "1", document("1", "first"));
+
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+		InOrder inOrder = inOrder(operationsMock);
+		inOrder.verify(operationsMock).execute(eq("foo"), any(CollectionCallback.class));
+		inOrder.verify(operationsMock).delete("foo", query, -1);
+		inOrder.verify(operationsMock).execute(eq("foo"), any(CollectionCallback.class));
+		inOrder.verify(operationsMock, times(1)).commit("foo");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void failingFlushShouldRollBackCollectionsWrittenToAndRethrow() {
+
+		when(operationsMock.execute(eq("bar"), any(CollectionCallback.class)))
+				.thenThrow(new DataAccessResourceFailureException("boom"));
+
+		TransactionalWriteBuffer buffer = TransactionalWriteBuffer.getOrCreate(operationsMock);
+		buffer.add("foo", "1", document("1", "first"));
+		buffer.add("bar", "2", document("2", "second"));
+
+		try {
+			completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+			fail("Missing DataAccessResourceFailureException");
+		} catch (DataAccessResourceFailureException e) {
+			// expected
+		}
+
+		verify(operationsMock).rollback("foo");
+		verify(operationsMock).rollback("bar");
+		verify(operationsMock, never()).commit(anyString());
+	}
+
+	@Test
+	public void flushShouldCommitViaCommitStrategy() {
+
+		TransactionalWriteBuffer buffer = TransactionalWriteBuffer.getOrCreate(operationsMock,
+				CommitStrategy.softCommit());
+		buffer.add("foo", "1", document("1", "first"));
+
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+		verify(operationsMock, times(1)).softCommit("foo");
+		verify(operationsMock, never()).commit(anyString());
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void flushShouldPassCommitWithinOfCommitStrategy() throws Exception {
+
+		SolrDataQuery query = new SimpleQuery(new Criteria("name").is("first"));
+
+		TransactionalWriteBuffer buffer = TransactionalWriteBuffer.getOrCreate(operationsMock,
+				CommitStrategy.commitWithin(500));
+		buffer.add("foo", "1", document("1", "first"));
+		buffer.delete("foo", query);
+
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+		ArgumentCaptor<CollectionCallback> callback = ArgumentCaptor.forClass(CollectionCallback.class);
+		verify(operationsMock).execute(eq("foo"), callback.capture());
+		verify(operationsMock).delete("foo", query, 500);
+		verify(operationsMock, never()).commit(anyString());
+
+		callback.getValue().doInSolr(solrClientMock, "foo");
+
+		ArgumentCaptor<SolrRequest> request = ArgumentCaptor.forClass(SolrRequest.class);
+		verify(solrClientMock).request(request.capture(), eq("foo"));
+		assertThat(((UpdateRequest) request.getValue()).getCommitWithin(), is(500));
+	}
+
+	private void completeTransaction(int status) {
+
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		if (status == TransactionSynchronization.STATUS_COMMITTED) {
+			for (TransactionSynchronization synchronization : synchronizations) {
+				synchronization.beforeCommit(false);
+			}
+		}
+		for (TransactionSynchronization synchronization : synchronizations) {
+			synchronization.afterCompletion(status);
+		}
+	}
+
+	private static SolrInputDocument document(String id, String name) {
+
+		SolrInputDocument document = new SolrInputDocument();
+		document.addField("id", id);
+		document.addField("name", name);
+		return document;
+	}
+}
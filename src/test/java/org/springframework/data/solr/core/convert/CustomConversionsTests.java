@@ -62,6 +62,22 @@ public class CustomConversionsTests {
 				Matchers.is(Matchers.typeCompatibleWith(String.class)));
 	}
 
+	@Test
+	public void shouldBeThreadSafeWhenAllCustomConvertersAreDeclaredThreadSafe() {
+
+		conversions = new CustomConversions(Arrays.asList(ThreadSafeStringToLocaleConverter.INSTANCE));
+		Assert.assertTrue(conversions.isThreadSafe());
+		Assert.assertTrue(new CustomConversions().isThreadSafe());
+	}
+
+	@Test
+	public void shouldNotBeThreadSafeWhenAnyCustomConverterIsNotDeclaredThreadSafe() {
+
+		conversions = new CustomConversions(
+				Arrays.asList(ThreadSafeStringToLocaleConverter.INSTANCE, NumberToStringConverter.INSTANCE));
+		Assert.assertFalse(conversions.isThreadSafe());
+	}
+
 	@WritingConverter
 	enum NumberToStringConverter implements Converter<Number, String> {
 		INSTANCE;
@@ -90,4 +106,14 @@ public class CustomConversionsTests {
 
 	}
 
+	@ThreadSafeConverter
+	enum ThreadSafeStringToLocaleConverter implements Converter<String, Locale> {
+		INSTANCE;
+
+		@Override
+		public Locale convert(String source) {
+			return Locale.GERMAN;
+		}
+	}
+
 }
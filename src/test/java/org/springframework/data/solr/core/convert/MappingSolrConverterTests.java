@@ -22,10 +22,16 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.solr.client.solrj.beans.Field;
 import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
 import org.apache.solr.common.SolrInputField;
 import org.hamcrest.Matchers;
@@ -41,10 +47,12 @@ import org.joda.time.DateTime;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.geo.Point;
 import org.springframework.data.solr.core.mapping.Dynamic;
 import org.springframework.data.solr.core.mapping.Indexed;
 import org.springframework.data.solr.core.mapping.SimpleSolrMappingContext;
+import org.springframework.data.solr.core.mapping.SolrPersistentProperty;
 import org.springframework.data.solr.core.query.PartialUpdate;
 
 /**
@@ -85,6 +93,26 @@ public class MappingSolrConverterTests {
 		Assert.assertEquals(bean.dateProperty, solrDocument.getFieldValue("dateProperty"));
 	}
 
+	@Test
+	public void writeShouldOnlyContainFieldsOfPropertiesSetOnEachBean() {
+
+		BeanWithDefaultTypes first = new BeanWithDefaultTypes();
+		first.stringProperty = "christoph";
+
+		BeanWithDefaultTypes second = new BeanWithDefaultTypes();
+		second.intProperty = 1979;
+
+		SolrInputDocument firstDocument = new SolrInputDocument();
+		converter.write(first, firstDocument);
+		SolrInputDocument secondDocument = new SolrInputDocument();
+		converter.write(second, secondDocument);
+
+		Assert.assertEquals(1, firstDocument.size());
+		Assert.assertEquals("christoph", firstDocument.getFieldValue("stringProperty"));
+		Assert.assertEquals(1, secondDocument.size());
+		Assert.assertEquals(1979, secondDocument.getFieldValue("intProperty"));
+	}
+
 	@Test
 	public void testWriteWithCustomType() {
 		BeanWithCustomTypes bean = new BeanWithCustomTypes();
@@ -387,6 +415,65 @@ public class MappingSolrConverterTests {
 		Assert.assertArrayEquals(document.getFieldValues("arrayOfString").toArray(), target.arrayOfString);
 	}
 
+	@Test
+	public void readShouldPopulateEachDocumentIndependently() {
+
+		SolrDocumentList documents = new SolrDocumentList();
+
+		SolrDocument first = new SolrDocument();
+		first.addField("stringProperty", "christoph");
+		first.addField("intProperty", 32);
+		documents.add(first);
+
+		SolrDocument second = new SolrDocument();
+		second.addField("listOfString", Arrays.asList("one", "two"));
+		documents.add(second);
+
+		List<BeanWithDefaultTypes> target = converter.read(documents, BeanWithDefaultTypes.class);
+
+		Assert.assertEquals("christoph", target.get(0).stringProperty);
+		Assert.assertEquals(Integer.valueOf(32), target.get(0).intProperty);
+		Assert.assertNull(target.get(0).listOfString);
+		Assert.assertNull(target.get(1).stringProperty);
+		Assert.assertNull(target.get(1).intProperty);
+		Assert.assertEquals(Arrays.asList("one", "two"), target.get(1).listOfString);
+	}
+
+	@Test
+	public void readShouldConvertValueNotMatchingPropertyType() {
+
+		SolrDocument document = new SolrDocument();
+		document.addField("intProperty", 32L);
+		document.addField("stringProperty", Arrays.asList("christoph"));
+
+		BeanWithDefaultTypes target = converter.read(BeanWithDefaultTypes.class, document);
+
+		Assert.assertEquals(Integer.valueOf(32), target.intProperty);
+		Assert.assertEquals("christoph", target.stringProperty);
+	}
+
+	@Test
+	public void readShouldUseOverriddenGetValue() {
+
+		MappingSolrConverter converter = new MappingSolrConverter(mappingContext) {
+
+			@Override
+			protected Object getValue(SolrPersistentProperty property, Object source, Object parent) {
+				return "stringProperty".equals(property.getFieldName()) ? "overridden"
+						: super.getValue(property, source, parent);
+			}
+		};
+		converter.afterPropertiesSet();
+
+		SolrDocument document = new SolrDocument();
+		document.addField("intProperty", 32);
+
+		BeanWithDefaultTypes target = converter.read(BeanWithDefaultTypes.class, document);
+
+		Assert.assertEquals("overridden", target.stringProperty);
+		Assert.assertEquals(Integer.valueOf(32), target.intProperty);
+	}
+
 	@Test
 	public void testReadWithCustomTypes() {
 		SolrDocument document = new SolrDocument();
@@ -1094,6 +1181,157 @@ public class MappingSolrConverterTests {
 		Assert.assertThat(target.enumList, IsIterableContainingInOrder.contains(SomeEnum.E2, SomeEnum.E1));
 	}
 
+	@Test
+	public void parallelReadShouldPreserveDocumentOrder() {
+
+		CountingForkJoinWorkerThreadFactory threadFactory = new CountingForkJoinWorkerThreadFactory();
+		converter.setForkJoinPool(new ForkJoinPool(4, threadFactory, null, false));
+		converter.setParallelReadThreshold(100);
+
+		SolrDocumentList source = new SolrDocumentList();
+		for (int i = 0; i < 1000; i++) {
+
+			SolrDocument document = new SolrDocument();
+			document.addField("stringProperty", "value-" + i);
+			document.addField("intProperty", i);
+			source.add(document);
+		}
+
+		List<BeanWithDefaultTypes> result = converter.read(source, BeanWithDefaultTypes.class);
+
+		Assert.assertEquals(1000, result.size());
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals("value-" + i, result.get(i).stringProperty);
+			Assert.assertEquals(Integer.valueOf(i), result.get(i).intProperty);
+		}
+		Assert.assertThat(threadFactory.created.get(), Matchers.greaterThan(0));
+	}
+
+	@Test
+	public void readShouldNotRunInParallelWhenCustomConverterIsNotDeclaredThreadSafe() {
+
+		CountingForkJoinWorkerThreadFactory threadFactory = new CountingForkJoinWorkerThreadFactory();
+		converter.setCustomConversions(new CustomConversions(Arrays.asList(NotThreadSafeConverter.INSTANCE)));
+		converter.afterPropertiesSet();
+		converter.setForkJoinPool(new ForkJoinPool(4, threadFactory, null, false));
+		converter.setParallelReadThreshold(1);
+
+		SolrDocumentList source = new SolrDocumentList();
+		for (int i = 0; i < 10; i++) {
+
+			SolrDocument document = new SolrDocument();
+			document.addField("stringProperty", "value-" + i);
+			source.add(document);
+		}
+
+		List<BeanWithDefaultTypes> result = converter.read(source, BeanWithDefaultTypes.class);
+
+		Assert.assertEquals(10, result.size());
+		Assert.assertEquals("value-9", result.get(9).stringProperty);
+		Assert.assertEquals(0, threadFactory.created.get());
+	}
+
+	@Test
+	public void readShouldUseAccessorMethodsWhenGeneratedAccessorsEnabled() {
+
+		converter.setUseGeneratedAccessors(true);
+
+		SolrDocument source = new SolrDocument();
+		source.addField("name", "christoph");
+		source.addField("count", 42);
+
+		BeanWithAccessorMethods target = converter.read(BeanWithAccessorMethods.class, source);
+
+		Assert.assertEquals("christoph", target.name);
+		Assert.assertEquals(42, target.count);
+		Assert.assertEquals(2, target.accessorInvocations);
+	}
+
+	@Test
+	public void writeShouldUseAccessorMethodsWhenGeneratedAccessorsEnabled() {
+
+		converter.setUseGeneratedAccessors(true);
+
+		BeanWithAccessorMethods source = new BeanWithAccessorMethods();
+		source.name = "christoph";
+		source.count = 42;
+
+		SolrInputDocument target = new SolrInputDocument();
+		converter.write(source, target);
+
+		Assert.assertEquals("christoph", target.getFieldValue("name"));
+		Assert.assertEquals(42, target.getFieldValue("count"));
+		Assert.assertEquals(2, source.accessorInvocations);
+	}
+
+	@Test
+	public void generatedAccessorsShouldFallBackToFieldAccessForPropertiesWithoutAccessorMethods() {
+
+		converter.setUseGeneratedAccessors(true);
+
+		SolrDocument source = new SolrDocument();
+		source.addField("stringProperty", "christoph");
+		source.addField("intProperty", 1979);
+
+		BeanWithDefaultTypes bean = converter.read(BeanWithDefaultTypes.class, source);
+
+		Assert.assertEquals("christoph", bean.stringProperty);
+		Assert.assertEquals(Integer.valueOf(1979), bean.intProperty);
+
+		SolrInputDocument target = new SolrInputDocument();
+		converter.write(bean, target);
+
+		Assert.assertEquals("christoph", target.getFieldValue("stringProperty"));
+		Assert.assertEquals(1979, target.getFieldValue("intProperty"));
+	}
+
+	@Test
+	public void readShouldUnboxMultivaluedNumericFieldsIntoPrimitiveArrays() {
+
+		SolrDocument source = new SolrDocument();
+		source.addField("ints", Arrays.asList(1, 2, 3));
+		source.addField("longs", Arrays.asList(1L, 2L));
+		source.addField("floats", Arrays.asList(0.5F, 1.5F));
+		source.addField("doubles", Arrays.asList("0.25", "0.75"));
+
+		BeanWithPrimitiveArrays target = converter.read(BeanWithPrimitiveArrays.class, source);
+
+		Assert.assertArrayEquals(new int[] { 1, 2, 3 }, target.ints);
+		Assert.assertArrayEquals(new long[] { 1L, 2L }, target.longs);
+		Assert.assertArrayEquals(new float[] { 0.5F, 1.5F }, target.floats, 0F);
+		Assert.assertArrayEquals(new double[] { 0.25D, 0.75D }, target.doubles, 0D);
+	}
+
+	@Test
+	public void readShouldPlaceSingleNumericValueIntoPrimitiveArray() {
+
+		SolrDocument source = new SolrDocument();
+		source.addField("ints", 1);
+
+		BeanWithPrimitiveArrays target = converter.read(BeanWithPrimitiveArrays.class, source);
+
+		Assert.assertArrayEquals(new int[] { 1 }, target.ints);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void writeShouldBoxPrimitiveArraysIntoMultivaluedFields() {
+
+		BeanWithPrimitiveArrays source = new BeanWithPrimitiveArrays();
+		source.ints = new int[] { 1, 2, 3 };
+		source.longs = new long[] { 1L };
+		source.floats = new float[0];
+		source.doubles = new double[] { 0.25D, 0.75D };
+
+		SolrInputDocument target = new SolrInputDocument();
+		converter.write(source, target);
+
+		Assert.assertThat(target.getFieldValues("ints"), IsEqual.equalTo((Collection) Arrays.asList(1, 2, 3)));
+		Assert.assertEquals(1L, target.getFieldValue("longs"));
+		Assert.assertNull(target.getFieldValue("floats"));
+		Assert.assertThat(target.getFieldValues("doubles"), IsEqual.equalTo((Collection) Arrays.asList(0.25D, 0.75D)));
+	}
+
 	public static class BeanWithoutAnnotatedFields {
 
 		String notIndexedProperty;
@@ -1282,6 +1520,68 @@ public class MappingSolrConverterTests {
 
 	}
 
+	static class CountingForkJoinWorkerThreadFactory implements ForkJoinWorkerThreadFactory {
+
+		final AtomicInteger created = new AtomicInteger();
+
+		@Override
+		public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+
+			created.incrementAndGet();
+			return ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+		}
+	}
+
+	enum NotThreadSafeConverter implements Converter<Locale, String> {
+
+		INSTANCE;
+
+		@Override
+		public String convert(Locale source) {
+			return source.toString();
+		}
+	}
+
+	public static class BeanWithAccessorMethods {
+
+		@Field String name;
+
+		@Field int count;
+
+		transient int accessorInvocations;
+
+		public String getName() {
+			accessorInvocations++;
+			return name;
+		}
+
+		public void setName(String name) {
+			accessorInvocations++;
+			this.name = name;
+		}
+
+		public int getCount() {
+			accessorInvocations++;
+			return count;
+		}
+
+		public void setCount(int count) {
+			accessorInvocations++;
+			this.count = count;
+		}
+	}
+
+	public static class BeanWithPrimitiveArrays {
+
+		@Field int[] ints;
+
+		@Field long[] longs;
+
+		@Field float[] floats;
+
+		@Field double[] doubles;
+	}
+
 	@org.springframework.data.solr.core.mapping.SolrDocument(boost = 0.5f)
 	public static class BeanWithBoost {
 
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.convert;
+
+import static org.hamcrest.collection.IsIterableContainingInOrder.*;
+import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsNull.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class WildcardFieldIndexUnitTests {
+
+	WildcardFieldIndex index;
+	Map<String, Object> document;
+
+	@Before
+	public void setUp() {
+
+		index = new WildcardFieldIndex();
+
+		document = new LinkedHashMap<String, Object>();
+		document.put("id", "1");
+		document.put("attr_color_s", "red");
+		document.put("attr_size", "xl");
+		document.put("name_s", "solr");
+		document.put("attribute", "none");
+	}
+
+	@Test
+	public void shouldClassifyFieldsByPrefixAndSuffix() {
+
+		int attr = index.addPrefix("attr_");
+		int s = index.addSuffix("_s");
+
+		List<Map.Entry<String, ?>>[] matches = index.classify(document);
+
+		assertThat(keys(matches[attr]), contains("attr_color_s", "attr_size"));
+		assertThat(keys(matches[s]), contains("attr_color_s", "name_s"));
+	}
+
+	@Test
+	public void shouldAssignFieldToAllOverlappingPrefixes() {
+
+		int a = index.addPrefix("a");
+		int attr = index.addPrefix("attr");
+		int attrUnderscore = index.addPrefix("attr_");
+
+		List<Map.Entry<String, ?>>[] matches = index.classify(document);
+
+		assertThat(keys(matches[a]), contains("attr_color_s", "attr_size", "attribute"));
+		assertThat(keys(matches[attr]), contains("attr_color_s", "attr_size", "attribute"));
+		assertThat(keys(matches[attrUnderscore]), contains("attr_color_s", "attr_size"));
+	}
+
+	@Test
+	public void shouldAssignSameFieldToSlotsOfIdenticalPatterns() {
+
+		int first = index.addSuffix("_s");
+		int second = index.addSuffix("_s");
+
+		List<Map.Entry<String, ?>>[] matches = index.classify(document);
+
+		assertThat(keys(matches[first]), contains("attr_color_s", "name_s"));
+		assertThat(keys(matches[second]), contains("attr_color_s", "name_s"));
+	}
+
+	@Test
+	public void emptyPatternShouldMatchAllFields() {
+
+		int all = index.addPrefix("");
+
+		assertThat(index.classify(document)[all].size(), is(document.size()));
+	}
+
+	@Test
+	public void shouldReturnNullForSlotWithoutMatch() {
+
+		int missing = index.addPrefix("missing_");
+
+		assertThat(index.classify(document)[missing], nullValue());
+	}
+
+	private static List<String> keys(List<Map.Entry<String, ?>> entries) {
+
+		List<String> keys = new ArrayList<String>();
+		for (Map.Entry<String, ?> entry : entries) {
+			keys.add(entry.getKey());
+		}
+		return keys;
+	}
+}
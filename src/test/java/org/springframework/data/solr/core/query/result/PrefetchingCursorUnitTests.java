@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.query.result;
+
+import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsEqual.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.common.params.CursorMarkParams;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.solr.core.query.result.DelegatingCursor.PartialResult;
+
+public class PrefetchingCursorUnitTests {
+
+	ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldReturnElementsOfAllPagesInOrder() {
+
+		PrefetchingCursorFake<String> cursor = new PrefetchingCursorFake<String>(executor, 2,
+				Arrays.asList(new PartialResult<String>("foo", Arrays.asList("spring", "data")),
+						new PartialResult<String>("bar", Arrays.asList("solr")),
+						new PartialResult<String>("bar", new ArrayList<String>())));
+		cursor.open();
+
+		List<String> values = new ArrayList<String>();
+		while (cursor.hasNext()) {
+			values.add(cursor.next());
+		}
+
+		assertThat(values, equalTo(Arrays.asList("spring", "data", "solr")));
+		assertThat(cursor.cursorMarks, equalTo(Arrays.asList(CursorMarkParams.CURSOR_MARK_START, "foo", "bar")));
+	}
+
+	@Test(expected = DataAccessResourceFailureException.class)
+	@SuppressWarnings("unchecked")
+	public void shouldPropagateErrorsRaisedWhileFetchingInBackground() {
+
+		PrefetchingCursorFake<String> cursor = new PrefetchingCursorFake<String>(executor, 1,
+				Arrays.asList(new PartialResult<String>("foo", Arrays.asList("spring"))));
+		cursor.open();
+
+		cursor.next();
+		cursor.next();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void closeShouldStopPrefetching() throws IOException {
+
+		PrefetchingCursorFake<String> cursor = new PrefetchingCursorFake<String>(executor, 1,
+				Arrays.asList(new PartialResult<String>("foo", Arrays.asList("spring"))));
+		cursor.open();
+		cursor.close();
+
+		assertThat(cursor.isClosed(), is(true));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldLoadPagesSynchronouslyWhenExecutorRejectsPrefetching() {
+
+		Executor rejecting = new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException();
+			}
+		};
+
+		PrefetchingCursorFake<String> cursor = new PrefetchingCursorFake<String>(rejecting, 1,
+				Arrays.asList(new PartialResult<String>("foo", Arrays.asList("spring")),
+						new PartialResult<String>("foo", new ArrayList<String>())));
+		cursor.open();
+
+		List<String> values = new ArrayList<String>();
+		while (cursor.hasNext()) {
+			values.add(cursor.next());
+		}
+
+		assertThat(values, equalTo(Arrays.asList("spring")));
+		assertThat(cursor.cursorMarks, equalTo(Arrays.asList(CursorMarkParams.CURSOR_MARK_START, "foo")));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldLoadPagesSynchronouslyWhenPrefetchingStopped() {
+
+		Executor interrupting = new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+
+				Thread.currentThread().interrupt();
+				command.run();
+				Thread.interrupted();
+			}
+		};
+
+		// the first page is loaded by the prefetcher but dropped since it gets interrupted while handing it over
+		PrefetchingCursorFake<String> cursor = new PrefetchingCursorFake<String>(interrupting, 1,
+				Arrays.asList(new PartialResult<String>("foo", Arrays.asList("spring")),
+						new PartialResult<String>("foo", Arrays.asList("spring")),
+						new PartialResult<String>("foo", new ArrayList<String>())));
+		cursor.open();
+
+		List<String> values = new ArrayList<String>();
+		while (cursor.hasNext()) {
+			values.add(cursor.next());
+		}
+
+		assertThat(values, equalTo(Arrays.asList("spring")));
+		assertThat(cursor.cursorMarks,
+				equalTo(Arrays.asList(CursorMarkParams.CURSOR_MARK_START, CursorMarkParams.CURSOR_MARK_START, "foo")));
+	}
+
+	static class PrefetchingCursorFake<T> extends PrefetchingCursor<T> {
+
+		final List<PartialResult<T>> results;
+		final List<String> cursorMarks = new CopyOnWriteArrayList<String>();
+
+		PrefetchingCursorFake(Executor executor, int readAhead, List<PartialResult<T>> results) {
+
+			super(new SolrQuery(), executor, readAhead);
+			this.results = results;
+		}
+
+		@Override
+		protected PartialResult<T> doLoad(SolrQuery nativeQuery) {
+
+			int index = cursorMarks.size();
+			cursorMarks.add(nativeQuery.get(CursorMarkParams.CURSOR_MARK_PARAM));
+
+			if (index >= results.size()) {
+				throw new DataAccessResourceFailureException("no more pages");
+			}
+			return results.get(index);
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.query.result;
+
+import static org.hamcrest.collection.IsIterableContainingInOrder.*;
+import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsInstanceOf.*;
+import static org.hamcrest.core.IsSame.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.solr.core.query.result.SpellcheckQueryResult.Alternative;
+
+public class SolrResultPageUnitTests {
+
+	CountingConverter converter;
+	List<Integer> source;
+
+	@Before
+	public void setUp() {
+
+		converter = new CountingConverter();
+		source = Arrays.asList(1, 2, 3, 4);
+	}
+
+	@Test
+	public void lazyPageShouldNotConvertContentUntilAccessed() {
+
+		SolrResultPage<String> page = new SolrResultPage<String>(source, converter, new PageRequest(0, 4), 100, 1F);
+
+		assertThat(page.getNumberOfElements(), is(4));
+		assertThat(page.hasContent(), is(true));
+		assertThat(page.getTotalElements(), is(100L));
+		assertThat(page.getMaxScore(), is(1F));
+		assertThat(converter.invocations.get(), is(0));
+	}
+
+	@Test
+	public void lazyPageShouldConvertOnlyAccessedElementsOnce() {
+
+		SolrResultPage<String> page = new SolrResultPage<String>(source, converter, new PageRequest(0, 4), 100, null);
+
+		String first = page.getContent().get(1);
+		String second = page.getContent().get(1);
+
+		assertThat(first, is("value-2"));
+		assertThat(second, sameInstance(first));
+		assertThat(converter.invocations.get(), is(1));
+	}
+
+	@Test
+	public void lazyPageShouldIterateInSourceOrder() {
+
+		SolrResultPage<String> page = new SolrResultPage<String>(source, converter, new PageRequest(0, 4), 100, null);
+
+		List<String> values = new ArrayList<String>();
+		for (String value : page) {
+			values.add(value);
+		}
+
+		assertThat(values, contains("value-1", "value-2", "value-3", "value-4"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void lazyContentShouldBeSerializedAsConvertedList() throws Exception {
+
+		LazyConvertingList<Integer, String> list = new LazyConvertingList<Integer, String>(source, converter);
+		list.get(0);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(list);
+		out.close();
+
+		Object copy = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+		assertThat(copy, instanceOf(ArrayList.class));
+		assertThat((List<String>) copy, contains("value-1", "value-2", "value-3", "value-4"));
+		assertThat(list.getConvertedCount(), is(4));
+	}
+
+	@Test
+	public void lazyPageShouldCorrectTotalOfLastPage() {
+
+		SolrResultPage<String> page = new SolrResultPage<String>(source, converter, new PageRequest(1, 10), 12, null);
+
+		assertThat(page.getTotalElements(), is(14L));
+		assertThat(page.getTotalElements(),
+				is(new SolrResultPage<String>(Arrays.asList("1", "2", "3", "4"), new PageRequest(1, 10), 12, null)
+						.getTotalElements()));
+	}
+
+	@Test
+	public void lazyPageShouldBeEqualToEagerPageWithSameContent() {
+
+		SolrResultPage<String> lazy = new SolrResultPage<String>(source, converter, new PageRequest(0, 4), 100, null);
+		SolrResultPage<String> eager = new SolrResultPage<String>(
+				Arrays.asList("value-1", "value-2", "value-3", "value-4"), new PageRequest(0, 4), 100, null);
+
+		assertThat(lazy.equals(eager), is(true));
+		assertThat(eager.equals(lazy), is(true));
+		assertThat(lazy.hashCode(), is(eager.hashCode()));
+		assertThat(lazy.equals(new SolrResultPage<String>(Arrays.asList(1, 2), converter, new PageRequest(0, 4), 100,
+				null)), is(false));
+	}
+
+	@Test
+	public void copyShouldShareLazyContentButNotResultCollections() {
+
+		SolrResultPage<String> page = new SolrResultPage<String>(source, converter, new PageRequest(0, 4), 100, 1F);
+		page.getContent().get(0);
+
+		SolrResultPage<String> copy = new SolrResultPage<String>(page);
+		copy.addSuggestions("term", Arrays.asList(new Alternative("term", 1, "alternative", 1)));
+
+		assertThat(copy.getContent().get(0), sameInstance(page.getContent().get(0)));
+		assertThat(copy.getTotalElements(), is(100L));
+		assertThat(copy.getMaxScore(), is(1F));
+		assertThat(converter.invocations.get(), is(1));
+		assertThat(page.getSuggestions().isEmpty(), is(true));
+	}
+
+	static class CountingConverter implements Converter<Integer, String> {
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public String convert(Integer source) {
+
+			invocations.incrementAndGet();
+			return "value-" + source;
+		}
+	}
+}
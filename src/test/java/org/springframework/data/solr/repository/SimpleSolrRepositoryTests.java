@@ -15,7 +15,9 @@
  */
 package org.springframework.data.solr.repository;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 
 import org.apache.solr.client.solrj.beans.Field;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
@@ -28,11 +30,14 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.solr.ExampleSolrBean;
+import org.springframework.data.solr.core.CommitStrategy;
 import org.springframework.data.solr.core.SolrOperations;
 import org.springframework.data.solr.core.SolrTemplate;
 import org.springframework.data.solr.core.query.Query;
 import org.springframework.data.solr.core.query.SolrDataQuery;
+import org.springframework.data.solr.core.query.result.Cursor;
 import org.springframework.data.solr.repository.support.SimpleSolrRepository;
 
 /**
@@ -69,35 +74,83 @@ public class SimpleSolrRepositoryTests {
 	}
 
 	@Test
-	public void testFindAllByIdQuery() {
-		Mockito.when(solrOperationsMock.count(Mockito.any(SolrDataQuery.class))).thenReturn(12345l);
+	@SuppressWarnings("unchecked")
+	public void testFindAllByIdUsesRealtimeGet() {
 
 		repository.findAllById(Arrays.asList("id-1", "id-2", "id-3"));
-		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
 
-		Mockito.verify(solrOperationsMock, Mockito.times(1)).count(captor.capture());
-		Mockito.verify(solrOperationsMock, Mockito.times(1)).queryForPage(captor.capture(),
+		ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+		Mockito.verify(solrOperationsMock, Mockito.times(1)).getById(Mockito.<String> any(), captor.capture(),
 				Mockito.eq(ExampleSolrBean.class));
+		Mockito.verify(solrOperationsMock, Mockito.never()).count(Mockito.any(SolrDataQuery.class));
 
-		Assert.assertTrue(captor.getAllValues().get(0).getPageRequest().isUnpaged());
-		Assert.assertEquals(12345, captor.getAllValues().get(1).getPageRequest().getPageSize());
+		Assert.assertEquals(Arrays.asList("id-1", "id-2", "id-3"), new ArrayList<Object>(captor.getValue()));
 	}
 
 	@Test
-	public void testFindAllByIdQueryForBeanWithLongIdType() {
-		Mockito.when(solrOperationsMock.count(Mockito.any(SolrDataQuery.class))).thenReturn(12345l);
+	@SuppressWarnings("unchecked")
+	public void testFindAllByIdForBeanWithLongIdTypeIsLoadedInChunks() {
+
 		SimpleSolrRepository<BeanWithLongIdType, Long> repoWithNonStringIdType = new SimpleSolrRepository<BeanWithLongIdType, Long>(
-        BeanWithLongIdType.class, solrOperationsMock);
+				BeanWithLongIdType.class, solrOperationsMock);
+		repoWithNonStringIdType.setCursorPageSize(2);
 
 		repoWithNonStringIdType.findAllById(Arrays.asList(1L, 2L, 3L));
-		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
 
-		Mockito.verify(solrOperationsMock, Mockito.times(1)).count(captor.capture());
-		Mockito.verify(solrOperationsMock, Mockito.times(1)).queryForPage(captor.capture(),
+		ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+		Mockito.verify(solrOperationsMock, Mockito.times(2)).getById(Mockito.<String> any(), captor.capture(),
 				Mockito.eq(BeanWithLongIdType.class));
 
-		Assert.assertTrue(captor.getAllValues().get(0).getPageRequest().isUnpaged());
-		Assert.assertEquals(12345, captor.getAllValues().get(1).getPageRequest().getPageSize());
+		Assert.assertEquals(Arrays.asList(1L, 2L), new ArrayList<Object>(captor.getAllValues().get(0)));
+		Assert.assertEquals(Arrays.asList(3L), new ArrayList<Object>(captor.getAllValues().get(1)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testFindAllIsLazyAndUsesCursorSortedById() {
+
+		Cursor<ExampleSolrBean> cursorMock = Mockito.mock(Cursor.class);
+		Mockito.when(solrOperationsMock.queryForCursor(Mockito.<String> any(), Mockito.any(Query.class),
+				Mockito.eq(ExampleSolrBean.class))).thenReturn(cursorMock);
+		repository.setCursorPageSize(50);
+
+		Iterable<ExampleSolrBean> result = repository.findAll(Sort.by("name"));
+		Mockito.verifyZeroInteractions(solrOperationsMock);
+
+		result.iterator().hasNext();
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		Mockito.verify(solrOperationsMock).queryForCursor(Mockito.<String> any(), captor.capture(),
+				Mockito.eq(ExampleSolrBean.class));
+		Mockito.verify(solrOperationsMock, Mockito.never()).count(Mockito.any(SolrDataQuery.class));
+
+		Assert.assertEquals(50, captor.getValue().getPageRequest().getPageSize());
+		Assert.assertEquals(Sort.by("name").and(Sort.by("id")), captor.getValue().getSort());
+	}
+
+	@Test
+	public void testSaveUsesExplicitCommitByDefault() {
+
+		ExampleSolrBean bean = new ExampleSolrBean("id-1", "name", "category");
+		repository.save(bean);
+
+		Mockito.verify(solrOperationsMock).saveBean(bean, -1);
+		Mockito.verify(solrOperationsMock).commit((String) null);
+	}
+
+	@Test
+	public void testSaveWithCommitWithinStrategyDoesNotCommit() {
+
+		repository.setCommitStrategy(CommitStrategy.commitWithin(1000));
+
+		ExampleSolrBean bean = new ExampleSolrBean("id-1", "name", "category");
+		repository.save(bean);
+		repository.deleteById("id-1");
+
+		Mockito.verify(solrOperationsMock).saveBean(bean, 1000);
+		Mockito.verify(solrOperationsMock).deleteById(null, Arrays.asList("id-1"), 1000);
+		Mockito.verify(solrOperationsMock, Mockito.never()).commit(Mockito.<String> any());
+		Mockito.verify(solrOperationsMock, Mockito.never()).commit();
 	}
 
 	static class BeanWithLongIdType {
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.repository.query;
+
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.*;
+import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsInstanceOf.*;
+import static org.hamcrest.core.IsNull.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.solr.client.solrj.beans.Field;
+import org.apache.solr.common.SolrDocument;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.solr.core.convert.CustomConversions;
+import org.springframework.data.solr.core.mapping.Dynamic;
+import org.springframework.data.solr.core.mapping.SimpleSolrMappingContext;
+import org.springframework.data.solr.repository.ProductBean;
+import org.springframework.data.solr.repository.SolrCrudRepository;
+
+public class ProjectingDocumentConverterUnitTests {
+
+	SimpleSolrMappingContext mappingContext;
+	SpelAwareProxyProjectionFactory projectionFactory;
+
+	@Before
+	public void setUp() {
+
+		mappingContext = new SimpleSolrMappingContext();
+		projectionFactory = new SpelAwareProxyProjectionFactory();
+	}
+
+	@Test
+	public void shouldResolveSolrFieldNamesOfClosedInterfaceProjection() throws Exception {
+
+		assertThat(converterFor("findSummaryBy").getFieldNames(), containsInAnyOrder("name", "inStock", "price"));
+	}
+
+	@Test
+	public void shouldReadClosedInterfaceProjectionFromDocument() throws Exception {
+
+		SolrDocument document = new SolrDocument();
+		document.setField("name", "solr");
+		document.setField("inStock", true);
+		document.setField("price", Arrays.asList(1.5F));
+		document.setField("description", "not projected");
+
+		Object result = converterFor("findSummaryBy").convert(document);
+
+		assertThat(result, instanceOf(ProductSummary.class));
+		assertThat(((ProductSummary) result).getName(), is("solr"));
+		assertThat(((ProductSummary) result).isAvailable(), is(true));
+		assertThat(((ProductSummary) result).getPrice(), is(1.5F));
+	}
+
+	@Test
+	public void shouldReadDtoProjectionFromDocument() throws Exception {
+
+		SolrDocument document = new SolrDocument();
+		document.setField("name", "solr");
+		document.setField("popularity", 10L);
+
+		ProjectingDocumentConverter converter = converterFor("findDtoBy");
+		ProductDto result = (ProductDto) converter.convert(document);
+
+		assertThat(converter.getFieldNames(), containsInAnyOrder("name", "popularity"));
+		assertThat(result.name, is("solr"));
+		assertThat(result.popularity, is(10));
+	}
+
+	@Test
+	public void shouldNotCreateConverterForDomainType() throws Exception {
+		assertThat(converterFor("findProductBy"), nullValue());
+	}
+
+	@Test
+	public void shouldNotCreateConverterForProjectionOfWildcardProperty() throws Exception {
+		assertThat(converterFor(ProjectedBeanRepository.class, ProjectedBean.class, "findWildcardBy"), nullValue());
+	}
+
+	@Test
+	public void shouldNotCreateConverterForProjectionOfDynamicProperty() throws Exception {
+		assertThat(converterFor(ProjectedBeanRepository.class, ProjectedBean.class, "findDynamicBy"), nullValue());
+	}
+
+	@Test
+	public void shouldNotCreateConverterForProjectionOfNestedEntity() throws Exception {
+		assertThat(converterFor(ProjectedBeanRepository.class, ProjectedBean.class, "findNestedBy"), nullValue());
+	}
+
+	@Test
+	public void shouldNotCreateConverterForNestedProjection() throws Exception {
+		assertThat(converterFor(ProjectedBeanRepository.class, ProjectedBean.class, "findNestedProjectionBy"),
+				nullValue());
+	}
+
+	@Test
+	public void shouldNotCreateConverterForPropertyHavingCustomReadTarget() throws Exception {
+
+		assertThat(converterFor(ProjectingRepository.class, ProductBean.class, "findSummaryBy",
+				new CustomConversions(Arrays.asList(UpperCaseConverter.INSTANCE))), nullValue());
+	}
+
+	@Test
+	public void shouldCreateConverterForPlainPropertiesOfBeanHavingNestedAndDynamicProperties() throws Exception {
+
+		assertThat(converterFor(ProjectedBeanRepository.class, ProjectedBean.class, "findNameBy").getFieldNames(),
+				containsInAnyOrder("name"));
+	}
+
+	private ProjectingDocumentConverter converterFor(String methodName) throws Exception {
+		return converterFor(ProjectingRepository.class, ProductBean.class, methodName);
+	}
+
+	private ProjectingDocumentConverter converterFor(Class<?> repositoryInterface, Class<?> domainType,
+			String methodName) throws Exception {
+		return converterFor(repositoryInterface, domainType, methodName, new CustomConversions());
+	}
+
+	private ProjectingDocumentConverter converterFor(Class<?> repositoryInterface, Class<?> domainType,
+			String methodName, CustomConversions customConversions) throws Exception {
+
+		SolrQueryMethod queryMethod = new SolrQueryMethod(repositoryInterface.getMethod(methodName),
+				AbstractRepositoryMetadata.getMetadata(repositoryInterface), projectionFactory, null);
+		ReturnedType returnedType = queryMethod.getResultProcessor().getReturnedType();
+
+		return ProjectingDocumentConverter.forReturnedType(returnedType,
+				mappingContext.getRequiredPersistentEntity(domainType), projectionFactory, new DefaultConversionService(),
+				customConversions);
+	}
+
+	interface ProjectingRepository extends SolrCrudRepository<ProductBean, String> {
+
+		List<ProductSummary> findSummaryBy();
+
+		List<ProductDto> findDtoBy();
+
+		List<ProductBean> findProductBy();
+	}
+
+	interface ProjectedBeanRepository extends SolrCrudRepository<ProjectedBean, String> {
+
+		List<NameOnly> findNameBy();
+
+		List<WildcardOnly> findWildcardBy();
+
+		List<DynamicOnly> findDynamicBy();
+
+		List<NestedOnly> findNestedBy();
+
+		List<NestedProjection> findNestedProjectionBy();
+	}
+
+	static class ProjectedBean {
+
+		@Id @Field String id;
+		@Field String name;
+		@Field("attr_*") List<String> attributes;
+		@Dynamic @Field("dyn_*") Map<String, String> dynamic;
+		NestedBean nested;
+	}
+
+	static class NestedBean {
+		String name;
+	}
+
+	public interface NameOnly {
+		String getName();
+	}
+
+	public interface WildcardOnly {
+		List<String> getAttributes();
+	}
+
+	public interface DynamicOnly {
+		Map<String, String> getDynamic();
+	}
+
+	public interface NestedOnly {
+		NestedBean getNested();
+	}
+
+	public interface NestedProjection {
+		NameOnly getNested();
+	}
+
+	@ReadingConverter
+	enum UpperCaseConverter implements Converter<String, String> {
+
+		INSTANCE;
+
+		@Override
+		public String convert(String source) {
+			return source.toUpperCase();
+		}
+	}
+
+	public interface ProductSummary {
+
+		String getName();
+
+		boolean isAvailable();
+
+		Float getPrice();
+	}
+
+	public static class ProductDto {
+
+		final String name;
+		final int popularity;
+
+		public ProductDto(String name, int popularity) {
+
+			this.name = name;
+			this.popularity = popularity;
+		}
+	}
+}
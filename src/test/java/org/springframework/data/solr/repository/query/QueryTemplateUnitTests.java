@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.repository.query;
+
+import static org.hamcrest.core.Is.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class QueryTemplateUnitTests {
+
+	private static final QueryTemplate.ParameterValues VALUES = new QueryTemplate.ParameterValues() {
+
+		@Override
+		public String get(int index) {
+			return "p" + index;
+		}
+	};
+
+	@Test
+	public void shouldRenderTemplateWithoutPlaceholdersAsIs() {
+
+		QueryTemplate template = QueryTemplate.compile("name:spring AND text:data?");
+
+		assertThat(template.hasParameters(), is(false));
+		assertThat(template.render(VALUES), is("name:spring AND text:data?"));
+	}
+
+	@Test
+	public void shouldReplacePlaceholders() {
+		assertThat(QueryTemplate.compile("popularity:?0 AND price:?1").render(VALUES), is("popularity:p0 AND price:p1"));
+	}
+
+	@Test
+	public void shouldNotConfuseSingleDigitPlaceholderWithMultiDigitOne() {
+		assertThat(QueryTemplate.compile("a:?1 AND b:?10 AND c:?1").render(VALUES), is("a:p1 AND b:p10 AND c:p1"));
+	}
+
+	@Test
+	public void shouldReplaceAdjacentPlaceholdersAndPlaceholdersAtBoundaries() {
+		assertThat(QueryTemplate.compile("?0?1 ?2").render(VALUES), is("p0p1 p2"));
+	}
+
+	@Test
+	public void shouldNotReplacePlaceholdersContainedInParameterValues() {
+
+		QueryTemplate template = QueryTemplate.compile("name:?0 AND text:?1");
+
+		assertThat(template.render(new QueryTemplate.ParameterValues() {
+
+			@Override
+			public String get(int index) {
+				return index == 0 ? "?1" : "solr";
+			}
+		}), is("name:?1 AND text:solr"));
+	}
+}
@@ -15,15 +15,20 @@
  */
 package org.springframework.data.solr.repository.query;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.solr.common.params.HighlightParams;
 import org.hamcrest.collection.IsEmptyIterable;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.hamcrest.core.IsNull;
+import org.hamcrest.core.IsSame;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -33,15 +38,19 @@ import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.solr.core.DefaultQueryParser;
 import org.springframework.data.solr.core.SolrCallback;
 import org.springframework.data.solr.core.SolrOperations;
 import org.springframework.data.solr.core.convert.MappingSolrConverter;
@@ -56,6 +65,8 @@ import org.springframework.data.solr.core.query.SimpleField;
 import org.springframework.data.solr.core.query.SimpleQuery;
 import org.springframework.data.solr.core.query.SimpleStringCriteria;
 import org.springframework.data.solr.core.query.StatsOptions;
+import org.springframework.data.solr.core.query.result.Cursor;
+import org.springframework.data.solr.core.query.result.HighlightPage;
 import org.springframework.data.solr.repository.Facet;
 import org.springframework.data.solr.repository.Highlight;
 import org.springframework.data.solr.repository.ProductBean;
@@ -224,6 +235,28 @@ public class SolrQueryTests {
 				(Class<?>) Matchers.any());
 	}
 
+	@Test
+	public void partTreeQueryShouldResolveFieldNamesOnlyOnce() throws NoSuchMethodException, SecurityException {
+
+		SimpleSolrMappingContext mappingContextSpy = Mockito.spy(mappingContext);
+		Mockito.when(solrOperationsMock.getConverter()).thenReturn(new MappingSolrConverter(mappingContextSpy));
+
+		Method method = Repo1.class.getMethod("findByNameAndAvailableTrue", String.class, Pageable.class);
+		PartTreeSolrQuery ptsq = new PartTreeSolrQuery(createSolrQueryMethodFrom(method), this.solrOperationsMock);
+		Mockito.clearInvocations(mappingContextSpy);
+
+		ptsq.execute(new Object[] { "foo", new PageRequest(0, 10) });
+		ptsq.execute(new Object[] { "bar", new PageRequest(0, 10) });
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		Mockito.verify(solrOperationsMock, Mockito.times(2)).queryForPage(captor.capture(), (Class<?>) Matchers.any());
+		Mockito.verify(mappingContextSpy, Mockito.never()).getPersistentPropertyPath(Matchers.any(PropertyPath.class));
+
+		DefaultQueryParser parser = new DefaultQueryParser();
+		Assert.assertThat(parser.getQueryString(captor.getAllValues().get(0)), IsEqual.equalTo("name:foo AND inStock:true"));
+		Assert.assertThat(parser.getQueryString(captor.getAllValues().get(1)), IsEqual.equalTo("name:bar AND inStock:true"));
+	}
+
 	@Test // DATASOLR-186
 	public void sliceShouldTriggerPagedExecution() {
 
@@ -302,6 +335,108 @@ public class SolrQueryTests {
 		Assert.assertThat(capturedOptions.getSelectiveFacets().entrySet(), IsEmptyIterable.emptyIterable());
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void streamShouldBeExecutedViaCursorSortedByUniqueKey() throws IOException {
+
+		Cursor<ProductBean> cursorMock = Mockito.mock(Cursor.class);
+		Mockito.when(solrOperationsMock.queryForCursor(Matchers.any(Query.class), Matchers.eq(ProductBean.class)))
+				.thenReturn(cursorMock);
+
+		Object result = createQueryForMethod("streamAll").execute(new Object[] {});
+
+		Assert.assertThat(result, IsInstanceOf.instanceOf(Stream.class));
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		Mockito.verify(solrOperationsMock).queryForCursor(captor.capture(), Matchers.eq(ProductBean.class));
+		Mockito.verify(solrOperationsMock, Mockito.never()).count(Matchers.any(Query.class));
+
+		Assert.assertThat(captor.getValue().getSort().getOrderFor("id"), IsNull.notNullValue());
+		Assert.assertThat(captor.getValue().getPageRequest().getPageSize(),
+				IsEqual.equalTo(AbstractSolrQuery.DEFAULT_CURSOR_PAGE_SIZE));
+
+		((Stream<?>) result).close();
+		Mockito.verify(cursorMock).close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void cursorShouldBeReturnedAsIs() {
+
+		Cursor<ProductBean> cursorMock = Mockito.mock(Cursor.class);
+		Mockito.when(solrOperationsMock.queryForCursor(Matchers.any(Query.class), Matchers.eq(ProductBean.class)))
+				.thenReturn(cursorMock);
+
+		Object result = createQueryForMethod("cursorAll").execute(new Object[] {});
+
+		Assert.assertThat(result, IsSame.<Object> sameInstance(cursorMock));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void streamShouldUsePageSizeOfPageableAsFetchSize() {
+
+		Cursor<ProductBean> cursorMock = Mockito.mock(Cursor.class);
+		Mockito.when(solrOperationsMock.queryForCursor(Matchers.any(Query.class), Matchers.eq(ProductBean.class)))
+				.thenReturn(cursorMock);
+
+		createQueryForMethod("streamAll", Pageable.class).execute(new Object[] { new PageRequest(0, 50) });
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		Mockito.verify(solrOperationsMock).queryForCursor(captor.capture(), Matchers.eq(ProductBean.class));
+		Assert.assertThat(captor.getValue().getPageRequest().getPageSize(), IsEqual.equalTo(50));
+		Assert.assertThat(captor.getValue().getOffset(), IsEqual.equalTo(0L));
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void streamShouldRejectPageableWithOffset() {
+		createQueryForMethod("streamAll", Pageable.class).execute(new Object[] { new PageRequest(2, 50) });
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void streamShouldRejectHighlighting() {
+		createQueryForMethod("streamAndApplyHighlighting").execute(new Object[] {});
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void pageOfClosedProjectionShouldBeReadWithoutMappingToDomainType() {
+
+		createQueryForMethod("findProjectedBy", Pageable.class).execute(new Object[] { new PageRequest(0, 10) });
+
+		Mockito.verify(solrOperationsMock).queryForPage(Matchers.any(Query.class), Matchers.eq(ProductBean.class),
+				Matchers.any(Converter.class));
+		Mockito.verify(solrOperationsMock, Mockito.never()).queryForPage(Matchers.any(Query.class),
+				Matchers.eq(ProductBean.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void pageOfClosedProjectionShouldRestrictFieldsToProjection() throws NoSuchMethodException {
+
+		Method method = Repo1.class.getMethod("findNameOnlyByName", String.class, Pageable.class);
+		new PartTreeSolrQuery(createSolrQueryMethodFrom(method), this.solrOperationsMock)
+				.execute(new Object[] { "foo", new PageRequest(0, 10) });
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		Mockito.verify(solrOperationsMock).queryForPage(captor.capture(), Matchers.eq(ProductBean.class),
+				Matchers.any(Converter.class));
+		Assert.assertThat(captor.getValue().getProjectionOnFields().size(), IsEqual.equalTo(1));
+		Assert.assertThat(captor.getValue().getProjectionOnFields().get(0).getName(), IsEqual.equalTo("name"));
+	}
+
+	@Test
+	public void highlightPageOfClosedProjectionShouldNotRestrictFields() throws NoSuchMethodException {
+
+		Method method = Repo1.class.getMethod("findHighlightedNameOnlyByName", String.class, Pageable.class);
+		new PartTreeSolrQuery(createSolrQueryMethodFrom(method), this.solrOperationsMock)
+				.execute(new Object[] { "foo", new PageRequest(0, 10) });
+
+		ArgumentCaptor<HighlightQuery> captor = ArgumentCaptor.forClass(HighlightQuery.class);
+		Mockito.verify(solrOperationsMock).queryForHighlightPage(captor.capture(), Matchers.eq(ProductBean.class));
+		Assert.assertThat(captor.getValue().getProjectionOnFields(), IsEmptyIterable.emptyIterable());
+	}
+
 	private RepositoryQuery createQueryForMethod(String methodName, Class<?>... paramTypes) {
 		try {
 			return this.createQueryForMethod(Repo1.class.getMethod(methodName, paramTypes));
@@ -343,6 +478,8 @@ public class SolrQueryTests {
 
 		Slice<ProductBean> findByName(String name, Pageable page);
 
+		Page<ProductBean> findByNameAndAvailableTrue(String name, Pageable page);
+
 		@Stats(value = "field1", facets = { "field2", "field3" }, //
 				selective = @SelectiveStats(field = "field4", facets = { "field4_1", "field4_2" }) )
 		Page<ProductBean> findAndApplyStats(Pageable page);
@@ -353,6 +490,28 @@ public class SolrQueryTests {
 		@Stats(value = "field1")
 		Page<ProductBean> findAndApplyStatsNoFacets(Pageable page);
 
+		Stream<ProductBean> streamAll();
+
+		Stream<ProductBean> streamAll(Pageable page);
+
+		Cursor<ProductBean> cursorAll();
+
+		@Highlight
+		Stream<ProductBean> streamAndApplyHighlighting();
+
+		Page<ProductNameOnly> findProjectedBy(Pageable page);
+
+		Page<ProductNameOnly> findNameOnlyByName(String name, Pageable page);
+
+		@Highlight
+		HighlightPage<ProductNameOnly> findHighlightedNameOnlyByName(String name, Pageable page);
+
+	}
+
+	interface ProductNameOnly {
+
+		String getName();
+
 	}
 
 	private class SolrEntityInformationCreatorImpl implements SolrEntityInformationCreator {
@@ -115,6 +115,20 @@ public class StringBasedSolrQueryTests {
 		Assert.assertEquals("textGeneral:null", queryParser.getQueryString(query));
 	}
 
+	@Test
+	public void testQueryCreationShouldNotReplacePlaceholdersWithinParameterValues()
+			throws NoSuchMethodException, SecurityException {
+		Method method = SampleRepository.class.getMethod("findByNameAndText", String.class, String.class);
+		SolrQueryMethod queryMethod = new SolrQueryMethod(method, metadata, factory, entityInformationCreatorMock);
+
+		StringBasedSolrQuery solrQuery = new StringBasedSolrQuery(queryMethod, solrOperationsMock);
+
+		org.springframework.data.solr.core.query.Query query = solrQuery
+				.createQuery(new SolrParametersParameterAccessor(queryMethod, new Object[] { "?1", "solr" }));
+
+		Assert.assertEquals("name:?1 AND textGeneral:solr", queryParser.getQueryString(query));
+	}
+
 	@Test
 	public void testWithPointProperty() throws NoSuchMethodException, SecurityException {
 		Method method = SampleRepository.class.getMethod("findByLocationNear", Point.class, Distance.class);
@@ -207,6 +221,9 @@ public class StringBasedSolrQueryTests {
 		@Query("textGeneral:?0")
 		ProductBean findByText(String text);
 
+		@Query("name:?0 AND textGeneral:?1")
+		ProductBean findByNameAndText(String name, String text);
+
 		@Query("popularity:?0 AND price:?1")
 		ProductBean findByPopularityAndPrice(Integer popularity, Float price);
 